@@ -0,0 +1,30 @@
+#!/bin/sh
+# Builds the Spring AOT processed service with the startup Maven profile, unpacks it into target/startup and creates
+# an AppCDS archive of the classes loaded while starting it. Start the service with scripts/run-cds.sh afterwards.
+# AOT fixes the beans at build time, so AOT_PROFILES have to be the profiles the service runs with.
+set -e
+
+AOT_PROFILES=${AOT_PROFILES:-fast-startup}
+cd "$(dirname "$0")/.."
+./mvnw -B -Pstartup -Dtodo.aot.profiles="$AOT_PROFILES" -DskipTests package
+
+JAR=$(ls target/todomvc-backend-service-*.jar | grep -v '\.original$' | head -n 1)
+rm -rf target/startup
+mkdir -p target/startup/unpacked
+(cd target/startup/unpacked && jar -xf "../../../$JAR")
+
+# CDS does not archive classes loaded from directories, so the application classes are packed into a jar. The
+# classpath is written out once, so the training run and every later start use the very same classpath.
+jar -cf target/startup/application.jar -C target/startup/unpacked/BOOT-INF/classes .
+CLASSPATH="application.jar"
+for LIB in $(ls target/startup/unpacked/BOOT-INF/lib | sort); do
+  CLASSPATH="$CLASSPATH:unpacked/BOOT-INF/lib/$LIB"
+done
+echo "$CLASSPATH" > target/startup/classpath
+echo "$AOT_PROFILES" > target/startup/profiles
+
+# Training run: the context is refreshed and the JVM exits before the web server and the gRPC server start. Beans
+# are created eagerly here, so classes of lazily created beans get into the archive too.
+cd target/startup
+java -XX:ArchiveClassesAtExit=application.jsa -Dspring.context.exit=onRefresh -Dspring.aot.enabled=true \
+  -Dspring.profiles.active="$AOT_PROFILES" -Dspring.main.lazy-initialization=false -cp "$CLASSPATH" com.suyogmirgal.todomvc.TodoMVCBackendServiceApplication
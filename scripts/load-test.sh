@@ -0,0 +1,35 @@
+#!/bin/sh
+# Compares HTTP/1.1 with keep-alive and HTTP/2 in cleartext (h2c) on the todo endpoints with h2load from nghttp2.
+# Start the service with the http2 profile and admission control off, e.g.
+#   java -jar target/todomvc-backend-service-*.jar --spring.profiles.active=http2 \
+#     --todo.rate-limit.enabled=false --todo.concurrency-limit.enabled=false
+# and build it with ./mvnw -Pundertow package to compare Undertow with Tomcat.
+#
+# Usage: scripts/load-test.sh [base-url]
+#   REQUESTS total requests per run (default 100000), CLIENTS connections (default 50),
+#   STREAMS concurrent streams per HTTP/2 connection (default 10)
+set -e
+
+BASE_URL=${1:-http://localhost:8080}
+REQUESTS=${REQUESTS:-100000}
+CLIENTS=${CLIENTS:-50}
+STREAMS=${STREAMS:-10}
+
+BODY=$(mktemp)
+trap 'rm -f "$BODY"' EXIT
+echo '{ "title" : "Go to Gym", "order" : 1 }' > "$BODY"
+TODO_ID=$(curl -sf -H 'Content-Type: application/json' -d @"$BODY" "$BASE_URL/todo" | sed 's/.*"id":\([0-9]*\).*/\1/')
+
+run() {
+  NAME=$1
+  shift
+  echo "== $NAME"
+  h2load -n "$REQUESTS" -c "$CLIENTS" "$@" | grep -E '^(finished in|requests:|status codes:|time for request:)'
+}
+
+for URL in "$BASE_URL/todo" "$BASE_URL/todo/active" "$BASE_URL/todo/$TODO_ID"; do
+  run "GET $URL HTTP/1.1" --h1 "$URL"
+  run "GET $URL h2c" -m "$STREAMS" "$URL"
+done
+run "POST $BASE_URL/todo HTTP/1.1" --h1 -d "$BODY" -H 'Content-Type: application/json' "$BASE_URL/todo"
+run "POST $BASE_URL/todo h2c" -m "$STREAMS" -d "$BODY" -H 'Content-Type: application/json' "$BASE_URL/todo"
@@ -0,0 +1,8 @@
+#!/bin/sh
+# Starts the service built by scripts/build-cds.sh with Spring AOT and the AppCDS archive. Arguments are passed
+# to the service, e.g. --server.port=8081; JAVA_OPTS are passed to the JVM.
+set -e
+
+cd "$(dirname "$0")/../target/startup"
+exec java -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true -Dspring.profiles.active="$(cat profiles)" \
+  $JAVA_OPTS -cp "$(cat classpath)" com.suyogmirgal.todomvc.TodoMVCBackendServiceApplication "$@"
@@ -0,0 +1,39 @@
+#!/bin/sh
+# Measures time from launching the service to its first successful GET /todo, over a number of runs.
+#
+# Usage: scripts/startup-benchmark.sh <jar|cds> [runs]
+#   jar  starts target/todomvc-backend-service-*.jar as built by ./mvnw package
+#   cds  starts the AOT processed service with the AppCDS archive, as built by scripts/build-cds.sh
+set -e
+
+MODE=${1:?"usage: $0 <jar|cds> [runs]"}
+RUNS=${2:-5}
+PORT=${PORT:-8080}
+cd "$(dirname "$0")/.."
+
+TOTAL=0
+RUN=1
+while [ "$RUN" -le "$RUNS" ]; do
+  START=$(date +%s%N)
+  if [ "$MODE" = "cds" ]; then
+    scripts/run-cds.sh --server.port="$PORT" --todo.grpc.port=0 > target/startup-benchmark.log 2>&1 &
+  else
+    JAR=$(ls target/todomvc-backend-service-*.jar | grep -v '\.original$' | head -n 1)
+    java $JAVA_OPTS -jar "$JAR" --server.port="$PORT" --todo.grpc.port=0 > target/startup-benchmark.log 2>&1 &
+  fi
+  PID=$!
+  until curl -sf -o /dev/null "http://localhost:$PORT/todo"; do
+    if ! kill -0 "$PID" 2>/dev/null; then
+      echo "service exited before serving GET /todo, see target/startup-benchmark.log" >&2
+      exit 1
+    fi
+    sleep 0.01
+  done
+  ELAPSED=$(( ($(date +%s%N) - START) / 1000000 ))
+  kill "$PID"
+  wait "$PID" 2>/dev/null || true
+  echo "run $RUN: first successful GET /todo after $ELAPSED ms"
+  TOTAL=$((TOTAL + ELAPSED))
+  RUN=$((RUN + 1))
+done
+echo "$MODE: average $((TOTAL / RUNS)) ms over $RUNS runs"
@@ -2,6 +2,7 @@ package com.suyogmirgal.todomvc;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main class for TodoMVCBackendService.
@@ -10,6 +11,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * created on 2024/04/29
  */
 @SpringBootApplication
+@EnableScheduling
 public class TodoMVCBackendServiceApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,33 @@
+package com.suyogmirgal.todomvc.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * This is {@link TodoInvalidationBus} within a single JVM. Batches are passed to all the
+ * subscribers on the publishing thread. It is enough for a single instance, and caches of
+ * several instances simulated in one JVM can share it in tests.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Component
+@ConditionalOnProperty(name = "todo.cache.invalidation.bus", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTodoInvalidationBus implements TodoInvalidationBus {
+
+  private final List<Consumer<List<TodoInvalidation>>> subscribers = new CopyOnWriteArrayList<>();
+
+  @Override
+  public void publish(final List<TodoInvalidation> todoInvalidations) {
+    List<TodoInvalidation> batch = List.copyOf(todoInvalidations);
+    subscribers.forEach(subscriber -> subscriber.accept(batch));
+  }
+
+  @Override
+  public void subscribe(final Consumer<List<TodoInvalidation>> subscriber) {
+    subscribers.add(subscriber);
+  }
+}
@@ -0,0 +1,318 @@
+package com.suyogmirgal.todomvc.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * This is in-process cache of todo reads which is kept coherent across instances of the
+ * service by {@link TodoInvalidationBus}. Writes invalidate their todos and the lists once
+ * their transaction commits: locally right away, and on the other instances through the bus
+ * in batches sent every {@code todo.cache.invalidation.batch-interval-ms} or once
+ * {@code todo.cache.invalidation.batch-size} invalidations are pending.
+ *
+ * <p>Entries are versioned. A load first places an empty entry with a new version and only
+ * replaces that exact version with the loaded value, so an invalidation which arrives while
+ * the load is running wins over it no matter in which order the two complete. Invalidations
+ * only remove entries, so batches can be applied in any order and more than once.
+ *
+ * <p>A batch which the bus fails to send is logged and queued again, to be sent with the next
+ * batch, so neither the write which caused it nor its invalidations are lost.
+ *
+ * <p>Pending invalidations are sent once more on shutdown, after write behind buffer is flushed,
+ * so the other instances learn about every write of this one.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Component
+public class TodoCache implements SmartLifecycle {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TodoCache.class);
+
+  /**
+   * Key of the list of all todos.
+   */
+  public static final String ALL_TODOS_KEY = "todos:all";
+
+  /**
+   * Key of the list of active todos.
+   */
+  public static final String ACTIVE_TODOS_KEY = "todos:active";
+
+  private static final String TODO_KEY_PREFIX = "todo:";
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+  private final Queue<TodoInvalidation> pendingInvalidations = new ConcurrentLinkedQueue<>();
+
+  private final AtomicInteger pendingCount = new AtomicInteger();
+
+  private final AtomicLong nextVersion = new AtomicLong();
+
+  private final TodoInvalidationBus todoInvalidationBus;
+
+  private final boolean enabled;
+
+  private final long ttlNanos;
+
+  private final int maxEntries;
+
+  private final int batchSize;
+
+  private final Counter hitCounter;
+
+  private final Counter missCounter;
+
+  private final Counter invalidationCounter;
+
+  private volatile boolean running;
+
+  /**
+   * Parameterized constructor for {@link TodoCache}.
+   *
+   * @param todoInvalidationBus bus which carries invalidations to every instance.
+   * @param meterRegistry registry to which cache metrics are published.
+   * @param enabled false to read through to the database on every call.
+   * @param ttlMillis max time in milliseconds an entry is served, bounds staleness if an invalidation is lost.
+   * @param maxEntries max number of cached entries, reads are not cached once it is reached.
+   * @param batchSize number of pending invalidations which are sent without waiting for the interval.
+   */
+  public TodoCache(TodoInvalidationBus todoInvalidationBus, MeterRegistry meterRegistry,
+      @Value("${todo.cache.enabled:false}") boolean enabled,
+      @Value("${todo.cache.ttl-ms:60000}") long ttlMillis,
+      @Value("${todo.cache.max-entries:10000}") int maxEntries,
+      @Value("${todo.cache.invalidation.batch-size:100}") int batchSize) {
+    this.todoInvalidationBus = todoInvalidationBus;
+    this.enabled = enabled;
+    this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    this.maxEntries = maxEntries;
+    this.batchSize = batchSize;
+    this.hitCounter = Counter.builder("todo.cache.requests")
+        .description("Cached todo reads")
+        .tag("result", "hit")
+        .register(meterRegistry);
+    this.missCounter = Counter.builder("todo.cache.requests")
+        .description("Cached todo reads")
+        .tag("result", "miss")
+        .register(meterRegistry);
+    this.invalidationCounter = Counter.builder("todo.cache.invalidations")
+        .description("Invalidations applied to the todo cache")
+        .register(meterRegistry);
+    Gauge.builder("todo.cache.size", entries, Map::size)
+        .description("Entries in the todo cache")
+        .register(meterRegistry);
+    if(enabled) {
+      todoInvalidationBus.subscribe(this::apply);
+    }
+  }
+
+  /**
+   * This method provides key of a single todo.
+   *
+   * @param todoId id of the todo.
+   * @return cache key of the todo.
+   */
+  public static String todoKey(final int todoId) {
+    return TODO_KEY_PREFIX + todoId;
+  }
+
+  /**
+   * This method provides cached value of the key, or loads and caches it.
+   *
+   * @param key cache key.
+   * @param loader {@link Supplier} which reads the value from the database, its value has to be immutable.
+   * @param <T> type of the value.
+   * @return cached or loaded value.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T get(final String key, final Supplier<T> loader) {
+    if(!enabled) {
+      return loader.get();
+    }
+    long nowNanos = System.nanoTime();
+    Entry entry = entries.get(key);
+    if(entry != null && entry.loaded && nowNanos - entry.loadedAtNanos < ttlNanos) {
+      hitCounter.increment();
+      return (T) entry.value;
+    }
+    missCounter.increment();
+    Entry placeholder = new Entry(nextVersion.incrementAndGet(), nowNanos);
+    boolean placed;
+    if(entry == null) {
+      placed = entries.size() < maxEntries && entries.putIfAbsent(key, placeholder) == null;
+    } else {
+      placed = entries.replace(key, entry, placeholder);
+    }
+    T value = loader.get();
+    if(placed) {
+      entries.replace(key, placeholder, new Entry(placeholder.version, nowNanos, value));
+    }
+    return value;
+  }
+
+  /**
+   * This method invalidates cached reads on every instance once current transaction commits,
+   * or right away if there is no transaction.
+   *
+   * @param todoInvalidations invalidations caused by a write.
+   */
+  public void invalidate(final List<TodoInvalidation> todoInvalidations) {
+    if(!enabled || todoInvalidations.isEmpty()) {
+      return;
+    }
+    if(TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          invalidateNow(todoInvalidations);
+        }
+      });
+    } else {
+      invalidateNow(todoInvalidations);
+    }
+  }
+
+  /**
+   * This method removes cached entries matched by received invalidations.
+   *
+   * @param todoInvalidations batch of invalidations.
+   */
+  public void apply(final List<TodoInvalidation> todoInvalidations) {
+    for(TodoInvalidation todoInvalidation : todoInvalidations) {
+      switch (todoInvalidation.getType()) {
+        case TODO:
+          entries.remove(todoKey(todoInvalidation.getTodoId()));
+          break;
+        case LISTS:
+          entries.remove(ALL_TODOS_KEY);
+          entries.remove(ACTIVE_TODOS_KEY);
+          break;
+        default:
+          entries.clear();
+      }
+    }
+    invalidationCounter.increment(todoInvalidations.size());
+  }
+
+  /**
+   * This method sends pending invalidations to the bus as one batch, duplicates removed.
+   * If the bus fails to send it, the batch is pending again.
+   *
+   * @return number of sent invalidations.
+   */
+  @Scheduled(fixedDelayString = "${todo.cache.invalidation.batch-interval-ms:20}")
+  public int flush() {
+    Set<TodoInvalidation> batch = new LinkedHashSet<>();
+    TodoInvalidation todoInvalidation;
+    while((todoInvalidation = pendingInvalidations.poll()) != null) {
+      pendingCount.decrementAndGet();
+      batch.add(todoInvalidation);
+    }
+    if(batch.isEmpty()) {
+      return 0;
+    }
+    try {
+      todoInvalidationBus.publish(new ArrayList<>(batch));
+    } catch (RuntimeException ex) {
+      LOGGER.warn("Unable to publish {} todo invalidations, sending them with the next batch", batch.size(), ex);
+      pendingInvalidations.addAll(batch);
+      pendingCount.addAndGet(batch.size());
+      return 0;
+    }
+    return batch.size();
+  }
+
+  /**
+   * This method removes entries older than the ttl.
+   *
+   * @return number of removed entries.
+   */
+  @Scheduled(fixedDelayString = "${todo.cache.ttl-ms:60000}")
+  public int evictExpired() {
+    long nowNanos = System.nanoTime();
+    int before = entries.size();
+    entries.values().removeIf(entry -> nowNanos - entry.loadedAtNanos >= ttlNanos);
+    return before - entries.size();
+  }
+
+  @Override
+  public void start() {
+    running = true;
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    flush();
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  /**
+   * Cache stops after write behind buffer, whose flush invalidates the written todos,
+   * and before the invalidation bus, which sends the last batch.
+   *
+   * @return phase of this lifecycle.
+   */
+  @Override
+  public int getPhase() {
+    return SmartLifecycle.DEFAULT_PHASE - 6144;
+  }
+
+  private void invalidateNow(final List<TodoInvalidation> todoInvalidations) {
+    apply(todoInvalidations);
+    pendingInvalidations.addAll(todoInvalidations);
+    if(pendingCount.addAndGet(todoInvalidations.size()) >= batchSize) {
+      flush();
+    }
+  }
+
+  private static final class Entry {
+
+    private final long version;
+
+    private final long loadedAtNanos;
+
+    private final boolean loaded;
+
+    private final Object value;
+
+    private Entry(long version, long loadedAtNanos) {
+      this.version = version;
+      this.loadedAtNanos = loadedAtNanos;
+      this.loaded = false;
+      this.value = null;
+    }
+
+    private Entry(long version, long loadedAtNanos, Object value) {
+      this.version = version;
+      this.loadedAtNanos = loadedAtNanos;
+      this.loaded = true;
+      this.value = value;
+    }
+  }
+}
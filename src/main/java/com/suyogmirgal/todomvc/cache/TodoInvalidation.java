@@ -0,0 +1,122 @@
+package com.suyogmirgal.todomvc.cache;
+
+import java.util.Objects;
+
+/**
+ * This class holds a single invalidation of cached todo reads, either of one
+ * todo by its id, of all the cached todo lists, or of everything.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public final class TodoInvalidation {
+
+  private static final TodoInvalidation LISTS = new TodoInvalidation(TodoInvalidationType.LISTS, 0);
+
+  private static final TodoInvalidation ALL = new TodoInvalidation(TodoInvalidationType.ALL, 0);
+
+  private final TodoInvalidationType type;
+
+  private final int todoId;
+
+  private TodoInvalidation(TodoInvalidationType type, int todoId) {
+    this.type = type;
+    this.todoId = todoId;
+  }
+
+  /**
+   * This method provides invalidation of a single todo.
+   *
+   * @param todoId id of the todo.
+   * @return instance of {@link TodoInvalidation}.
+   */
+  public static TodoInvalidation todo(final int todoId) {
+    return new TodoInvalidation(TodoInvalidationType.TODO, todoId);
+  }
+
+  /**
+   * This method provides invalidation of all the todo lists.
+   *
+   * @return instance of {@link TodoInvalidation}.
+   */
+  public static TodoInvalidation lists() {
+    return LISTS;
+  }
+
+  /**
+   * This method provides invalidation of everything cached.
+   *
+   * @return instance of {@link TodoInvalidation}.
+   */
+  public static TodoInvalidation all() {
+    return ALL;
+  }
+
+  /**
+   * Getter method to get type of the invalidation.
+   *
+   * @return {@link TodoInvalidationType}.
+   */
+  public TodoInvalidationType getType() {
+    return type;
+  }
+
+  /**
+   * Getter method to get id of the invalidated todo.
+   *
+   * @return id of the todo, 0 if type is not {@link TodoInvalidationType#TODO}.
+   */
+  public int getTodoId() {
+    return todoId;
+  }
+
+  /**
+   * This method encodes invalidation as a single line of text.
+   *
+   * @return encoded invalidation.
+   */
+  public String encode() {
+    return type == TodoInvalidationType.TODO ? type.name() + ":" + todoId : type.name();
+  }
+
+  /**
+   * This method decodes invalidation encoded by {@link #encode()}.
+   *
+   * @param encoded encoded invalidation.
+   * @return instance of {@link TodoInvalidation}.
+   * @throws IllegalArgumentException if provided text is not an encoded invalidation.
+   */
+  public static TodoInvalidation decode(final String encoded) {
+    int separator = encoded.indexOf(':');
+    TodoInvalidationType type = TodoInvalidationType.valueOf(separator < 0 ? encoded : encoded.substring(0, separator));
+    if(type == TodoInvalidationType.TODO) {
+      if(separator < 0) {
+        throw new IllegalArgumentException("Todo id is missing in " + encoded);
+      }
+      return todo(Integer.parseInt(encoded.substring(separator + 1)));
+    }
+    return type == TodoInvalidationType.LISTS ? LISTS : ALL;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if(this == other) {
+      return true;
+    }
+    if(!(other instanceof TodoInvalidation)) {
+      return false;
+    }
+    TodoInvalidation that = (TodoInvalidation) other;
+    return type == that.type && todoId == that.todoId;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(type, todoId);
+  }
+
+  @Override
+  public String toString() {
+    return encode();
+  }
+}
@@ -0,0 +1,29 @@
+package com.suyogmirgal.todomvc.cache;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * This is interface for the bus which carries batches of {@link TodoInvalidation}
+ * to every instance of the service, including the publishing one. Delivery is at
+ * most once and batches may arrive in any order.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public interface TodoInvalidationBus {
+
+  /**
+   * This method broadcasts a batch of invalidations.
+   *
+   * @param todoInvalidations invalidations to be broadcast.
+   */
+  void publish(List<TodoInvalidation> todoInvalidations);
+
+  /**
+   * This method registers subscriber to which every received batch is passed.
+   *
+   * @param subscriber {@link Consumer} of received batches.
+   */
+  void subscribe(Consumer<List<TodoInvalidation>> subscriber);
+}
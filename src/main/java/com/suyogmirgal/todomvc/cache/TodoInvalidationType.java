@@ -0,0 +1,13 @@
+package com.suyogmirgal.todomvc.cache;
+
+/**
+ * This enum holds what a {@link TodoInvalidation} removes from {@link TodoCache}.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public enum TodoInvalidationType {
+  TODO,
+  LISTS,
+  ALL
+}
@@ -0,0 +1,218 @@
+package com.suyogmirgal.todomvc.cache;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * This is {@link TodoInvalidationBus} over UDP datagrams. A batch is encoded one invalidation
+ * per line, split into datagrams small enough not to be fragmented and sent to every peer,
+ * and is passed to local subscribers directly. A lost datagram leaves peers serving cached
+ * reads until they expire, see {@code todo.cache.ttl-ms}.
+ *
+ * <p>Datagrams are not authenticated, so the socket should only be reachable by the
+ * instances of the service; it listens on loopback unless configured otherwise.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Component
+@ConditionalOnProperty(name = "todo.cache.invalidation.bus", havingValue = "udp")
+public class UdpTodoInvalidationBus implements TodoInvalidationBus, SmartLifecycle {
+
+  static final int MAX_DATAGRAM_BYTES = 1400;
+
+  private final List<Consumer<List<TodoInvalidation>>> subscribers = new CopyOnWriteArrayList<>();
+
+  private final String bindAddress;
+
+  private final int port;
+
+  private final List<InetSocketAddress> peers = new ArrayList<>();
+
+  private volatile DatagramSocket socket;
+
+  private Thread receiver;
+
+  /**
+   * Parameterized constructor for {@link UdpTodoInvalidationBus}.
+   *
+   * @param bindAddress address on which invalidations are received.
+   * @param port port on which invalidations are received, 0 for any free port.
+   * @param peers host:port of every other instance of the service.
+   */
+  public UdpTodoInvalidationBus(@Value("${todo.cache.invalidation.udp.bind-address:127.0.0.1}") String bindAddress,
+      @Value("${todo.cache.invalidation.udp.port:9091}") int port,
+      @Value("${todo.cache.invalidation.udp.peers:}") List<String> peers) {
+    this.bindAddress = bindAddress;
+    this.port = port;
+    for(String peer : peers) {
+      if(peer.isBlank()) {
+        continue;
+      }
+      int separator = peer.lastIndexOf(':');
+      if(separator < 0) {
+        throw new IllegalArgumentException("Invalid invalidation peer " + peer + ", expected host:port");
+      }
+      this.peers.add(new InetSocketAddress(peer.substring(0, separator).trim(),
+          Integer.parseInt(peer.substring(separator + 1).trim())));
+    }
+  }
+
+  @Override
+  public void publish(final List<TodoInvalidation> todoInvalidations) {
+    List<TodoInvalidation> batch = List.copyOf(todoInvalidations);
+    subscribers.forEach(subscriber -> subscriber.accept(batch));
+    DatagramSocket currentSocket = socket;
+    if(currentSocket == null || peers.isEmpty()) {
+      return;
+    }
+    try {
+      for(byte[] datagram : encode(batch)) {
+        for(InetSocketAddress peer : peers) {
+          currentSocket.send(new DatagramPacket(datagram, datagram.length, peer));
+        }
+      }
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Unable to send todo invalidations", ex);
+    }
+  }
+
+  @Override
+  public void subscribe(final Consumer<List<TodoInvalidation>> subscriber) {
+    subscribers.add(subscriber);
+  }
+
+  /**
+   * This method provides port on which invalidations are received.
+   *
+   * @return local port, -1 if bus is not running.
+   */
+  public int getPort() {
+    DatagramSocket currentSocket = socket;
+    return currentSocket == null ? -1 : currentSocket.getLocalPort();
+  }
+
+  @Override
+  public synchronized void start() {
+    if(socket != null) {
+      return;
+    }
+    try {
+      socket = new DatagramSocket(new InetSocketAddress(InetAddress.getByName(bindAddress), port));
+    } catch (IOException ex) {
+      throw new UncheckedIOException("could not listen for todo invalidations on port " + port, ex);
+    }
+    receiver = new Thread(this::receive, "todo-invalidation-receiver");
+    receiver.setDaemon(true);
+    receiver.start();
+  }
+
+  @Override
+  public synchronized void stop() {
+    DatagramSocket currentSocket = socket;
+    if(currentSocket == null) {
+      return;
+    }
+    socket = null;
+    currentSocket.close();
+    try {
+      receiver.join();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return socket != null;
+  }
+
+  /**
+   * Bus stops last, after {@link TodoCache} has sent pending invalidations through it.
+   *
+   * @return phase of this lifecycle.
+   */
+  @Override
+  public int getPhase() {
+    return SmartLifecycle.DEFAULT_PHASE - 8192;
+  }
+
+  /**
+   * This method encodes batch one invalidation per line into datagrams of at most
+   * {@value #MAX_DATAGRAM_BYTES} bytes.
+   *
+   * @param todoInvalidations invalidations to be encoded.
+   * @return List of datagram payloads.
+   */
+  static List<byte[]> encode(final List<TodoInvalidation> todoInvalidations) {
+    List<byte[]> datagrams = new ArrayList<>();
+    StringBuilder lines = new StringBuilder();
+    for(TodoInvalidation todoInvalidation : todoInvalidations) {
+      String line = todoInvalidation.encode();
+      if(lines.length() > 0 && lines.length() + 1 + line.length() > MAX_DATAGRAM_BYTES) {
+        datagrams.add(lines.toString().getBytes(StandardCharsets.US_ASCII));
+        lines.setLength(0);
+      }
+      if(lines.length() > 0) {
+        lines.append('\n');
+      }
+      lines.append(line);
+    }
+    if(lines.length() > 0) {
+      datagrams.add(lines.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+    return datagrams;
+  }
+
+  /**
+   * This method decodes datagram payload encoded by {@link #encode(List)}.
+   *
+   * @param datagram datagram payload.
+   * @param length number of bytes of the payload.
+   * @return List of {@link TodoInvalidation}, malformed lines are skipped.
+   */
+  static List<TodoInvalidation> decode(final byte[] datagram, final int length) {
+    List<TodoInvalidation> todoInvalidations = new ArrayList<>();
+    for(String line : new String(datagram, 0, length, StandardCharsets.US_ASCII).split("\n")) {
+      try {
+        todoInvalidations.add(TodoInvalidation.decode(line.trim()));
+      } catch (IllegalArgumentException ex) {
+        //not an invalidation, ignore it
+      }
+    }
+    return todoInvalidations;
+  }
+
+  private void receive() {
+    byte[] buffer = new byte[MAX_DATAGRAM_BYTES];
+    DatagramSocket currentSocket = socket;
+    while(currentSocket != null && !currentSocket.isClosed()) {
+      DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+      try {
+        currentSocket.receive(packet);
+      } catch (SocketException ex) {
+        return;
+      } catch (IOException ex) {
+        continue;
+      }
+      List<TodoInvalidation> batch = decode(packet.getData(), packet.getLength());
+      if(!batch.isEmpty()) {
+        subscribers.forEach(subscriber -> subscriber.accept(batch));
+      }
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package com.suyogmirgal.todomvc.config;
+
+import com.suyogmirgal.todomvc.filter.TodoConcurrencyLimitFilter;
+import com.suyogmirgal.todomvc.filter.TodoConcurrencyLimiter;
+import com.suyogmirgal.todomvc.filter.TodoRateLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * This is configuration class for admission control of the todo APIs. Requests first
+ * pass the per client rate limit and then the adaptive concurrency limit, both of
+ * which reject excess requests before they reach controllers or the connection pool.
+ * Actuator endpoints are not limited. Both are opt-in, as behind a load balancer clients
+ * can only be told apart by forwarded headers or a client header.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Configuration
+public class TodoAdmissionConfiguration {
+
+  private static final String TODO_URL_PATTERN = "/todo/*";
+
+  /**
+   * This method provides per client rate limit filter.
+   *
+   * @param permitsPerSecond requests per second allowed for every client.
+   * @param burst max number of requests a client can send at once after being idle.
+   * @param clientHeader header which identifies client, blank to identify clients by remote address.
+   * @param maxClients max number of clients with own bucket.
+   * @param meterRegistry registry to which rate limit metrics are published.
+   * @return instance of {@link TodoRateLimitFilter}.
+   */
+  @Bean
+  @ConditionalOnProperty(name = "todo.rate-limit.enabled", havingValue = "true")
+  public TodoRateLimitFilter todoRateLimitFilter(
+      @Value("${todo.rate-limit.permits-per-second:50}") double permitsPerSecond,
+      @Value("${todo.rate-limit.burst:100}") int burst,
+      @Value("${todo.rate-limit.client-header:}") String clientHeader,
+      @Value("${todo.rate-limit.max-clients:100000}") int maxClients,
+      MeterRegistry meterRegistry) {
+    return new TodoRateLimitFilter(permitsPerSecond, burst, clientHeader, maxClients, meterRegistry,
+        System::nanoTime);
+  }
+
+  /**
+   * This method registers rate limit filter for the todo APIs, ahead of the concurrency limit filter.
+   *
+   * @param todoRateLimitFilter instance of {@link TodoRateLimitFilter}.
+   * @return {@link FilterRegistrationBean} of {@link TodoRateLimitFilter}.
+   */
+  @Bean
+  @ConditionalOnProperty(name = "todo.rate-limit.enabled", havingValue = "true")
+  public FilterRegistrationBean<TodoRateLimitFilter> todoRateLimitFilterRegistration(
+      TodoRateLimitFilter todoRateLimitFilter) {
+    FilterRegistrationBean<TodoRateLimitFilter> registration = new FilterRegistrationBean<>(todoRateLimitFilter);
+    registration.addUrlPatterns(TODO_URL_PATTERN);
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+    return registration;
+  }
+
+  /**
+   * This method provides adaptive concurrency limiter.
+   *
+   * @param initialLimit limit until latency samples arrive.
+   * @param minLimit limit never goes below.
+   * @param maxLimit limit never goes above.
+   * @param tolerance ratio by which recent latency may exceed long term latency before limit shrinks.
+   * @return instance of {@link TodoConcurrencyLimiter}.
+   */
+  @Bean
+  @ConditionalOnProperty(name = "todo.concurrency-limit.enabled", havingValue = "true")
+  public TodoConcurrencyLimiter todoConcurrencyLimiter(
+      @Value("${todo.concurrency-limit.initial-limit:50}") int initialLimit,
+      @Value("${todo.concurrency-limit.min-limit:10}") int minLimit,
+      @Value("${todo.concurrency-limit.max-limit:400}") int maxLimit,
+      @Value("${todo.concurrency-limit.tolerance:1.5}") double tolerance) {
+    return new TodoConcurrencyLimiter(initialLimit, minLimit, maxLimit, tolerance);
+  }
+
+  /**
+   * This method registers concurrency limit filter for the todo APIs.
+   *
+   * @param todoConcurrencyLimiter instance of {@link TodoConcurrencyLimiter}.
+   * @param meterRegistry registry to which concurrency limit metrics are published.
+   * @return {@link FilterRegistrationBean} of {@link TodoConcurrencyLimitFilter}.
+   */
+  @Bean
+  @ConditionalOnProperty(name = "todo.concurrency-limit.enabled", havingValue = "true")
+  public FilterRegistrationBean<TodoConcurrencyLimitFilter> todoConcurrencyLimitFilterRegistration(
+      TodoConcurrencyLimiter todoConcurrencyLimiter, MeterRegistry meterRegistry) {
+    FilterRegistrationBean<TodoConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+        new TodoConcurrencyLimitFilter(todoConcurrencyLimiter, meterRegistry));
+    registration.addUrlPatterns(TODO_URL_PATTERN);
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+    return registration;
+  }
+}
@@ -0,0 +1,139 @@
+package com.suyogmirgal.todomvc.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.suyogmirgal.todomvc.model.TodoDto;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import org.springframework.boot.jackson.JsonComponent;
+
+/**
+ * This is hand written serializer for {@link TodoDto}, which is written for every
+ * todo of every list response. Field names are encoded once and date times are
+ * written without going through {@link DateTimeFormatter}. Output is the same as
+ * of the default bean serializer: ISO-8601 date times, or the date time serializer
+ * of the provider when {@link SerializationFeature#WRITE_DATES_AS_TIMESTAMPS} is enabled.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@JsonComponent
+public class TodoDtoSerializer extends StdSerializer<TodoDto> {
+
+  private static final SerializableString ID = new SerializedString("id");
+  private static final SerializableString TITLE = new SerializedString("title");
+  private static final SerializableString ORDER = new SerializedString("order");
+  private static final SerializableString IS_COMPLETED = new SerializedString("isCompleted");
+  private static final SerializableString CREATED_DATE = new SerializedString("createdDate");
+  private static final SerializableString UPDATED_DATE = new SerializedString("updatedDate");
+
+  private static final int MAX_DATE_TIME_LENGTH = 29;
+
+  /**
+   * Default constructor for {@link TodoDtoSerializer}.
+   */
+  public TodoDtoSerializer() {
+    super(TodoDto.class);
+  }
+
+  @Override
+  public void serialize(TodoDto todoDto, JsonGenerator generator, SerializerProvider provider) throws IOException {
+    generator.writeStartObject(todoDto);
+    generator.writeFieldName(ID);
+    generator.writeNumber(todoDto.getId());
+    generator.writeFieldName(TITLE);
+    generator.writeString(todoDto.getTitle());
+    generator.writeFieldName(ORDER);
+    if(todoDto.getOrder() == null) {
+      generator.writeNull();
+    } else {
+      generator.writeNumber(todoDto.getOrder());
+    }
+    generator.writeFieldName(IS_COMPLETED);
+    generator.writeBoolean(todoDto.isCompleted());
+    boolean datesAsTimestamps = provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    generator.writeFieldName(CREATED_DATE);
+    writeDateTime(todoDto.getCreatedDate(), datesAsTimestamps, generator, provider);
+    generator.writeFieldName(UPDATED_DATE);
+    writeDateTime(todoDto.getUpdatedDate(), datesAsTimestamps, generator, provider);
+    generator.writeEndObject();
+  }
+
+  private static void writeDateTime(LocalDateTime dateTime, boolean datesAsTimestamps, JsonGenerator generator,
+      SerializerProvider provider) throws IOException {
+    if(datesAsTimestamps) {
+      provider.defaultSerializeValue(dateTime, generator);
+    } else {
+      writeDateTime(dateTime, generator);
+    }
+  }
+
+  /**
+   * This method writes date time in {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} format.
+   *
+   * @param dateTime date time to be written, may be null.
+   * @param generator {@link JsonGenerator} to write to.
+   * @throws IOException if writing fails.
+   */
+  static void writeDateTime(LocalDateTime dateTime, JsonGenerator generator) throws IOException {
+    if(dateTime == null) {
+      generator.writeNull();
+      return;
+    }
+    if(dateTime.getYear() < 0 || dateTime.getYear() > 9999) {
+      generator.writeString(dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+      return;
+    }
+    char[] chars = new char[MAX_DATE_TIME_LENGTH];
+    int length = formatDateTime(dateTime, chars);
+    generator.writeString(chars, 0, length);
+  }
+
+  /**
+   * This method formats date time with a year between 0 and 9999 in
+   * {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} format.
+   *
+   * @param dateTime date time to be formatted.
+   * @param chars buffer of at least {@value #MAX_DATE_TIME_LENGTH} chars.
+   * @return number of chars written.
+   */
+  static int formatDateTime(LocalDateTime dateTime, char[] chars) {
+    int year = dateTime.getYear();
+    chars[0] = (char) ('0' + year / 1000);
+    chars[1] = (char) ('0' + year / 100 % 10);
+    chars[2] = (char) ('0' + year / 10 % 10);
+    chars[3] = (char) ('0' + year % 10);
+    chars[4] = '-';
+    writeTwoDigits(dateTime.getMonthValue(), chars, 5);
+    chars[7] = '-';
+    writeTwoDigits(dateTime.getDayOfMonth(), chars, 8);
+    chars[10] = 'T';
+    writeTwoDigits(dateTime.getHour(), chars, 11);
+    chars[13] = ':';
+    writeTwoDigits(dateTime.getMinute(), chars, 14);
+    chars[16] = ':';
+    writeTwoDigits(dateTime.getSecond(), chars, 17);
+    int length = 19;
+    int nano = dateTime.getNano();
+    if(nano != 0) {
+      chars[length++] = '.';
+      int divisor = 100_000_000;
+      while(nano != 0) {
+        chars[length++] = (char) ('0' + nano / divisor);
+        nano %= divisor;
+        divisor /= 10;
+      }
+    }
+    return length;
+  }
+
+  private static void writeTwoDigits(int value, char[] chars, int offset) {
+    chars[offset] = (char) ('0' + value / 10);
+    chars[offset + 1] = (char) ('0' + value % 10);
+  }
+}
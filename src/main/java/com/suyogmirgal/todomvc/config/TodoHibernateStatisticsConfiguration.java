@@ -0,0 +1,89 @@
+package com.suyogmirgal.todomvc.config;
+
+import com.suyogmirgal.todomvc.statistics.TodoHibernateMetrics;
+import com.suyogmirgal.todomvc.statistics.TodoSlowQueryEndpoint;
+import com.suyogmirgal.todomvc.statistics.TodoTransactionObserver;
+import com.suyogmirgal.todomvc.statistics.TodoTransactionRowInterceptor;
+import com.suyogmirgal.todomvc.statistics.TodoTransactionStatementListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * This is configuration class for Hibernate statistics. It turns on Hibernate statistics,
+ * publishes them as metrics along with an actuator endpoint of the slowest queries, and
+ * observes every transaction with the statements and rows it took.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Configuration
+@ConditionalOnProperty(name = "todo.hibernate.statistics.enabled", havingValue = "true")
+public class TodoHibernateStatisticsConfiguration {
+
+  /**
+   * This method enables Hibernate statistics and registers listeners which count work of every transaction.
+   *
+   * @param slowQueryMillis duration in milliseconds above which Hibernate logs a query, 0 to not log.
+   * @return instance of {@link HibernatePropertiesCustomizer}.
+   */
+  @Bean
+  public HibernatePropertiesCustomizer todoHibernateStatisticsCustomizer(
+      @Value("${todo.hibernate.statistics.slow-query-ms:0}") long slowQueryMillis) {
+    return hibernateProperties -> {
+      hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+      hibernateProperties.put(AvailableSettings.LOG_SLOW_QUERY, slowQueryMillis);
+      hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+          TodoTransactionStatementListener.class.getName());
+      hibernateProperties.put(AvailableSettings.INTERCEPTOR, new TodoTransactionRowInterceptor());
+    };
+  }
+
+  /**
+   * This method provides binder of Hibernate statistics to the meter registry.
+   *
+   * @param entityManagerFactory {@link EntityManagerFactory} of the todos.
+   * @param maxQueries max number of queries published with own meters.
+   * @return instance of {@link TodoHibernateMetrics}.
+   */
+  @Bean
+  public TodoHibernateMetrics todoHibernateMetrics(EntityManagerFactory entityManagerFactory,
+      @Value("${todo.hibernate.statistics.max-queries:100}") int maxQueries) {
+    return new TodoHibernateMetrics(entityManagerFactory.unwrap(SessionFactory.class).getStatistics(), maxQueries);
+  }
+
+  /**
+   * This method provides actuator endpoint of the slowest queries.
+   *
+   * @param todoHibernateMetrics instance of {@link TodoHibernateMetrics}.
+   * @return instance of {@link TodoSlowQueryEndpoint}.
+   */
+  @Bean
+  public TodoSlowQueryEndpoint todoSlowQueryEndpoint(TodoHibernateMetrics todoHibernateMetrics) {
+    return new TodoSlowQueryEndpoint(todoHibernateMetrics);
+  }
+
+  /**
+   * This method provides listener which observes every transaction.
+   *
+   * @param observationRegistry registry to which transactions are reported, if available.
+   * @param meterRegistry registry to which statements and rows per transaction are published.
+   * @param slowTransactionMillis duration in milliseconds above which a transaction is logged.
+   * @return instance of {@link TodoTransactionObserver}.
+   */
+  @Bean
+  public TodoTransactionObserver todoTransactionObserver(ObjectProvider<ObservationRegistry> observationRegistry,
+      MeterRegistry meterRegistry,
+      @Value("${todo.hibernate.statistics.slow-transaction-ms:500}") long slowTransactionMillis) {
+    return new TodoTransactionObserver(observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP),
+        meterRegistry, slowTransactionMillis);
+  }
+}
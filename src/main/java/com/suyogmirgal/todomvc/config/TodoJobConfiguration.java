@@ -0,0 +1,37 @@
+package com.suyogmirgal.todomvc.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * This is configuration class for the executor which runs
+ * background todo jobs away from the http request threads.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Configuration
+public class TodoJobConfiguration {
+
+  /**
+   * This method provides executor dedicated to background todo jobs.
+   *
+   * @param poolSize number of threads running jobs.
+   * @param queueCapacity max number of jobs waiting for a thread.
+   * @return instance of {@link ThreadPoolTaskExecutor}.
+   */
+  @Bean(name = "todoJobExecutor")
+  public ThreadPoolTaskExecutor todoJobExecutor(@Value("${todo.jobs.pool-size:1}") int poolSize,
+      @Value("${todo.jobs.queue-capacity:16}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("todo-job-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    return executor;
+  }
+}
@@ -0,0 +1,159 @@
+package com.suyogmirgal.todomvc.config;
+
+import com.suyogmirgal.todomvc.datasource.TodoReadYourWritesContext;
+import com.suyogmirgal.todomvc.datasource.TodoRoutingDataSource;
+import com.suyogmirgal.todomvc.filter.TodoClientResolver;
+import com.suyogmirgal.todomvc.filter.TodoReadYourWritesFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * This is configuration class for the {@code replica} profile. Read only transactions
+ * are served by a pool of the read replica configured by {@code todo.datasource.replica.*}
+ * and everything else by a pool of the primary configured by {@code spring.datasource.*}.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Configuration
+@Profile("replica")
+public class TodoReplicaDataSourceConfiguration {
+
+  /**
+   * This method provides connection pool of the primary database.
+   *
+   * @param dataSourceProperties properties of the primary database.
+   * @return instance of {@link HikariDataSource}.
+   */
+  @Bean(destroyMethod = "close")
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource todoPrimaryDataSource(DataSourceProperties dataSourceProperties) {
+    HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+        .type(HikariDataSource.class)
+        .build();
+    dataSource.setPoolName("todo-primary");
+    return dataSource;
+  }
+
+  /**
+   * This method provides connection pool of the read replica.
+   *
+   * @param url jdbc url of the read replica.
+   * @param username username of the read replica.
+   * @param password password of the read replica.
+   * @return instance of {@link HikariDataSource}.
+   */
+  @Bean(destroyMethod = "close")
+  @ConfigurationProperties("todo.datasource.replica.hikari")
+  public HikariDataSource todoReplicaDataSource(
+      @Value("${todo.datasource.replica.url}") String url,
+      @Value("${todo.datasource.replica.username:}") String username,
+      @Value("${todo.datasource.replica.password:}") String password) {
+    HikariDataSource dataSource = DataSourceBuilder.create()
+        .type(HikariDataSource.class)
+        .url(url)
+        .username(username)
+        .password(password)
+        .build();
+    dataSource.setPoolName("todo-replica");
+    dataSource.setReadOnly(true);
+    return dataSource;
+  }
+
+  /**
+   * This method provides context which sends reads of a client to the primary right after its writes.
+   *
+   * @param windowMillis milliseconds after a write during which reads of the client go to the primary.
+   * @return instance of {@link TodoReadYourWritesContext}.
+   */
+  @Bean
+  public TodoReadYourWritesContext todoReadYourWritesContext(
+      @Value("${todo.datasource.replica.read-your-writes-window-ms:5000}") long windowMillis) {
+    return new TodoReadYourWritesContext(windowMillis);
+  }
+
+  /**
+   * This method provides routing datasource used by JPA.
+   *
+   * @param primary connection pool of the primary database.
+   * @param replica connection pool of the read replica.
+   * @param todoReadYourWritesContext instance of {@link TodoReadYourWritesContext}.
+   * @param meterRegistry registry to which routing metrics are published.
+   * @return {@link LazyConnectionDataSourceProxy} of {@link TodoRoutingDataSource}.
+   */
+  @Bean
+  @Primary
+  public DataSource todoRoutingDataSource(@Qualifier("todoPrimaryDataSource") DataSource primary,
+      @Qualifier("todoReplicaDataSource") DataSource replica, TodoReadYourWritesContext todoReadYourWritesContext,
+      MeterRegistry meterRegistry) {
+    TodoRoutingDataSource routingDataSource = new TodoRoutingDataSource(primary, replica,
+        todoReadYourWritesContext, meterRegistry);
+    routingDataSource.afterPropertiesSet();
+    return new LazyConnectionDataSourceProxy(routingDataSource);
+  }
+
+  /**
+   * This method provides copier of the schema of an H2 primary to an H2 replica, which runs once
+   * the schema of the primary is created. Rows are not copied, so the replica lags behind the
+   * primary by every write.
+   *
+   * @param primary connection pool of the primary database.
+   * @param replica connection pool of the read replica.
+   * @return {@link SmartInitializingSingleton} which copies the schema.
+   */
+  @Bean
+  @ConditionalOnProperty(name = "todo.datasource.replica.copy-h2-schema", havingValue = "true")
+  public SmartInitializingSingleton todoReplicaSchemaCopier(@Qualifier("todoPrimaryDataSource") DataSource primary,
+      @Qualifier("todoReplicaDataSource") DataSource replica) {
+    return () -> {
+      List<String> statements = new JdbcTemplate(primary).queryForList("script nodata", String.class);
+      JdbcTemplate replicaJdbcTemplate = new JdbcTemplate(replica);
+      statements.stream()
+          .filter(statement -> !statement.startsWith("--") && !statement.startsWith("CREATE USER"))
+          .forEach(replicaJdbcTemplate::execute);
+    };
+  }
+
+  /**
+   * This method registers read your writes filter for the todo APIs, behind the admission control filters.
+   * Without client header clients are identified by remote address only if forwarded headers are applied
+   * to it, as behind a load balancer a write of one client would otherwise send reads of all clients to
+   * the primary.
+   *
+   * @param todoReadYourWritesContext instance of {@link TodoReadYourWritesContext}.
+   * @param clientHeader header which identifies client, blank to not identify clients by header.
+   * @param forwardHeadersStrategy strategy applying forwarded headers, clients are identified by remote
+   *     address without client header only if it is not none.
+   * @return {@link FilterRegistrationBean} of {@link TodoReadYourWritesFilter}.
+   */
+  @Bean
+  public FilterRegistrationBean<TodoReadYourWritesFilter> todoReadYourWritesFilterRegistration(
+      TodoReadYourWritesContext todoReadYourWritesContext,
+      @Value("${todo.datasource.replica.client-header:}") String clientHeader,
+      @Value("${server.forward-headers-strategy:none}") String forwardHeadersStrategy) {
+    TodoClientResolver todoClientResolver = new TodoClientResolver(clientHeader,
+        TodoClientResolver.isRemoteAddressTrusted(forwardHeadersStrategy));
+    FilterRegistrationBean<TodoReadYourWritesFilter> registration = new FilterRegistrationBean<>(
+        new TodoReadYourWritesFilter(todoReadYourWritesContext, todoClientResolver));
+    registration.addUrlPatterns("/todo/*");
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 30);
+    return registration;
+  }
+}
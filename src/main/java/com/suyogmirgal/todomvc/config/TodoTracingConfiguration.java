@@ -0,0 +1,109 @@
+package com.suyogmirgal.todomvc.config;
+
+import com.suyogmirgal.todomvc.tracing.TodoRepositoryObservationInterceptor;
+import com.suyogmirgal.todomvc.tracing.TodoSlowTraceSpanProcessor;
+import com.suyogmirgal.todomvc.tracing.TodoTailSampler;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.annotation.Observed;
+import io.micrometer.observation.aop.ObservedAspect;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * This is configuration class for tracing of the todo APIs. Requests are traced from the
+ * controller through {@code TodoService} and the repositories down to JDBC, with W3C trace
+ * context taken from inbound headers. Traces are sampled up front with ratio
+ * {@code management.tracing.sampling.probability}, and with {@code todo.tracing.tail.enabled=true}
+ * the other traces are exported too when they turn out slow or failed.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Configuration
+public class TodoTracingConfiguration {
+
+  /**
+   * This method provides aspect which observes methods of classes annotated with {@link Observed},
+   * such as {@code TodoService}.
+   *
+   * @param observationRegistry registry to which annotated methods are reported.
+   * @return instance of {@link ObservedAspect}.
+   */
+  @Bean
+  public ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
+    return new ObservedAspect(observationRegistry);
+  }
+
+  /**
+   * This method provides post processor which observes every call of the Spring Data repositories.
+   *
+   * @param observationRegistry registry to which repository calls are reported, if available.
+   * @return {@link BeanPostProcessor} which adds {@link TodoRepositoryObservationInterceptor} to every repository.
+   */
+  @Bean
+  public static BeanPostProcessor todoRepositoryObservationPostProcessor(
+      ObjectProvider<ObservationRegistry> observationRegistry) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if(bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactoryBean) {
+          repositoryFactoryBean.addRepositoryFactoryCustomizer(repositoryFactory ->
+              repositoryFactory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) ->
+                  proxyFactory.addAdvice(new TodoRepositoryObservationInterceptor(
+                      observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP),
+                      repositoryInformation.getRepositoryInterface()))));
+        }
+        return bean;
+      }
+    };
+  }
+
+  /**
+   * This method provides sampler which samples traces by ratio, follows the decision of
+   * the caller if there is one, and records the rest for tail sampling if it is enabled.
+   *
+   * @param probability share of traces sampled up front.
+   * @param tailEnabled true to record traces which are not sampled up front.
+   * @return instance of {@link Sampler}.
+   */
+  @Bean
+  public Sampler todoSampler(@Value("${management.tracing.sampling.probability:0.1}") double probability,
+      @Value("${todo.tracing.tail.enabled:false}") boolean tailEnabled) {
+    Sampler headSampler = Sampler.traceIdRatioBased(probability);
+    if(!tailEnabled) {
+      return Sampler.parentBased(headSampler);
+    }
+    return Sampler.parentBasedBuilder(new TodoTailSampler(headSampler))
+        .setRemoteParentNotSampled(TodoTailSampler.recordOnly())
+        .setLocalParentNotSampled(TodoTailSampler.recordOnly())
+        .build();
+  }
+
+  /**
+   * This method provides span processor which exports traces not sampled up front if they are slow or failed.
+   *
+   * @param spanExporters exporters to which traces are sent.
+   * @param slowMillis duration in milliseconds of a request above which its trace is exported.
+   * @param maxTraces max number of traces held until their request completes.
+   * @param maxSpansPerTrace max number of spans held for a trace.
+   * @return instance of {@link TodoSlowTraceSpanProcessor}.
+   */
+  @Bean
+  @ConditionalOnProperty(name = "todo.tracing.tail.enabled", havingValue = "true")
+  public TodoSlowTraceSpanProcessor todoSlowTraceSpanProcessor(ObjectProvider<SpanExporter> spanExporters,
+      @Value("${todo.tracing.tail.slow-ms:1000}") long slowMillis,
+      @Value("${todo.tracing.tail.max-traces:1000}") int maxTraces,
+      @Value("${todo.tracing.tail.max-spans-per-trace:200}") int maxSpansPerTrace) {
+    return new TodoSlowTraceSpanProcessor(
+        SingletonSupplier.of(() -> SpanExporter.composite(spanExporters.orderedStream().toList())),
+        slowMillis, maxTraces, maxSpansPerTrace);
+  }
+}
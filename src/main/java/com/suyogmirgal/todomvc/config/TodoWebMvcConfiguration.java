@@ -0,0 +1,46 @@
+package com.suyogmirgal.todomvc.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import java.util.List;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * This is web mvc configuration which lets clients exchange todos as CBOR
+ * by sending application/cbor in Accept or Content-Type headers. JSON stays
+ * the default representation.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Configuration
+public class TodoWebMvcConfiguration implements WebMvcConfigurer {
+
+  private final Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder;
+
+  /**
+   * Parameterized constructor for {@link TodoWebMvcConfiguration}.
+   *
+   * @param jackson2ObjectMapperBuilder builder configured like the JSON object mapper,
+   *     so CBOR gets the same modules and serializers.
+   */
+  public TodoWebMvcConfiguration(Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder) {
+    this.jackson2ObjectMapperBuilder = jackson2ObjectMapperBuilder;
+  }
+
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    MappingJackson2CborHttpMessageConverter cborConverter = new MappingJackson2CborHttpMessageConverter(
+        jackson2ObjectMapperBuilder.factory(new CBORFactory()).build());
+    for(int i = 0; i < converters.size(); i++) {
+      if(converters.get(i) instanceof MappingJackson2CborHttpMessageConverter) {
+        converters.set(i, cborConverter);
+        return;
+      }
+    }
+    converters.add(cborConverter);
+  }
+}
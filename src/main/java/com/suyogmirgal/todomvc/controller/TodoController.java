@@ -1,16 +1,40 @@
 package com.suyogmirgal.todomvc.controller;
 
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.suyogmirgal.todomvc.filter.TodoClientResolver;
+import com.suyogmirgal.todomvc.model.TodoChangesDto;
 import com.suyogmirgal.todomvc.model.TodoDto;
+import com.suyogmirgal.todomvc.model.TodoFilter;
+import com.suyogmirgal.todomvc.model.TodoJobDto;
+import com.suyogmirgal.todomvc.model.TodoSearchResultDto;
+import com.suyogmirgal.todomvc.model.TodoStatsDto;
+import com.suyogmirgal.todomvc.model.TodoStatusFilter;
+import com.suyogmirgal.todomvc.service.TodoClearCompletedJobService;
+import com.suyogmirgal.todomvc.service.TodoIdempotencyConflictException;
+import com.suyogmirgal.todomvc.service.TodoIdempotencyService;
 import com.suyogmirgal.todomvc.service.TodoService;
+import com.suyogmirgal.todomvc.service.TodoWriteBehindOverflowException;
+import jakarta.servlet.http.HttpServletRequest;
+import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -24,38 +48,155 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/todo")
 public class TodoController {
 
+  static final int MAX_SEARCH_PAGE_SIZE = 100;
+
+  static final int MAX_BATCH_SIZE = 500;
+
+  static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+  //scope of idempotency keys sent by clients which cannot be told apart
+  static final String SHARED_IDEMPOTENCY_SCOPE = "";
+
+  private static final TypeReference<TodoDto> TODO_DTO_TYPE = new TypeReference<>() { };
+
+  private static final TypeReference<List<TodoDto>> TODO_DTO_LIST_TYPE = new TypeReference<>() { };
+
   private final TodoService todoService;
 
+  private final TodoClearCompletedJobService todoClearCompletedJobService;
+
+  private final TodoIdempotencyService todoIdempotencyService;
+
+  private final TodoClientResolver todoClientResolver;
+
   /**
    * Parametrized constructor for {@link TodoController}.
    *
    * @param todoService instance of {@link TodoService}.
+   * @param todoClearCompletedJobService instance of {@link TodoClearCompletedJobService}.
+   * @param todoIdempotencyService instance of {@link TodoIdempotencyService}.
+   * @param clientHeader header which identifies client owning idempotency keys, blank to not scope keys by header.
+   * @param forwardHeadersStrategy strategy applying forwarded headers, keys are scoped by remote address
+   *     without client header only if it is not none.
    */
-  public TodoController(TodoService todoService) {
+  public TodoController(TodoService todoService, TodoClearCompletedJobService todoClearCompletedJobService,
+      TodoIdempotencyService todoIdempotencyService,
+      @Value("${todo.idempotency.client-header:}") String clientHeader,
+      @Value("${server.forward-headers-strategy:none}") String forwardHeadersStrategy) {
     this.todoService = todoService;
+    this.todoClearCompletedJobService = todoClearCompletedJobService;
+    this.todoIdempotencyService = todoIdempotencyService;
+    this.todoClientResolver = new TodoClientResolver(clientHeader,
+        TodoClientResolver.isRemoteAddressTrusted(forwardHeadersStrategy));
   }
 
   /**
-   * API Method to create todo.
+   * API Method to create todo. A retry with the same idempotency key gets response
+   * of the first request without creating the todo again. A todo created with an
+   * idempotency key is inserted with the key and not through write behind.
    *
+   * @param request http request, which identifies client owning the idempotency key.
+   * @param idempotencyKey optional idempotency key chosen by the client.
    * @param todo instance of {@link TodoDto} holds data about todo to be created.
    * @return response {@link ResponseEntity} which holds Http Status and body {@link TodoDto}.
    */
   @RequestMapping(method = RequestMethod.POST)
-  public ResponseEntity<TodoDto> createTodo(@RequestBody final TodoDto todo) {
-    TodoDto todoDto = todoService.createTodo(todo);
+  public ResponseEntity<TodoDto> createTodo(final HttpServletRequest request,
+      @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) final String idempotencyKey,
+      @RequestBody final TodoDto todo) {
+    if(idempotencyKey == null) {
+      return ResponseEntity.status(HttpStatus.CREATED).body(todoService.createTodo(todo));
+    }
+    if(!TodoIdempotencyService.isValidKey(idempotencyKey)) {
+      return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+    }
+    TodoDto todoDto = todoIdempotencyService.execute(idempotencyScope(request), idempotencyKey,
+        "createTodo", todo, TODO_DTO_TYPE, () -> todoService.createTodo(todo, false));
     return ResponseEntity.status(HttpStatus.CREATED).body(todoDto);
   }
 
   /**
-   * API Method to get all active and isCompleted todos.
-   *
+   * API Method to create todos in one request.
    *
+   * @param request http request, which identifies client owning the idempotency key.
+   * @param idempotencyKey optional idempotency key chosen by the client.
+   * @param todos list of {@link TodoDto} hold data about todos to be created, at most {@value #MAX_BATCH_SIZE}.
    * @return response {@link ResponseEntity} which holds Http Status and body List of {@link TodoDto}.
    */
+  @RequestMapping(method = RequestMethod.POST, value = "/batch")
+  public ResponseEntity<List<TodoDto>> createTodos(final HttpServletRequest request,
+      @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) final String idempotencyKey,
+      @RequestBody final List<TodoDto> todos) {
+    if(todos.isEmpty() || todos.size() > MAX_BATCH_SIZE) {
+      return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+    }
+    if(idempotencyKey == null) {
+      return ResponseEntity.status(HttpStatus.CREATED).body(todoService.createTodos(todos));
+    }
+    if(!TodoIdempotencyService.isValidKey(idempotencyKey)) {
+      return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+    }
+    return ResponseEntity.status(HttpStatus.CREATED).body(todoIdempotencyService.execute(
+        idempotencyScope(request), idempotencyKey, "createTodos", todos, TODO_DTO_LIST_TYPE,
+        () -> todoService.createTodos(todos, false)));
+  }
+
+  /**
+   * API Method to get all active and isCompleted todos. Todos can be filtered by status
+   * and date ranges, sorted by any field and reduced to the provided fields.
+   *
+   * @param status status of the todos, one of all, active or completed.
+   * @param createdFrom inclusive lower bound of created date time.
+   * @param createdTo inclusive upper bound of created date time.
+   * @param updatedFrom inclusive lower bound of updated date time.
+   * @param updatedTo inclusive upper bound of updated date time.
+   * @param sort sort field optionally followed by direction, e.g. createdDate,desc. Defaults to order.
+   * @param fields comma separated fields to be provided, all fields if absent.
+   * @return response {@link ResponseEntity} which holds Http Status and body List of {@link TodoDto}
+   *     or List of field name to value maps if fields are provided.
+   */
   @RequestMapping(method = RequestMethod.GET)
-  public ResponseEntity<List<TodoDto>> getAllToDo() {
-    return ResponseEntity.status(HttpStatus.OK).body(todoService.getAllTodos());
+  public ResponseEntity<List<?>> getAllToDo(@RequestParam(name = "status", required = false) String status,
+      @RequestParam(name = "createdFrom", required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+      @RequestParam(name = "createdTo", required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+      @RequestParam(name = "updatedFrom", required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedFrom,
+      @RequestParam(name = "updatedTo", required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedTo,
+      @RequestParam(name = "sort", required = false) String sort,
+      @RequestParam(name = "fields", required = false) List<String> fields) {
+    if(status == null && createdFrom == null && createdTo == null && updatedFrom == null && updatedTo == null
+        && sort == null && fields == null) {
+      return ResponseEntity.status(HttpStatus.OK).body(todoService.getAllTodos());
+    }
+    try {
+      TodoFilter todoFilter = new TodoFilter(
+          status == null ? TodoStatusFilter.ALL : TodoStatusFilter.valueOf(status.trim().toUpperCase(Locale.ROOT)),
+          createdFrom, createdTo, updatedFrom, updatedTo);
+      Sort todoSort = parseSort(sort);
+      if(fields == null) {
+        return ResponseEntity.status(HttpStatus.OK).body(todoService.getTodos(todoFilter, todoSort));
+      }
+      return ResponseEntity.status(HttpStatus.OK).body(todoService.getTodoProjections(todoFilter, todoSort, fields));
+    } catch (IllegalArgumentException ex) {
+      return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+    }
+  }
+
+  /**
+   * API Method to get todos changed and deleted since provided change token.
+   *
+   * @param changedSince change token returned by the previous sync, 0 for the first sync.
+   * @return response {@link ResponseEntity} which holds Http Status and body {@link TodoChangesDto}.
+   */
+  @RequestMapping(method = RequestMethod.GET, params = "changedSince")
+  public ResponseEntity<TodoChangesDto> getTodoChanges(@RequestParam(name = "changedSince") long changedSince) {
+    if(changedSince < 0) {
+      return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+    }
+    return ResponseEntity.status(HttpStatus.OK).body(todoService.getTodoChangesSince(changedSince));
   }
 
   /**
@@ -69,6 +210,35 @@ public class TodoController {
     return ResponseEntity.status(HttpStatus.OK).body(todoService.getAllActiveTodos());
   }
 
+  /**
+   * API Method to get number of all, active and isCompleted todos.
+   *
+   * @return response {@link ResponseEntity} which holds Http Status and body {@link TodoStatsDto}.
+   */
+  @RequestMapping(method = RequestMethod.GET, value = "/stats")
+  public ResponseEntity<TodoStatsDto> getTodoStats() {
+    return ResponseEntity.status(HttpStatus.OK).body(todoService.getTodoStats());
+  }
+
+  /**
+   * API Method to search todos by title.
+   *
+   * @param query search query, every term of which has to match a title term or its prefix.
+   * @param page index of the page, starting from 0.
+   * @param size size of the page, capped to {@value #MAX_SEARCH_PAGE_SIZE}.
+   * @return response {@link ResponseEntity} which holds Http Status and body {@link TodoSearchResultDto}.
+   */
+  @RequestMapping(method = RequestMethod.GET, value = "/search")
+  public ResponseEntity<TodoSearchResultDto> searchTodos(@RequestParam(name = "q") String query,
+      @RequestParam(name = "page", defaultValue = "0") int page,
+      @RequestParam(name = "size", defaultValue = "20") int size) {
+    if(page < 0 || size < 1) {
+      return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+    }
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(todoService.searchTodos(query, page, Math.min(size, MAX_SEARCH_PAGE_SIZE)));
+  }
+
   /**
    * API Method to get todo for provided todoId.
    *
@@ -125,4 +295,89 @@ public class TodoController {
     long count = todoService.deleteAllCompletedTodos();
     return ResponseEntity.status(HttpStatus.OK).body("Total " +count+" todos were isCompleted are deleted.");
   }
-}
\ No newline at end of file
+
+  /**
+   * API Method to start a background job which deletes/clears all isCompleted todos.
+   * Request which arrives while such a job is running gets the running job.
+   *
+   * @return response {@link ResponseEntity} which holds Http Status and body {@link TodoJobDto}.
+   */
+  @RequestMapping(method = RequestMethod.DELETE, value = "/clear-isCompleted-todos", params = "async=true")
+  public ResponseEntity<TodoJobDto> deleteAllCompletedTodosAsync() {
+    TodoJobDto todoJobDto = todoClearCompletedJobService.submit();
+    return ResponseEntity.status(HttpStatus.ACCEPTED)
+        .location(URI.create("/todo/jobs/" + todoJobDto.getId()))
+        .body(todoJobDto);
+  }
+
+  /**
+   * API Method to get progress of a background job.
+   *
+   * @param jobId id of the job.
+   * @return response {@link ResponseEntity} which holds Http Status and body {@link TodoJobDto}.
+   */
+  @RequestMapping(method = RequestMethod.GET, value = "/jobs/{job-id}")
+  public ResponseEntity<TodoJobDto> getJob(@PathVariable(name = "job-id") String jobId) {
+    Optional<TodoJobDto> todoJobDto = todoClearCompletedJobService.getJob(jobId);
+    if(todoJobDto.isPresent()) {
+      return ResponseEntity.status(HttpStatus.OK).body(todoJobDto.get());
+    }
+    return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
+  }
+
+  private Sort parseSort(String sort) {
+    if(sort == null) {
+      return Sort.by("order");
+    }
+    String[] parts = sort.split(",");
+    if(parts.length > 2) {
+      throw new IllegalArgumentException("invalid sort " + sort);
+    }
+    Sort.Direction direction = parts.length == 2 ? Sort.Direction.fromString(parts[1].trim()) : Sort.Direction.ASC;
+    return Sort.by(direction, parts[0].trim());
+  }
+
+  private String idempotencyScope(HttpServletRequest request) {
+    String client = todoClientResolver.resolve(request);
+    return client == null ? SHARED_IDEMPOTENCY_SCOPE : client;
+  }
+
+  /**
+   * Exception handler which asks client to retry when todo could not be
+   * accepted because write behind buffer is full.
+   *
+   * @param ex instance of {@link TodoWriteBehindOverflowException}.
+   * @return response {@link ResponseEntity} which holds Http Status and message body.
+   */
+  @ExceptionHandler(TodoWriteBehindOverflowException.class)
+  public ResponseEntity<String> handleWriteBehindOverflow(TodoWriteBehindOverflowException ex) {
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .body(ex.getMessage());
+  }
+
+  /**
+   * Exception handler which asks client to retry when the todo stayed locked by other
+   * writes for longer than the lock timeout.
+   *
+   * @param ex instance of {@link PessimisticLockingFailureException}.
+   * @return response {@link ResponseEntity} which holds Http Status and message body.
+   */
+  @ExceptionHandler(PessimisticLockingFailureException.class)
+  public ResponseEntity<String> handleLockTimeout(PessimisticLockingFailureException ex) {
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .body(ex.getMessage());
+  }
+
+  /**
+   * Exception handler which rejects reuse of an idempotency key for a different request.
+   *
+   * @param ex instance of {@link TodoIdempotencyConflictException}.
+   * @return response {@link ResponseEntity} which holds Http Status and message body.
+   */
+  @ExceptionHandler(TodoIdempotencyConflictException.class)
+  public ResponseEntity<String> handleIdempotencyConflict(TodoIdempotencyConflictException ex) {
+    return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(ex.getMessage());
+  }
+}
@@ -0,0 +1,71 @@
+package com.suyogmirgal.todomvc.controller;
+
+import com.suyogmirgal.todomvc.model.TodoOutboxEventDto;
+import com.suyogmirgal.todomvc.service.TodoOutboxRelay;
+import com.suyogmirgal.todomvc.service.TodoOutboxService;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * This is controller class which has the API methods
+ * for replaying recorded todo mutations. Event payloads are
+ * stored as JSON and embedded as is, so these APIs produce JSON only.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@RestController
+@RequestMapping(value = "/todo/outbox", produces = MediaType.APPLICATION_JSON_VALUE)
+public class TodoOutboxController {
+
+  static final int MAX_LIMIT = 1000;
+
+  private final TodoOutboxService todoOutboxService;
+
+  private final TodoOutboxRelay todoOutboxRelay;
+
+  /**
+   * Parametrized constructor for {@link TodoOutboxController}.
+   *
+   * @param todoOutboxService instance of {@link TodoOutboxService}.
+   * @param todoOutboxRelay instance of {@link TodoOutboxRelay}.
+   */
+  public TodoOutboxController(TodoOutboxService todoOutboxService, TodoOutboxRelay todoOutboxRelay) {
+    this.todoOutboxService = todoOutboxService;
+    this.todoOutboxRelay = todoOutboxRelay;
+  }
+
+  /**
+   * API Method to replay recorded todo mutations after provided sequence.
+   *
+   * @param after sequence after which events are to be returned.
+   * @param limit max number of events to be returned, capped to {@value #MAX_LIMIT}.
+   * @return response {@link ResponseEntity} which holds Http Status and body List of {@link TodoOutboxEventDto}.
+   */
+  @RequestMapping(method = RequestMethod.GET)
+  public ResponseEntity<List<TodoOutboxEventDto>> getEvents(
+      @RequestParam(name = "after", defaultValue = "0") long after,
+      @RequestParam(name = "limit", defaultValue = "100") int limit) {
+    if(after < 0 || limit < 1) {
+      return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+    }
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(todoOutboxService.getEventsAfter(after, Math.min(limit, MAX_LIMIT)));
+  }
+
+  /**
+   * API Method to get sequence of the last event relayed to the sink.
+   *
+   * @return response {@link ResponseEntity} which holds Http Status and body high watermark.
+   */
+  @RequestMapping(method = RequestMethod.GET, value = "/watermark")
+  public ResponseEntity<Long> getWatermark() {
+    return ResponseEntity.status(HttpStatus.OK).body(todoOutboxRelay.getWatermark());
+  }
+}
@@ -0,0 +1,12 @@
+package com.suyogmirgal.todomvc.datasource;
+
+/**
+ * This enum holds the datasources to which connections are routed.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public enum TodoDataSourceTarget {
+  PRIMARY,
+  REPLICA
+}
@@ -0,0 +1,109 @@
+package com.suyogmirgal.todomvc.datasource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * This class remembers when every client wrote last, so reads of a client which
+ * wrote within the window are served by the primary and see its own writes even
+ * if the replica lags behind. The client on behalf of which current thread works
+ * is bound per request, and its write is recorded as soon as a transaction writing
+ * on its behalf commits, before the response is sent.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoReadYourWritesContext {
+
+  private static final ThreadLocal<String> CLIENT = new ThreadLocal<>();
+
+  private final Map<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+
+  private final long windowNanos;
+
+  /**
+   * Parameterized constructor for {@link TodoReadYourWritesContext}.
+   *
+   * @param windowMillis milliseconds after a write during which reads of the client go to the primary.
+   */
+  public TodoReadYourWritesContext(long windowMillis) {
+    this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+  }
+
+  /**
+   * This method records a write of the client.
+   *
+   * @param client client which wrote.
+   */
+  public void recordWrite(final String client) {
+    lastWriteNanos.put(client, System.nanoTime());
+  }
+
+  /**
+   * This method records a write of the client bound to current thread once current
+   * transaction commits, or right away if there is no transaction.
+   */
+  public void recordWriteOfBoundClient() {
+    String client = CLIENT.get();
+    if(client == null) {
+      return;
+    }
+    if(TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          recordWrite(client);
+        }
+      });
+    } else {
+      recordWrite(client);
+    }
+  }
+
+  /**
+   * This method binds the client to current thread.
+   *
+   * @param client client on behalf of which current thread works.
+   */
+  public void bind(final String client) {
+    CLIENT.set(client);
+  }
+
+  /**
+   * This method removes binding of current thread.
+   */
+  public void clear() {
+    CLIENT.remove();
+  }
+
+  /**
+   * This method tells if reads of current thread have to go to the primary.
+   *
+   * @return true if client bound to current thread wrote within the window.
+   */
+  public boolean isPrimaryRequired() {
+    String client = CLIENT.get();
+    if(client == null) {
+      return false;
+    }
+    Long lastWrite = lastWriteNanos.get(client);
+    return lastWrite != null && System.nanoTime() - lastWrite < windowNanos;
+  }
+
+  /**
+   * This method forgets clients whose last write is older than the window.
+   *
+   * @return number of forgotten clients.
+   */
+  @Scheduled(fixedDelayString = "${todo.datasource.replica.read-your-writes-window-ms:5000}")
+  public int evictExpired() {
+    long nowNanos = System.nanoTime();
+    int before = lastWriteNanos.size();
+    lastWriteNanos.values().removeIf(lastWrite -> nowNanos - lastWrite >= windowNanos);
+    return before - lastWriteNanos.size();
+  }
+}
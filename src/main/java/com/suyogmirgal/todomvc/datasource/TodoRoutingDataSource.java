@@ -0,0 +1,68 @@
+package com.suyogmirgal.todomvc.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * This is datasource which routes connections of read only transactions to the
+ * replica and everything else to the primary. Reads of a client which has just
+ * written go to the primary, see {@link TodoReadYourWritesContext}; a connection
+ * routed to the primary for a transaction which is not read only counts as a write
+ * of the client once the transaction commits.
+ *
+ * <p>Transaction is marked read only only after its connection is requested, so
+ * this datasource has to be wrapped by a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoRoutingDataSource extends AbstractRoutingDataSource {
+
+  private final TodoReadYourWritesContext todoReadYourWritesContext;
+
+  private final Counter primaryCounter;
+
+  private final Counter replicaCounter;
+
+  /**
+   * Parameterized constructor for {@link TodoRoutingDataSource}.
+   *
+   * @param primary datasource of the primary database.
+   * @param replica datasource of the read replica.
+   * @param todoReadYourWritesContext instance of {@link TodoReadYourWritesContext}.
+   * @param meterRegistry registry to which routing metrics are published.
+   */
+  public TodoRoutingDataSource(DataSource primary, DataSource replica,
+      TodoReadYourWritesContext todoReadYourWritesContext, MeterRegistry meterRegistry) {
+    this.todoReadYourWritesContext = todoReadYourWritesContext;
+    setTargetDataSources(Map.of(TodoDataSourceTarget.PRIMARY, primary, TodoDataSourceTarget.REPLICA, replica));
+    setDefaultTargetDataSource(primary);
+    this.primaryCounter = Counter.builder("todo.datasource.routed")
+        .description("Connections routed to the datasource")
+        .tag("target", "primary")
+        .register(meterRegistry);
+    this.replicaCounter = Counter.builder("todo.datasource.routed")
+        .description("Connections routed to the datasource")
+        .tag("target", "replica")
+        .register(meterRegistry);
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if(TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      if(!todoReadYourWritesContext.isPrimaryRequired()) {
+        replicaCounter.increment();
+        return TodoDataSourceTarget.REPLICA;
+      }
+    } else {
+      todoReadYourWritesContext.recordWriteOfBoundClient();
+    }
+    primaryCounter.increment();
+    return TodoDataSourceTarget.PRIMARY;
+  }
+}
@@ -6,25 +6,43 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
+import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 /**
  * This is entity class for Todo which
  * will be used to map and hold todo
- * record from database from todo table
+ * record from database from todo table.
+ * Soft deleted todos are tombstones which are
+ * filtered from all the queries.
  *
  * @author suyogmirgal
  * created on 2024/04/29
  */
 @Entity
-@Table(name = "todo")
+@Table(name = "todo", indexes = @Index(name = "idx_todo_deleted_at_is_completed_order",
+    columnList = "deleted_at, is_completed, todo_order"))
+@SQLRestriction("deleted_at is null")
 @EntityListeners(AuditingEntityListener.class)
 public class TodoEntity {
 
+  /**
+   * Name of the sequence from which todo ids are allocated.
+   */
+  public static final String ID_SEQUENCE = "todo_seq";
+
+  /**
+   * Number of ids allocated with a single call of the sequence.
+   */
+  public static final int ID_BLOCK_SIZE = 50;
+
   @Id
-  @GeneratedValue(strategy = GenerationType.AUTO)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_id_generator")
+  @SequenceGenerator(name = "todo_id_generator", sequenceName = ID_SEQUENCE, allocationSize = ID_BLOCK_SIZE)
   @Column(name = "id")
   private int id;
 
@@ -43,6 +61,9 @@ public class TodoEntity {
   @Column(name = "updated_date")
   private LocalDateTime updatedDate;
 
+  @Column(name = "deleted_at")
+  private LocalDateTime deletedAt;
+
   /**
    * Getter method to get id of the todo record.
    *
@@ -150,4 +171,22 @@ public class TodoEntity {
   public void setUpdatedDate(LocalDateTime updatedDate) {
     this.updatedDate = updatedDate;
   }
+
+  /**
+   * Getter method to get date time when todo is soft deleted.
+   *
+   * @return LocalDateTime, null if todo is not deleted.
+   */
+  public LocalDateTime getDeletedAt() {
+    return deletedAt;
+  }
+
+  /**
+   * Setter method to set date time when todo is soft deleted.
+   *
+   * @param deletedAt LocalDateTime when todo is soft deleted.
+   */
+  public void setDeletedAt(LocalDateTime deletedAt) {
+    this.deletedAt = deletedAt;
+  }
 }
@@ -0,0 +1,118 @@
+package com.suyogmirgal.todomvc.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * This is entity class which holds an idempotency key sent by a client along
+ * with the request it was used for and the response which was returned.
+ * Key is prefixed with hash of the client and is the primary key, so a key
+ * can be used by one request of a client only.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Entity
+@Table(name = "todo_idempotency_key", indexes = @Index(name = "idx_todo_idempotency_key_created_date",
+    columnList = "created_date"))
+public class TodoIdempotencyKeyEntity {
+
+  /**
+   * Max length of an idempotency key.
+   */
+  public static final int MAX_KEY_LENGTH = 255;
+
+  //hex encoded SHA-256 of the client and a separator
+  private static final int CLIENT_HASH_LENGTH = 65;
+
+  @Id
+  @Column(name = "idempotency_key", length = CLIENT_HASH_LENGTH + MAX_KEY_LENGTH)
+  private String key;
+
+  @Column(name = "request_hash", length = 64, nullable = false)
+  private String requestHash;
+
+  @Lob
+  @Column(name = "response")
+  private String response;
+
+  @Column(name = "created_date", nullable = false)
+  private LocalDateTime createdDate;
+
+  /**
+   * Getter method to get idempotency key.
+   *
+   * @return idempotency key prefixed with hash of the client.
+   */
+  public String getKey() {
+    return key;
+  }
+
+  /**
+   * Setter method to set idempotency key.
+   *
+   * @param key idempotency key prefixed with hash of the client.
+   */
+  public void setKey(String key) {
+    this.key = key;
+  }
+
+  /**
+   * Getter method to get hash of the request for which key was used.
+   *
+   * @return hex encoded SHA-256 of the request.
+   */
+  public String getRequestHash() {
+    return requestHash;
+  }
+
+  /**
+   * Setter method to set hash of the request for which key was used.
+   *
+   * @param requestHash hex encoded SHA-256 of the request.
+   */
+  public void setRequestHash(String requestHash) {
+    this.requestHash = requestHash;
+  }
+
+  /**
+   * Getter method to get response returned for the request.
+   *
+   * @return response as JSON.
+   */
+  public String getResponse() {
+    return response;
+  }
+
+  /**
+   * Setter method to set response returned for the request.
+   *
+   * @param response response as JSON.
+   */
+  public void setResponse(String response) {
+    this.response = response;
+  }
+
+  /**
+   * Getter method to get date time when key was used.
+   *
+   * @return LocalDateTime.
+   */
+  public LocalDateTime getCreatedDate() {
+    return createdDate;
+  }
+
+  /**
+   * Setter method to set date time when key was used.
+   *
+   * @param createdDate LocalDateTime when key was used.
+   */
+  public void setCreatedDate(LocalDateTime createdDate) {
+    this.createdDate = createdDate;
+  }
+}
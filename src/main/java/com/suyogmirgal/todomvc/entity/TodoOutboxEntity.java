@@ -0,0 +1,139 @@
+package com.suyogmirgal.todomvc.entity;
+
+import com.suyogmirgal.todomvc.model.TodoEventType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * This is entity class for the append only todo outbox which
+ * records every mutation done on todo table in the same
+ * transaction as the mutation itself.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Entity
+@Table(name = "todo_outbox", indexes = {
+    @Index(name = "idx_todo_outbox_todo_id", columnList = "todo_id"),
+    @Index(name = "idx_todo_outbox_created_date", columnList = "created_date")
+})
+public class TodoOutboxEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "id")
+  private long id;
+
+  @Column(name = "todo_id", nullable = false)
+  private int todoId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "event_type", nullable = false, length = 16)
+  private TodoEventType eventType;
+
+  @Lob
+  @Column(name = "payload")
+  private String payload;
+
+  @Column(name = "created_date", nullable = false)
+  private LocalDateTime createdDate;
+
+  /**
+   * Getter method to get sequence of the outbox record.
+   *
+   * @return sequence for the outbox record.
+   */
+  public long getId() {
+    return id;
+  }
+
+  /**
+   * Setter method to set sequence of the outbox record.
+   *
+   * @param id sequence for the outbox record.
+   */
+  public void setId(long id) {
+    this.id = id;
+  }
+
+  /**
+   * Getter method to get id of the todo which is mutated.
+   *
+   * @return id of the todo.
+   */
+  public int getTodoId() {
+    return todoId;
+  }
+
+  /**
+   * Setter method to set id of the todo which is mutated.
+   *
+   * @param todoId id of the todo.
+   */
+  public void setTodoId(int todoId) {
+    this.todoId = todoId;
+  }
+
+  /**
+   * Getter method to get type of the mutation.
+   *
+   * @return {@link TodoEventType}.
+   */
+  public TodoEventType getEventType() {
+    return eventType;
+  }
+
+  /**
+   * Setter method to set type of the mutation.
+   *
+   * @param eventType {@link TodoEventType}.
+   */
+  public void setEventType(TodoEventType eventType) {
+    this.eventType = eventType;
+  }
+
+  /**
+   * Getter method to get json payload of the todo after mutation.
+   *
+   * @return json payload, null for deleted todo.
+   */
+  public String getPayload() {
+    return payload;
+  }
+
+  /**
+   * Setter method to set json payload of the todo after mutation.
+   *
+   * @param payload json payload, null for deleted todo.
+   */
+  public void setPayload(String payload) {
+    this.payload = payload;
+  }
+
+  /**
+   * Getter method to get date time when mutation is recorded.
+   *
+   * @return LocalDateTime.
+   */
+  public LocalDateTime getCreatedDate() {
+    return createdDate;
+  }
+
+  /**
+   * Setter method to set date time when mutation is recorded.
+   *
+   * @param createdDate LocalDateTime when mutation is recorded.
+   */
+  public void setCreatedDate(LocalDateTime createdDate) {
+    this.createdDate = createdDate;
+  }
+}
@@ -0,0 +1,83 @@
+package com.suyogmirgal.todomvc.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * This is entity class which holds the high watermark i.e.
+ * last relayed outbox sequence for an outbox consumer.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Entity
+@Table(name = "todo_outbox_watermark")
+public class TodoOutboxWatermarkEntity {
+
+  @Id
+  @Column(name = "consumer", length = 64)
+  private String consumer;
+
+  @Column(name = "last_sequence", nullable = false)
+  private long lastSequence;
+
+  @Column(name = "updated_date")
+  private LocalDateTime updatedDate;
+
+  /**
+   * Getter method to get name of the outbox consumer.
+   *
+   * @return name of the consumer.
+   */
+  public String getConsumer() {
+    return consumer;
+  }
+
+  /**
+   * Setter method to set name of the outbox consumer.
+   *
+   * @param consumer name of the consumer.
+   */
+  public void setConsumer(String consumer) {
+    this.consumer = consumer;
+  }
+
+  /**
+   * Getter method to get last relayed outbox sequence.
+   *
+   * @return last relayed outbox sequence.
+   */
+  public long getLastSequence() {
+    return lastSequence;
+  }
+
+  /**
+   * Setter method to set last relayed outbox sequence.
+   *
+   * @param lastSequence last relayed outbox sequence.
+   */
+  public void setLastSequence(long lastSequence) {
+    this.lastSequence = lastSequence;
+  }
+
+  /**
+   * Getter method to get date time when watermark is updated.
+   *
+   * @return LocalDateTime.
+   */
+  public LocalDateTime getUpdatedDate() {
+    return updatedDate;
+  }
+
+  /**
+   * Setter method to set date time when watermark is updated.
+   *
+   * @param updatedDate LocalDateTime when watermark is updated.
+   */
+  public void setUpdatedDate(LocalDateTime updatedDate) {
+    this.updatedDate = updatedDate;
+  }
+}
@@ -0,0 +1,66 @@
+package com.suyogmirgal.todomvc.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * This class identifies client of a request by the configured header,
+ * or by remote address if header is not configured or not sent.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoClientResolver {
+
+  private final String clientHeader;
+
+  private final boolean remoteAddressFallback;
+
+  /**
+   * Parameterized constructor for {@link TodoClientResolver} which falls back to remote address.
+   *
+   * @param clientHeader header which identifies client, blank to identify clients by remote address.
+   */
+  public TodoClientResolver(String clientHeader) {
+    this(clientHeader, true);
+  }
+
+  /**
+   * Parameterized constructor for {@link TodoClientResolver}.
+   *
+   * @param clientHeader header which identifies client, blank to identify clients only by remote address.
+   * @param remoteAddressFallback true to identify clients by remote address if header is not configured or not sent.
+   */
+  public TodoClientResolver(String clientHeader, boolean remoteAddressFallback) {
+    this.clientHeader = clientHeader == null || clientHeader.isBlank() ? null : clientHeader;
+    this.remoteAddressFallback = remoteAddressFallback;
+  }
+
+  /**
+   * This method tells if remote address identifies a client. Behind a load balancer it does
+   * only if the address is taken from forwarded headers, otherwise all clients share the
+   * address of the balancer.
+   *
+   * @param forwardHeadersStrategy value of {@code server.forward-headers-strategy}.
+   * @return true if forwarded headers are applied to remote address.
+   */
+  public static boolean isRemoteAddressTrusted(String forwardHeadersStrategy) {
+    return forwardHeadersStrategy != null && !forwardHeadersStrategy.isBlank()
+        && !"none".equalsIgnoreCase(forwardHeadersStrategy.trim());
+  }
+
+  /**
+   * This method provides client of the request.
+   *
+   * @param request http request.
+   * @return client identifier, null if header is not sent and remote address is not used.
+   */
+  public String resolve(HttpServletRequest request) {
+    if(clientHeader != null) {
+      String client = request.getHeader(clientHeader);
+      if(client != null && !client.isBlank()) {
+        return client;
+      }
+    }
+    return remoteAddressFallback ? request.getRemoteAddr() : null;
+  }
+}
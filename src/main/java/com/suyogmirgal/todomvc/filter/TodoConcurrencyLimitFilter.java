@@ -0,0 +1,69 @@
+package com.suyogmirgal.todomvc.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * This is filter which admits requests through {@link TodoConcurrencyLimiter}.
+ * Requests over the limit are shed with 503 and Retry-After, so the service
+ * keeps serving admitted requests at normal latency under overload.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoConcurrencyLimitFilter extends OncePerRequestFilter {
+
+  private final TodoConcurrencyLimiter todoConcurrencyLimiter;
+
+  private final Counter rejectedCounter;
+
+  /**
+   * Parameterized constructor for {@link TodoConcurrencyLimitFilter}.
+   *
+   * @param todoConcurrencyLimiter instance of {@link TodoConcurrencyLimiter}.
+   * @param meterRegistry registry to which concurrency limit metrics are published.
+   */
+  public TodoConcurrencyLimitFilter(TodoConcurrencyLimiter todoConcurrencyLimiter, MeterRegistry meterRegistry) {
+    this.todoConcurrencyLimiter = todoConcurrencyLimiter;
+    this.rejectedCounter = Counter.builder("todo.concurrency.rejected")
+        .description("Requests shed because concurrency limit was reached")
+        .register(meterRegistry);
+    Gauge.builder("todo.concurrency.limit", todoConcurrencyLimiter, TodoConcurrencyLimiter::getLimit)
+        .description("Current adaptive concurrency limit")
+        .register(meterRegistry);
+    Gauge.builder("todo.concurrency.inflight", todoConcurrencyLimiter, TodoConcurrencyLimiter::getInFlight)
+        .description("Requests in flight")
+        .register(meterRegistry);
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    if(!todoConcurrencyLimiter.tryAcquire()) {
+      rejectedCounter.increment();
+      response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+      response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+      response.getWriter().write("service is overloaded, retry later.");
+      return;
+    }
+    long startNanos = System.nanoTime();
+    long rttNanos = -1;
+    try {
+      filterChain.doFilter(request, response);
+      if(response.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+        rttNanos = System.nanoTime() - startNanos;
+      }
+    } finally {
+      todoConcurrencyLimiter.release(rttNanos);
+    }
+  }
+}
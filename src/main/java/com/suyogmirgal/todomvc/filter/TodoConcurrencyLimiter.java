@@ -0,0 +1,156 @@
+package com.suyogmirgal.todomvc.filter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This is adaptive concurrency limiter. Limit follows the gradient between the long
+ * term and the recent latency of requests: while recent latency stays close to the
+ * long term latency limit grows by a queue allowance of sqrt(limit), once requests
+ * start queueing and recent latency rises, limit shrinks in proportion. Requests over
+ * the limit are rejected right away instead of queueing for a connection.
+ *
+ * <p>Releases only add their latency to the current window without locking. Once a window
+ * holds {@value #WINDOW_SAMPLES} samples, one releasing thread folds its average latency
+ * into the limit while the others carry on.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoConcurrencyLimiter {
+
+  private static final double SHORT_SMOOTHING = 0.1;
+
+  private static final double LONG_SMOOTHING = 0.01;
+
+  private static final double LIMIT_SMOOTHING = 0.2;
+
+  private static final int WINDOW_SAMPLES = 10;
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+
+  private final LongAdder windowRttNanos = new LongAdder();
+
+  private final LongAdder windowSamples = new LongAdder();
+
+  private final LongAccumulator windowMaxInFlight = new LongAccumulator(Math::max, 0);
+
+  private final ReentrantLock updateLock = new ReentrantLock();
+
+  private final int minLimit;
+
+  private final int maxLimit;
+
+  private final double tolerance;
+
+  private volatile double limit;
+
+  //guarded by updateLock
+  private double shortRttNanos;
+
+  private double longRttNanos;
+
+  /**
+   * Parameterized constructor for {@link TodoConcurrencyLimiter}.
+   *
+   * @param initialLimit limit until latency samples arrive.
+   * @param minLimit limit never goes below.
+   * @param maxLimit limit never goes above.
+   * @param tolerance ratio by which recent latency may exceed long term latency before limit shrinks.
+   */
+  public TodoConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double tolerance) {
+    if(minLimit < 1 || maxLimit < minLimit || tolerance < 1) {
+      throw new IllegalArgumentException("invalid concurrency limits");
+    }
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.tolerance = tolerance;
+    this.limit = Math.min(maxLimit, Math.max(minLimit, initialLimit));
+  }
+
+  /**
+   * This method admits a request if number of requests in flight is below the limit.
+   * Admitted request has to be followed by {@link #release(long)}.
+   *
+   * @return true if request is admitted.
+   */
+  public boolean tryAcquire() {
+    int current = inFlight.incrementAndGet();
+    if(current > (int) limit) {
+      inFlight.decrementAndGet();
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * This method releases admitted request and adapts the limit to its latency.
+   *
+   * @param rttNanos latency of the request in nanoseconds, negative if it failed and must not be sampled.
+   */
+  public void release(long rttNanos) {
+    int inFlightBeforeRelease = inFlight.getAndDecrement();
+    if(rttNanos < 0) {
+      return;
+    }
+    windowRttNanos.add(rttNanos);
+    windowMaxInFlight.accumulate(inFlightBeforeRelease);
+    windowSamples.increment();
+    if(windowSamples.sum() >= WINDOW_SAMPLES && updateLock.tryLock()) {
+      try {
+        updateLimit();
+      } finally {
+        updateLock.unlock();
+      }
+    }
+  }
+
+  private void updateLimit() {
+    long samples = windowSamples.sumThenReset();
+    if(samples == 0) {
+      return;
+    }
+    double rttNanos = (double) windowRttNanos.sumThenReset() / samples;
+    long maxInFlight = windowMaxInFlight.getThenReset();
+    if(longRttNanos == 0) {
+      shortRttNanos = rttNanos;
+      longRttNanos = rttNanos;
+      return;
+    }
+    shortRttNanos = shortRttNanos * (1 - SHORT_SMOOTHING) + rttNanos * SHORT_SMOOTHING;
+    longRttNanos = longRttNanos * (1 - LONG_SMOOTHING) + rttNanos * LONG_SMOOTHING;
+    if(longRttNanos > shortRttNanos * 2) {
+      // Latency dropped for good, let long term latency catch up instead of growing the limit for long.
+      longRttNanos *= 0.95;
+    }
+    double currentLimit = limit;
+    if(maxInFlight < currentLimit / 2) {
+      // Limit was not what kept requests back, so latency says nothing about it.
+      return;
+    }
+    double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / shortRttNanos));
+    double newLimit = currentLimit * gradient + Math.sqrt(currentLimit);
+    newLimit = currentLimit * (1 - LIMIT_SMOOTHING) + newLimit * LIMIT_SMOOTHING;
+    limit = Math.min(maxLimit, Math.max(minLimit, newLimit));
+  }
+
+  /**
+   * This method provides current limit.
+   *
+   * @return max number of requests in flight.
+   */
+  public int getLimit() {
+    return (int) limit;
+  }
+
+  /**
+   * This method provides number of requests in flight.
+   *
+   * @return number of requests in flight.
+   */
+  public int getInFlight() {
+    return inFlight.get();
+  }
+}
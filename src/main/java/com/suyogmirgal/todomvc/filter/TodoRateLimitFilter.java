@@ -0,0 +1,115 @@
+package com.suyogmirgal.todomvc.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * This is filter which limits rate of requests of every client with its own
+ * {@link TodoTokenBucket}. Client is identified by {@link TodoClientResolver}. Requests over the
+ * limit are answered with 429 and Retry-After without reaching the controller.
+ * Once {@code maxClients} clients have a bucket, further clients get a bucket of their remote
+ * address, so clients making up header values can not push others into a shared bucket.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoRateLimitFilter extends OncePerRequestFilter {
+
+  static final String OVERFLOW_CLIENT = "*";
+
+  private final Map<String, TodoTokenBucket> buckets = new ConcurrentHashMap<>();
+
+  private final double permitsPerSecond;
+
+  private final int burst;
+
+  private final TodoClientResolver todoClientResolver;
+
+  private final int maxClients;
+
+  private final LongSupplier nanoClock;
+
+  private final Counter rejectedCounter;
+
+  /**
+   * Parameterized constructor for {@link TodoRateLimitFilter}.
+   *
+   * @param permitsPerSecond requests per second allowed for every client.
+   * @param burst max number of requests a client can send at once after being idle.
+   * @param clientHeader header which identifies client, blank to identify clients by remote address.
+   * @param maxClients max number of clients with own bucket, further clients share one bucket per remote address.
+   * @param meterRegistry registry to which rate limit metrics are published.
+   * @param nanoClock source of current time in nanoseconds.
+   */
+  public TodoRateLimitFilter(double permitsPerSecond, int burst, String clientHeader, int maxClients,
+      MeterRegistry meterRegistry, LongSupplier nanoClock) {
+    this.permitsPerSecond = permitsPerSecond;
+    this.burst = burst;
+    this.todoClientResolver = new TodoClientResolver(clientHeader);
+    this.maxClients = maxClients;
+    this.nanoClock = nanoClock;
+    this.rejectedCounter = Counter.builder("todo.ratelimit.rejected")
+        .description("Requests rejected because client exceeded its rate limit")
+        .register(meterRegistry);
+    Gauge.builder("todo.ratelimit.clients", buckets, Map::size)
+        .description("Clients with a rate limit bucket")
+        .register(meterRegistry);
+    Gauge.builder("todo.ratelimit.permits-per-second", () -> permitsPerSecond)
+        .description("Requests per second allowed for every client")
+        .register(meterRegistry);
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    long nowNanos = nanoClock.getAsLong();
+    long waitNanos = bucket(todoClientResolver.resolve(request), request.getRemoteAddr(), nowNanos)
+        .tryAcquire(nowNanos);
+    if(waitNanos > 0) {
+      rejectedCounter.increment();
+      response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+      response.setHeader(HttpHeaders.RETRY_AFTER,
+          String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L))));
+      response.getWriter().write("rate limit exceeded, retry later.");
+      return;
+    }
+    filterChain.doFilter(request, response);
+  }
+
+  /**
+   * This method removes buckets of clients which have been idle long enough for the bucket to refill,
+   * such client gets an identical new bucket on its next request.
+   *
+   * @return number of removed buckets.
+   */
+  @Scheduled(fixedDelayString = "${todo.rate-limit.eviction-interval-ms:60000}")
+  public int evictIdleBuckets() {
+    long nowNanos = nanoClock.getAsLong();
+    int before = buckets.size();
+    buckets.values().removeIf(bucket -> bucket.isFull(nowNanos));
+    return before - buckets.size();
+  }
+
+  private TodoTokenBucket bucket(String client, String remoteAddress, long nowNanos) {
+    TodoTokenBucket bucket = buckets.get(client);
+    if(bucket != null) {
+      return bucket;
+    }
+    String bucketKey = buckets.size() < maxClients ? client : OVERFLOW_CLIENT + remoteAddress;
+    return buckets.computeIfAbsent(bucketKey, key -> new TodoTokenBucket(permitsPerSecond, burst, nowNanos));
+  }
+}
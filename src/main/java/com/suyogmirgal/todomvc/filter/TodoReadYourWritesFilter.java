@@ -0,0 +1,47 @@
+package com.suyogmirgal.todomvc.filter;
+
+import com.suyogmirgal.todomvc.datasource.TodoReadYourWritesContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * This is filter which binds the client of every request to {@link TodoReadYourWritesContext},
+ * so writes of the client are recorded when they commit and its reads right after a write
+ * are served by the primary.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoReadYourWritesFilter extends OncePerRequestFilter {
+
+  private final TodoReadYourWritesContext todoReadYourWritesContext;
+
+  private final TodoClientResolver todoClientResolver;
+
+  /**
+   * Parameterized constructor for {@link TodoReadYourWritesFilter}.
+   *
+   * @param todoReadYourWritesContext instance of {@link TodoReadYourWritesContext}.
+   * @param todoClientResolver instance of {@link TodoClientResolver}.
+   */
+  public TodoReadYourWritesFilter(TodoReadYourWritesContext todoReadYourWritesContext,
+      TodoClientResolver todoClientResolver) {
+    this.todoReadYourWritesContext = todoReadYourWritesContext;
+    this.todoClientResolver = todoClientResolver;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    todoReadYourWritesContext.bind(todoClientResolver.resolve(request));
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      todoReadYourWritesContext.clear();
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package com.suyogmirgal.todomvc.filter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is lock free token bucket. It is implemented as generic cell rate algorithm,
+ * so the whole state is a single theoretical arrival time which is updated by
+ * compare and set, and tokens are refilled continuously without a timer.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoTokenBucket {
+
+  private final long emissionIntervalNanos;
+
+  private final long burstNanos;
+
+  private final AtomicLong theoreticalArrivalNanos;
+
+  /**
+   * Parameterized constructor for {@link TodoTokenBucket}.
+   *
+   * @param permitsPerSecond rate at which tokens are refilled.
+   * @param burst max number of tokens bucket holds.
+   * @param nowNanos current time in nanoseconds, bucket starts full.
+   */
+  public TodoTokenBucket(double permitsPerSecond, int burst, long nowNanos) {
+    if(permitsPerSecond <= 0 || burst < 1) {
+      throw new IllegalArgumentException("permitsPerSecond and burst have to be positive");
+    }
+    this.emissionIntervalNanos = Math.max(1L, (long) (1_000_000_000L / permitsPerSecond));
+    this.burstNanos = emissionIntervalNanos * burst;
+    this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+  }
+
+  /**
+   * This method takes a token if bucket has one.
+   *
+   * @param nowNanos current time in nanoseconds.
+   * @return 0 if token is taken, else nanoseconds after which a token will be available.
+   */
+  public long tryAcquire(long nowNanos) {
+    while(true) {
+      long theoreticalArrival = theoreticalArrivalNanos.get();
+      long nextTheoreticalArrival = Math.max(theoreticalArrival, nowNanos) + emissionIntervalNanos;
+      long waitNanos = nextTheoreticalArrival - nowNanos - burstNanos;
+      if(waitNanos > 0) {
+        return waitNanos;
+      }
+      if(theoreticalArrivalNanos.compareAndSet(theoreticalArrival, nextTheoreticalArrival)) {
+        return 0;
+      }
+    }
+  }
+
+  /**
+   * This method tells if bucket is full, which makes it the same as a new bucket.
+   *
+   * @param nowNanos current time in nanoseconds.
+   * @return true if bucket is full.
+   */
+  public boolean isFull(long nowNanos) {
+    return theoreticalArrivalNanos.get() - nowNanos <= 0;
+  }
+}
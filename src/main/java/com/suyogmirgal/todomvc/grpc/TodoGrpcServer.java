@@ -0,0 +1,93 @@
+package com.suyogmirgal.todomvc.grpc;
+
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Server;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * This is gRPC server which serves {@link TodoGrpcService} in the same process
+ * as the REST API, on its own port. It is started once the application context
+ * is refreshed and stopped gracefully before the context is closed.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Component
+@ConditionalOnProperty(name = "todo.grpc.enabled", havingValue = "true", matchIfMissing = true)
+public class TodoGrpcServer implements SmartLifecycle {
+
+  private final TodoGrpcService todoGrpcService;
+
+  private final int port;
+
+  private final long shutdownTimeoutMillis;
+
+  private volatile Server server;
+
+  /**
+   * Parameterized constructor for {@link TodoGrpcServer}.
+   *
+   * @param todoGrpcService instance of {@link TodoGrpcService}.
+   * @param port port to listen on, 0 for any free port.
+   * @param shutdownTimeoutMillis max time in milliseconds in-flight calls are given to finish on stop.
+   */
+  public TodoGrpcServer(TodoGrpcService todoGrpcService,
+      @Value("${todo.grpc.port:9090}") int port,
+      @Value("${todo.grpc.shutdown-timeout-ms:10000}") long shutdownTimeoutMillis) {
+    this.todoGrpcService = todoGrpcService;
+    this.port = port;
+    this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+  }
+
+  @Override
+  public void start() {
+    try {
+      server = Grpc.newServerBuilderForPort(port, InsecureServerCredentials.create())
+          .addService(todoGrpcService)
+          .build()
+          .start();
+    } catch (IOException ex) {
+      throw new UncheckedIOException("could not start gRPC server on port " + port, ex);
+    }
+  }
+
+  @Override
+  public void stop() {
+    Server runningServer = server;
+    if(runningServer == null) {
+      return;
+    }
+    runningServer.shutdown();
+    try {
+      if(!runningServer.awaitTermination(shutdownTimeoutMillis, TimeUnit.MILLISECONDS)) {
+        runningServer.shutdownNow();
+      }
+    } catch (InterruptedException ex) {
+      runningServer.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+    server = null;
+  }
+
+  @Override
+  public boolean isRunning() {
+    return server != null;
+  }
+
+  /**
+   * This method provides port the server listens on.
+   *
+   * @return port, or -1 if server is not running.
+   */
+  public int getPort() {
+    Server runningServer = server;
+    return runningServer == null ? -1 : runningServer.getPort();
+  }
+}
@@ -0,0 +1,237 @@
+package com.suyogmirgal.todomvc.grpc;
+
+import com.suyogmirgal.todomvc.model.TodoDto;
+import com.suyogmirgal.todomvc.service.TodoService;
+import com.suyogmirgal.todomvc.service.TodoWriteBehindOverflowException;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * This is gRPC service which exposes {@link TodoService} to internal consumers,
+ * next to the REST API of {@link com.suyogmirgal.todomvc.controller.TodoController}.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Component
+public class TodoGrpcService extends TodosGrpc.TodosImplBase {
+
+  private final TodoService todoService;
+
+  private final int bulkCreateBatchSize;
+
+  private final int listPageSize;
+
+  /**
+   * Parameterized constructor for {@link TodoGrpcService}.
+   *
+   * @param todoService instance of {@link TodoService}.
+   * @param bulkCreateBatchSize number of streamed todos created in one transaction by bulk create.
+   * @param listPageSize number of todos read from the database at once by list todos.
+   */
+  public TodoGrpcService(TodoService todoService,
+      @Value("${todo.grpc.bulk-create.batch-size:500}") int bulkCreateBatchSize,
+      @Value("${todo.grpc.list.page-size:500}") int listPageSize) {
+    this.todoService = todoService;
+    this.bulkCreateBatchSize = bulkCreateBatchSize;
+    this.listPageSize = listPageSize;
+  }
+
+  @Override
+  public void createTodo(CreateTodoRequest request, StreamObserver<Todo> responseObserver) {
+    if(!request.hasOrder()) {
+      responseObserver.onError(orderMissing());
+      return;
+    }
+    try {
+      responseObserver.onNext(toTodo(todoService.createTodo(toTodoDto(request))));
+      responseObserver.onCompleted();
+    } catch (TodoWriteBehindOverflowException ex) {
+      responseObserver.onError(Status.RESOURCE_EXHAUSTED.withDescription(ex.getMessage()).asRuntimeException());
+    }
+  }
+
+  @Override
+  public void getTodo(GetTodoRequest request, StreamObserver<Todo> responseObserver) {
+    Optional<TodoDto> todoDto = todoService.getTodoById(request.getId());
+    if(todoDto.isPresent()) {
+      responseObserver.onNext(toTodo(todoDto.get()));
+      responseObserver.onCompleted();
+    } else {
+      responseObserver.onError(notFound(request.getId()));
+    }
+  }
+
+  @Override
+  public void updateTodo(UpdateTodoRequest request, StreamObserver<Todo> responseObserver) {
+    TodoDto updatedTodo = new TodoDto(request.getId(), request.hasTitle() ? request.getTitle() : null,
+        request.hasOrder() ? request.getOrder() : null, request.getIsCompleted(), null, null);
+    Optional<TodoDto> todoDto = todoService.updateTodoById(request.getId(), updatedTodo);
+    if(todoDto.isPresent()) {
+      responseObserver.onNext(toTodo(todoDto.get()));
+      responseObserver.onCompleted();
+    } else {
+      responseObserver.onError(notFound(request.getId()));
+    }
+  }
+
+  @Override
+  public void deleteTodo(DeleteTodoRequest request, StreamObserver<DeleteTodoResponse> responseObserver) {
+    boolean deleted = todoService.deleteTodoById(request.getId());
+    responseObserver.onNext(DeleteTodoResponse.newBuilder().setDeleted(deleted).build());
+    responseObserver.onCompleted();
+  }
+
+  /**
+   * Streams todos page by page. Todos are sent only while the client is ready to receive, and
+   * the next page is read once the client has taken the previous one, so a slow client holds
+   * back reading instead of todos piling up in transport buffers, and it holds no database
+   * connection while it is not ready. Streaming stops as soon as the call is cancelled.
+   */
+  @Override
+  public void listTodos(ListTodosRequest request, StreamObserver<Todo> responseObserver) {
+    ServerCallStreamObserver<Todo> serverCallStreamObserver = (ServerCallStreamObserver<Todo>) responseObserver;
+    serverCallStreamObserver.setOnCancelHandler(() -> {
+    });
+    serverCallStreamObserver.setOnReadyHandler(new Runnable() {
+
+      private Iterator<TodoDto> page = Collections.emptyIterator();
+
+      private int lastOrder = Integer.MIN_VALUE;
+
+      private int lastId = Integer.MIN_VALUE;
+
+      private boolean completed;
+
+      @Override
+      public void run() {
+        try {
+          while(!completed && serverCallStreamObserver.isReady() && !serverCallStreamObserver.isCancelled()) {
+            if(!page.hasNext()) {
+              List<TodoDto> todoDtoList = todoService.getTodosAfter(lastOrder, lastId, listPageSize);
+              if(todoDtoList.isEmpty()) {
+                completed = true;
+                serverCallStreamObserver.onCompleted();
+                return;
+              }
+              page = todoDtoList.iterator();
+            }
+            TodoDto todoDto = page.next();
+            lastOrder = todoDto.getOrder();
+            lastId = todoDto.getId();
+            serverCallStreamObserver.onNext(toTodo(todoDto));
+          }
+        } catch (RuntimeException ex) {
+          completed = true;
+          if(!serverCallStreamObserver.isCancelled()) {
+            serverCallStreamObserver.onError(Status.INTERNAL.withDescription("unable to list todos")
+                .withCause(ex).asRuntimeException());
+          }
+        }
+      }
+    });
+  }
+
+  @Override
+  public StreamObserver<CreateTodoRequest> bulkCreate(StreamObserver<BulkCreateResponse> responseObserver) {
+    return new StreamObserver<>() {
+
+      private List<TodoDto> batch = new ArrayList<>(bulkCreateBatchSize);
+
+      private int createdCount;
+
+      private boolean failed;
+
+      @Override
+      public void onNext(CreateTodoRequest request) {
+        if(failed) {
+          return;
+        }
+        if(!request.hasOrder()) {
+          failed = true;
+          responseObserver.onError(Status.INVALID_ARGUMENT
+              .withDescription("order of the todo is required, " + createdCount + " todos were created")
+              .asRuntimeException());
+          return;
+        }
+        batch.add(toTodoDto(request));
+        if(batch.size() >= bulkCreateBatchSize) {
+          flush();
+        }
+      }
+
+      @Override
+      public void onError(Throwable throwable) {
+        batch = new ArrayList<>(0);
+      }
+
+      @Override
+      public void onCompleted() {
+        if(failed) {
+          return;
+        }
+        flush();
+        if(!failed) {
+          responseObserver.onNext(BulkCreateResponse.newBuilder().setCreatedCount(createdCount).build());
+          responseObserver.onCompleted();
+        }
+      }
+
+      private void flush() {
+        if(batch.isEmpty()) {
+          return;
+        }
+        try {
+          createdCount += todoService.createTodos(batch).size();
+          batch = new ArrayList<>(bulkCreateBatchSize);
+        } catch (TodoWriteBehindOverflowException ex) {
+          failed = true;
+          responseObserver.onError(Status.RESOURCE_EXHAUSTED
+              .withDescription(ex.getMessage() + ", " + createdCount + " todos were created")
+              .asRuntimeException());
+        }
+      }
+    };
+  }
+
+  private TodoDto toTodoDto(CreateTodoRequest request) {
+    return new TodoDto(0, request.getTitle(), request.getOrder(), request.getIsCompleted(), null, null);
+  }
+
+  private Todo toTodo(TodoDto todoDto) {
+    Todo.Builder builder = Todo.newBuilder()
+        .setId(todoDto.getId())
+        .setIsCompleted(todoDto.isCompleted());
+    if(todoDto.getTitle() != null) {
+      builder.setTitle(todoDto.getTitle());
+    }
+    if(todoDto.getOrder() != null) {
+      builder.setOrder(todoDto.getOrder());
+    }
+    if(todoDto.getCreatedDate() != null) {
+      builder.setCreatedDate(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(todoDto.getCreatedDate()));
+    }
+    if(todoDto.getUpdatedDate() != null) {
+      builder.setUpdatedDate(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(todoDto.getUpdatedDate()));
+    }
+    return builder.build();
+  }
+
+  private StatusRuntimeException orderMissing() {
+    return Status.INVALID_ARGUMENT.withDescription("order of the todo is required.").asRuntimeException();
+  }
+
+  private StatusRuntimeException notFound(int todoId) {
+    return Status.NOT_FOUND.withDescription("todo with id " + todoId + " does not exist.").asRuntimeException();
+  }
+}
@@ -0,0 +1,57 @@
+package com.suyogmirgal.todomvc.model;
+
+import java.util.List;
+
+/**
+ * This class instance is used as DTO which holds
+ * todos changed and deleted since a change token.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoChangesDto {
+
+  private final long nextToken;
+  private final List<TodoDto> changed;
+  private final List<Integer> deleted;
+
+  /**
+   * Parameterized constructor for {@link TodoChangesDto}
+   *
+   * @param nextToken change token to be sent by client on next sync.
+   * @param changed todos created or updated since the change token.
+   * @param deleted ids of todos deleted since the change token.
+   */
+  public TodoChangesDto(long nextToken, List<TodoDto> changed, List<Integer> deleted) {
+    this.nextToken = nextToken;
+    this.changed = changed;
+    this.deleted = deleted;
+  }
+
+  /**
+   * Getter method to get change token to be sent by client on next sync.
+   *
+   * @return change token.
+   */
+  public long getNextToken() {
+    return nextToken;
+  }
+
+  /**
+   * Getter method to get todos created or updated since the change token.
+   *
+   * @return List of {@link TodoDto}.
+   */
+  public List<TodoDto> getChanged() {
+    return changed;
+  }
+
+  /**
+   * Getter method to get ids of todos deleted since the change token.
+   *
+   * @return List of todo ids.
+   */
+  public List<Integer> getDeleted() {
+    return deleted;
+  }
+}
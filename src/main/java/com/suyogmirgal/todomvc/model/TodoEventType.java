@@ -0,0 +1,14 @@
+package com.suyogmirgal.todomvc.model;
+
+/**
+ * This enum holds the type of mutation which
+ * is recorded in the todo outbox.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public enum TodoEventType {
+  CREATED,
+  UPDATED,
+  DELETED
+}
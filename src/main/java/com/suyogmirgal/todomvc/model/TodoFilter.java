@@ -0,0 +1,82 @@
+package com.suyogmirgal.todomvc.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * This class instance holds the criteria by which
+ * todos are filtered on list APIs. Null bounds are ignored.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoFilter {
+
+  private final TodoStatusFilter status;
+  private final LocalDateTime createdFrom;
+  private final LocalDateTime createdTo;
+  private final LocalDateTime updatedFrom;
+  private final LocalDateTime updatedTo;
+
+  /**
+   * Parameterized constructor for {@link TodoFilter}
+   *
+   * @param status status of the todos.
+   * @param createdFrom inclusive lower bound of created date time.
+   * @param createdTo inclusive upper bound of created date time.
+   * @param updatedFrom inclusive lower bound of updated date time.
+   * @param updatedTo inclusive upper bound of updated date time.
+   */
+  public TodoFilter(TodoStatusFilter status, LocalDateTime createdFrom, LocalDateTime createdTo,
+      LocalDateTime updatedFrom, LocalDateTime updatedTo) {
+    this.status = status;
+    this.createdFrom = createdFrom;
+    this.createdTo = createdTo;
+    this.updatedFrom = updatedFrom;
+    this.updatedTo = updatedTo;
+  }
+
+  /**
+   * Getter method to get status of the todos.
+   *
+   * @return {@link TodoStatusFilter}.
+   */
+  public TodoStatusFilter getStatus() {
+    return status;
+  }
+
+  /**
+   * Getter method to get inclusive lower bound of created date time.
+   *
+   * @return LocalDateTime or null.
+   */
+  public LocalDateTime getCreatedFrom() {
+    return createdFrom;
+  }
+
+  /**
+   * Getter method to get inclusive upper bound of created date time.
+   *
+   * @return LocalDateTime or null.
+   */
+  public LocalDateTime getCreatedTo() {
+    return createdTo;
+  }
+
+  /**
+   * Getter method to get inclusive lower bound of updated date time.
+   *
+   * @return LocalDateTime or null.
+   */
+  public LocalDateTime getUpdatedFrom() {
+    return updatedFrom;
+  }
+
+  /**
+   * Getter method to get inclusive upper bound of updated date time.
+   *
+   * @return LocalDateTime or null.
+   */
+  public LocalDateTime getUpdatedTo() {
+    return updatedTo;
+  }
+}
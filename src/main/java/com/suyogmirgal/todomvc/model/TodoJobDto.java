@@ -0,0 +1,106 @@
+package com.suyogmirgal.todomvc.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * This class instance is used as DTO which holds
+ * the progress of a background todo job.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoJobDto {
+
+  private final String id;
+  private final TodoJobStatus status;
+  private final long processedCount;
+  private final long estimatedCount;
+  private final LocalDateTime startedDate;
+  private final LocalDateTime finishedDate;
+  private final String failureReason;
+
+  /**
+   * Parameterized constructor for {@link TodoJobDto}
+   *
+   * @param id id of the job.
+   * @param status status of the job.
+   * @param processedCount number of todos processed so far.
+   * @param estimatedCount number of todos expected to be processed when job started.
+   * @param startedDate date time on which job is started.
+   * @param finishedDate date time on which job is finished, null while job is running.
+   * @param failureReason reason why job failed, null unless job failed.
+   */
+  public TodoJobDto(String id, TodoJobStatus status, long processedCount, long estimatedCount,
+      LocalDateTime startedDate, LocalDateTime finishedDate, String failureReason) {
+    this.id = id;
+    this.status = status;
+    this.processedCount = processedCount;
+    this.estimatedCount = estimatedCount;
+    this.startedDate = startedDate;
+    this.finishedDate = finishedDate;
+    this.failureReason = failureReason;
+  }
+
+  /**
+   * Getter method to get id of the job.
+   *
+   * @return id of the job.
+   */
+  public String getId() {
+    return id;
+  }
+
+  /**
+   * Getter method to get status of the job.
+   *
+   * @return {@link TodoJobStatus}.
+   */
+  public TodoJobStatus getStatus() {
+    return status;
+  }
+
+  /**
+   * Getter method to get number of todos processed so far.
+   *
+   * @return number of todos processed so far.
+   */
+  public long getProcessedCount() {
+    return processedCount;
+  }
+
+  /**
+   * Getter method to get number of todos expected to be processed when job started.
+   *
+   * @return number of todos expected to be processed.
+   */
+  public long getEstimatedCount() {
+    return estimatedCount;
+  }
+
+  /**
+   * Getter method to get date time on which job is started.
+   *
+   * @return LocalDateTime in the format '"yyyy-MM-dd'T'HH:mm:ss"' when job is started.
+   */
+  public LocalDateTime getStartedDate() {
+    return startedDate;
+  }
+
+  /**
+   * Getter method to get date time on which job is finished.
+   *
+   * @return LocalDateTime in the format '"yyyy-MM-dd'T'HH:mm:ss"' when job is finished, null while running.
+   */
+  public LocalDateTime getFinishedDate() {
+    return finishedDate;
+  }
+
+  /**
+   * Getter method to get reason why job failed.
+   *
+   * @return exception which failed the job, null unless job failed.
+   */
+  public String getFailureReason() {
+    return failureReason;
+  }
+}
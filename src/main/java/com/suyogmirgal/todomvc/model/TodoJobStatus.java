@@ -0,0 +1,13 @@
+package com.suyogmirgal.todomvc.model;
+
+/**
+ * This enum holds the status of a background todo job.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public enum TodoJobStatus {
+  RUNNING,
+  COMPLETED,
+  FAILED
+}
@@ -0,0 +1,84 @@
+package com.suyogmirgal.todomvc.model;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import java.time.LocalDateTime;
+
+/**
+ * This class instance is used as DTO which holds
+ * the information about a recorded todo mutation.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoOutboxEventDto {
+
+  private final long sequence;
+  private final int todoId;
+  private final TodoEventType eventType;
+  private final String payload;
+  private final LocalDateTime createdDate;
+
+  /**
+   * Parameterized constructor for {@link TodoOutboxEventDto}
+   *
+   * @param sequence monotonically increasing sequence of the event.
+   * @param todoId id of the todo which is mutated.
+   * @param eventType type of the mutation.
+   * @param payload json of the todo after mutation, null for deleted todo.
+   * @param createdDate date time on which mutation is recorded.
+   */
+  public TodoOutboxEventDto(long sequence, int todoId, TodoEventType eventType, String payload,
+      LocalDateTime createdDate) {
+    this.sequence = sequence;
+    this.todoId = todoId;
+    this.eventType = eventType;
+    this.payload = payload;
+    this.createdDate = createdDate;
+  }
+
+  /**
+   * Getter method to get sequence of the event.
+   *
+   * @return sequence of the event.
+   */
+  public long getSequence() {
+    return sequence;
+  }
+
+  /**
+   * Getter method to get id of the todo which is mutated.
+   *
+   * @return id of the todo.
+   */
+  public int getTodoId() {
+    return todoId;
+  }
+
+  /**
+   * Getter method to get type of the mutation.
+   *
+   * @return {@link TodoEventType}.
+   */
+  public TodoEventType getEventType() {
+    return eventType;
+  }
+
+  /**
+   * Getter method to get json of the todo after mutation.
+   *
+   * @return json of the todo, null for deleted todo.
+   */
+  @JsonRawValue
+  public String getPayload() {
+    return payload;
+  }
+
+  /**
+   * Getter method to get date time when mutation is recorded.
+   *
+   * @return LocalDateTime in the format '"yyyy-MM-dd'T'HH:mm:ss"' when mutation is recorded.
+   */
+  public LocalDateTime getCreatedDate() {
+    return createdDate;
+  }
+}
@@ -0,0 +1,92 @@
+package com.suyogmirgal.todomvc.model;
+
+/**
+ * This class instance is used as DTO which holds
+ * execution statistics of one query.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoQueryStatsDto {
+
+  private final String query;
+  private final long executions;
+  private final long rows;
+  private final long maxTimeMs;
+  private final double avgTimeMs;
+  private final long totalTimeMs;
+
+  /**
+   * Parameterized constructor for {@link TodoQueryStatsDto}
+   *
+   * @param query query string.
+   * @param executions number of executions.
+   * @param rows number of rows returned by all executions.
+   * @param maxTimeMs slowest execution in milliseconds.
+   * @param avgTimeMs average execution in milliseconds.
+   * @param totalTimeMs time of all executions in milliseconds.
+   */
+  public TodoQueryStatsDto(String query, long executions, long rows, long maxTimeMs, double avgTimeMs,
+      long totalTimeMs) {
+    this.query = query;
+    this.executions = executions;
+    this.rows = rows;
+    this.maxTimeMs = maxTimeMs;
+    this.avgTimeMs = avgTimeMs;
+    this.totalTimeMs = totalTimeMs;
+  }
+
+  /**
+   * Getter method to get query string.
+   *
+   * @return query string.
+   */
+  public String getQuery() {
+    return query;
+  }
+
+  /**
+   * Getter method to get number of executions.
+   *
+   * @return number of executions.
+   */
+  public long getExecutions() {
+    return executions;
+  }
+
+  /**
+   * Getter method to get number of rows returned by all executions.
+   *
+   * @return number of rows.
+   */
+  public long getRows() {
+    return rows;
+  }
+
+  /**
+   * Getter method to get slowest execution.
+   *
+   * @return slowest execution in milliseconds.
+   */
+  public long getMaxTimeMs() {
+    return maxTimeMs;
+  }
+
+  /**
+   * Getter method to get average execution.
+   *
+   * @return average execution in milliseconds.
+   */
+  public double getAvgTimeMs() {
+    return avgTimeMs;
+  }
+
+  /**
+   * Getter method to get time of all executions.
+   *
+   * @return time of all executions in milliseconds.
+   */
+  public long getTotalTimeMs() {
+    return totalTimeMs;
+  }
+}
@@ -0,0 +1,69 @@
+package com.suyogmirgal.todomvc.model;
+
+import java.util.List;
+
+/**
+ * This class instance is used as DTO which holds
+ * a page of ranked todo search results.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoSearchResultDto {
+
+  private final long total;
+  private final int page;
+  private final int size;
+  private final List<TodoDto> items;
+
+  /**
+   * Parameterized constructor for {@link TodoSearchResultDto}
+   *
+   * @param total total number of todos matching the query.
+   * @param page index of the page, starting from 0.
+   * @param size requested size of the page.
+   * @param items todos of the page in ranking order.
+   */
+  public TodoSearchResultDto(long total, int page, int size, List<TodoDto> items) {
+    this.total = total;
+    this.page = page;
+    this.size = size;
+    this.items = items;
+  }
+
+  /**
+   * Getter method to get total number of todos matching the query.
+   *
+   * @return total number of matches.
+   */
+  public long getTotal() {
+    return total;
+  }
+
+  /**
+   * Getter method to get index of the page.
+   *
+   * @return index of the page.
+   */
+  public int getPage() {
+    return page;
+  }
+
+  /**
+   * Getter method to get requested size of the page.
+   *
+   * @return size of the page.
+   */
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * Getter method to get todos of the page in ranking order.
+   *
+   * @return List of {@link TodoDto}.
+   */
+  public List<TodoDto> getItems() {
+    return items;
+  }
+}
@@ -0,0 +1,55 @@
+package com.suyogmirgal.todomvc.model;
+
+/**
+ * This class instance is used as DTO which holds
+ * number of all, active and isCompleted todos.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoStatsDto {
+
+  private final long total;
+  private final long active;
+  private final long completed;
+
+  /**
+   * Parameterized constructor for {@link TodoStatsDto}
+   *
+   * @param total number of all todos.
+   * @param active number of active todos.
+   * @param completed number of isCompleted todos.
+   */
+  public TodoStatsDto(long total, long active, long completed) {
+    this.total = total;
+    this.active = active;
+    this.completed = completed;
+  }
+
+  /**
+   * Getter method to get number of all todos.
+   *
+   * @return number of todos.
+   */
+  public long getTotal() {
+    return total;
+  }
+
+  /**
+   * Getter method to get number of active todos.
+   *
+   * @return number of active todos.
+   */
+  public long getActive() {
+    return active;
+  }
+
+  /**
+   * Getter method to get number of isCompleted todos.
+   *
+   * @return number of isCompleted todos.
+   */
+  public long getCompleted() {
+    return completed;
+  }
+}
@@ -0,0 +1,13 @@
+package com.suyogmirgal.todomvc.model;
+
+/**
+ * This enum holds the status by which todos can be filtered.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public enum TodoStatusFilter {
+  ALL,
+  ACTIVE,
+  COMPLETED
+}
@@ -0,0 +1,25 @@
+package com.suyogmirgal.todomvc.repository;
+
+/**
+ * This is projection which holds number of todos,
+ * counted by a single aggregate query.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public interface TodoCounts {
+
+  /**
+   * Getter method to get number of all todos.
+   *
+   * @return number of todos.
+   */
+  long getTotal();
+
+  /**
+   * Getter method to get number of isCompleted todos.
+   *
+   * @return number of isCompleted todos.
+   */
+  long getCompleted();
+}
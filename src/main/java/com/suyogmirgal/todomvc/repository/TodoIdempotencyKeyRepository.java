@@ -0,0 +1,36 @@
+package com.suyogmirgal.todomvc.repository;
+
+import com.suyogmirgal.todomvc.entity.TodoIdempotencyKeyEntity;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * This is repository class which interacts with DB and
+ * provides DB operations for Todo Idempotency Key Entity.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Repository
+public interface TodoIdempotencyKeyRepository extends JpaRepository<TodoIdempotencyKeyEntity, String> {
+
+  @Modifying
+  @Query(value = "insert into todo_idempotency_key (idempotency_key, request_hash, created_date) "
+      + "values (:key, :requestHash, :createdDate)", nativeQuery = true)
+  int reserve(@Param("key") String key, @Param("requestHash") String requestHash,
+      @Param("createdDate") LocalDateTime createdDate);
+
+  @Modifying
+  @Query("update TodoIdempotencyKeyEntity k set k.response = :response where k.key = :key")
+  int complete(@Param("key") String key, @Param("response") String response);
+
+  @Transactional
+  @Modifying
+  @Query("delete from TodoIdempotencyKeyEntity k where k.createdDate < :createdBefore")
+  int deleteByCreatedDateBefore(@Param("createdBefore") LocalDateTime createdBefore);
+}
@@ -0,0 +1,50 @@
+package com.suyogmirgal.todomvc.repository;
+
+import com.suyogmirgal.todomvc.entity.TodoOutboxEntity;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * This is repository class which interacts with DB and
+ * provides DB operations for Todo Outbox Entity.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Repository
+public interface TodoOutboxRepository extends JpaRepository<TodoOutboxEntity, Long> {
+
+  List<TodoOutboxEntity> findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(long after, long upTo,
+      Pageable pageable);
+
+  @Query("select max(o.id) from TodoOutboxEntity o where o.createdDate <= :createdBefore")
+  Long findMaxIdByCreatedDateLessThanEqual(@Param("createdBefore") LocalDateTime createdBefore);
+
+  @Query("select o.id from TodoOutboxEntity o where o.id > :after order by o.id")
+  List<Long> findIdsAfter(@Param("after") long after, Pageable pageable);
+
+  @Query("select distinct o.todoId from TodoOutboxEntity o where o.id > :after and o.id <= :upTo")
+  List<Integer> findDistinctTodoIdByIdBetween(@Param("after") long after, @Param("upTo") long upTo);
+
+  @Modifying
+  @Query(value = "insert into todo_outbox (todo_id, event_type, created_date) "
+      + "select t.id, 'DELETED', :createdDate from todo t "
+      + "where t.is_completed = :isCompleted and t.deleted_at is null order by t.id",
+      nativeQuery = true)
+  int insertDeletedEventsByIsCompleted(@Param("isCompleted") boolean isCompleted,
+      @Param("createdDate") LocalDateTime createdDate);
+
+  @Transactional
+  @Modifying
+  @Query(value = "delete from todo_outbox where id in (select id from todo_outbox where id <= :upTo "
+      + "and created_date < :createdBefore order by id fetch first :batchSize rows only)", nativeQuery = true)
+  int purgeUpTo(@Param("upTo") long upTo, @Param("createdBefore") LocalDateTime createdBefore,
+      @Param("batchSize") int batchSize);
+}
@@ -0,0 +1,20 @@
+package com.suyogmirgal.todomvc.repository;
+
+import com.suyogmirgal.todomvc.entity.TodoOutboxWatermarkEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+/**
+ * This is repository class which interacts with DB and
+ * provides DB operations for Todo Outbox Watermark Entity.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Repository
+public interface TodoOutboxWatermarkRepository extends JpaRepository<TodoOutboxWatermarkEntity, String> {
+
+  @Query("select min(w.lastSequence) from TodoOutboxWatermarkEntity w")
+  Long findMinLastSequence();
+}
@@ -1,9 +1,25 @@
 package com.suyogmirgal.todomvc.repository;
 
 import com.suyogmirgal.todomvc.entity.TodoEntity;
+import com.suyogmirgal.todomvc.model.TodoDto;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * This is repository class which interacts with DB and
@@ -13,11 +29,65 @@ import org.springframework.stereotype.Repository;
  * created on 2024/04/30
  */
 @Repository
-public interface TodoRepository extends JpaRepository<TodoEntity, Integer> {
+public interface TodoRepository extends JpaRepository<TodoEntity, Integer>, JpaSpecificationExecutor<TodoEntity>,
+    TodoRepositoryCustom {
 
-  List<TodoEntity> findAllByOrderByOrderAsc();
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+  Page<TodoEntity> findReadOnlyBy(Pageable pageable);
 
-  List<TodoEntity> findByIsCompletedOrderByOrderAsc(boolean isCompleted);
+  @Query("select new com.suyogmirgal.todomvc.model.TodoDto(t.id, t.title, t.order, t.isCompleted, t.createdDate, "
+      + "t.updatedDate) from TodoEntity t where t.order > :order or (t.order = :order and t.id > :id) "
+      + "order by t.order, t.id")
+  List<TodoDto> findDtosAfterOrderAndId(@Param("order") int order, @Param("id") int id, Pageable pageable);
+
+  @Query("select new com.suyogmirgal.todomvc.model.TodoDto(t.id, t.title, t.order, t.isCompleted, t.createdDate, "
+      + "t.updatedDate) from TodoEntity t order by t.order, t.id")
+  List<TodoDto> findAllDtosByOrderByOrderAsc();
+
+  @Query("select new com.suyogmirgal.todomvc.model.TodoDto(t.id, t.title, t.order, t.isCompleted, t.createdDate, "
+      + "t.updatedDate) from TodoEntity t where t.isCompleted = :isCompleted order by t.order, t.id")
+  List<TodoDto> findDtosByIsCompletedOrderByOrderAsc(@Param("isCompleted") boolean isCompleted);
+
+  @Query("select new com.suyogmirgal.todomvc.model.TodoDto(t.id, t.title, t.order, t.isCompleted, t.createdDate, "
+      + "t.updatedDate) from TodoEntity t where t.id in :ids")
+  List<TodoDto> findDtosByIdIn(@Param("ids") Collection<Integer> ids);
 
   long deleteByIsCompleted(boolean isCompleted);
+
+  long countByIsCompleted(boolean isCompleted);
+
+  @Query("select count(t) as total, coalesce(sum(case when t.isCompleted = true then 1 else 0 end), 0) as completed "
+      + "from TodoEntity t")
+  TodoCounts countTodos();
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select t from TodoEntity t where t.id = :id")
+  Optional<TodoEntity> findForUpdateById(@Param("id") int id);
+
+  @Query("select t.isCompleted from TodoEntity t where t.id = :id")
+  Optional<Boolean> findIsCompletedById(@Param("id") int id);
+
+  @Query("select t.id from TodoEntity t where t.isCompleted = :isCompleted order by t.id")
+  List<Integer> findIdsByIsCompleted(@Param("isCompleted") boolean isCompleted, Pageable pageable);
+
+  @Modifying(clearAutomatically = true)
+  @Query("update TodoEntity t set t.deletedAt = :deletedAt, t.updatedDate = :deletedAt "
+      + "where t.id = :id and t.deletedAt is null")
+  int softDeleteById(@Param("id") int id, @Param("deletedAt") LocalDateTime deletedAt);
+
+  @Modifying(clearAutomatically = true)
+  @Query("update TodoEntity t set t.deletedAt = :deletedAt, t.updatedDate = :deletedAt "
+      + "where t.isCompleted = :isCompleted and t.deletedAt is null")
+  int softDeleteByIsCompleted(@Param("isCompleted") boolean isCompleted, @Param("deletedAt") LocalDateTime deletedAt);
+
+  @Modifying(clearAutomatically = true)
+  @Query("update TodoEntity t set t.deletedAt = :deletedAt, t.updatedDate = :deletedAt "
+      + "where t.id in :ids and t.deletedAt is null")
+  int softDeleteByIdIn(@Param("ids") Collection<Integer> ids, @Param("deletedAt") LocalDateTime deletedAt);
+
+  @Transactional
+  @Modifying
+  @Query(value = "delete from todo where id in (select id from todo where deleted_at < :deletedBefore "
+      + "order by id fetch first :batchSize rows only)", nativeQuery = true)
+  int purgeSoftDeleted(@Param("deletedBefore") LocalDateTime deletedBefore, @Param("batchSize") int batchSize);
 }
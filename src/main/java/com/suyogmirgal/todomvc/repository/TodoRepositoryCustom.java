@@ -0,0 +1,39 @@
+package com.suyogmirgal.todomvc.repository;
+
+import com.suyogmirgal.todomvc.entity.TodoEntity;
+import com.suyogmirgal.todomvc.model.TodoDto;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * This is repository fragment which provides projection
+ * queries for Todo Entity.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public interface TodoRepositoryCustom {
+
+  /**
+   * This method selects only provided attributes of the todos matching the specification.
+   *
+   * @param specification {@link Specification} which todos have to match.
+   * @param sort {@link Sort} of the result.
+   * @param attributes names of the {@link TodoEntity} attributes to be selected.
+   * @return List of attribute name to value maps, in order of provided attributes.
+   */
+  List<Map<String, Object>> findProjected(Specification<TodoEntity> specification, Sort sort,
+      List<String> attributes);
+
+  /**
+   * This method selects todos matching the specification directly as DTOs,
+   * so no entity is loaded into the persistence context.
+   *
+   * @param specification {@link Specification} which todos have to match.
+   * @param sort {@link Sort} of the result.
+   * @return List of {@link TodoDto}.
+   */
+  List<TodoDto> findDtos(Specification<TodoEntity> specification, Sort sort);
+}
@@ -0,0 +1,75 @@
+package com.suyogmirgal.todomvc.repository;
+
+import com.suyogmirgal.todomvc.entity.TodoEntity;
+import com.suyogmirgal.todomvc.model.TodoDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+/**
+ * This is implementation of {@link TodoRepositoryCustom} which builds
+ * tuple and constructor queries, so only the requested columns are read from the database.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoRepositoryCustomImpl implements TodoRepositoryCustom {
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  public List<Map<String, Object>> findProjected(Specification<TodoEntity> specification, Sort sort,
+      List<String> attributes) {
+    CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+    Root<TodoEntity> root = query.from(TodoEntity.class);
+
+    List<Selection<?>> selections = new ArrayList<>(attributes.size());
+    attributes.forEach(attribute -> selections.add(root.get(attribute).alias(attribute)));
+    query.multiselect(selections);
+
+    Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+    if(predicate != null) {
+      query.where(predicate);
+    }
+    query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+
+    List<Tuple> tuples = entityManager.createQuery(query).getResultList();
+    List<Map<String, Object>> projections = new ArrayList<>(tuples.size());
+    tuples.forEach(tuple -> {
+      Map<String, Object> projection = new LinkedHashMap<>(attributes.size() * 2);
+      attributes.forEach(attribute -> projection.put(attribute, tuple.get(attribute)));
+      projections.add(projection);
+    });
+    return projections;
+  }
+
+  @Override
+  public List<TodoDto> findDtos(Specification<TodoEntity> specification, Sort sort) {
+    CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<TodoDto> query = criteriaBuilder.createQuery(TodoDto.class);
+    Root<TodoEntity> root = query.from(TodoEntity.class);
+    query.select(criteriaBuilder.construct(TodoDto.class, root.get("id"), root.get("title"), root.get("order"),
+        root.get("isCompleted"), root.get("createdDate"), root.get("updatedDate")));
+
+    Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+    if(predicate != null) {
+      query.where(predicate);
+    }
+    query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+    return entityManager.createQuery(query).getResultList();
+  }
+}
@@ -0,0 +1,51 @@
+package com.suyogmirgal.todomvc.repository;
+
+import com.suyogmirgal.todomvc.entity.TodoEntity;
+import com.suyogmirgal.todomvc.model.TodoFilter;
+import com.suyogmirgal.todomvc.model.TodoStatusFilter;
+import jakarta.persistence.criteria.Predicate;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * This class provides {@link Specification} for filtering todos.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public final class TodoSpecifications {
+
+  private TodoSpecifications() {
+  }
+
+  /**
+   * This method provides specification which matches todos satisfying every criteria of the filter.
+   *
+   * @param todoFilter instance of {@link TodoFilter}.
+   * @return {@link Specification} of {@link TodoEntity}.
+   */
+  public static Specification<TodoEntity> matching(final TodoFilter todoFilter) {
+    return (root, query, criteriaBuilder) -> {
+      List<Predicate> predicates = new ArrayList<>(5);
+      if(todoFilter.getStatus() == TodoStatusFilter.ACTIVE) {
+        predicates.add(criteriaBuilder.isFalse(root.get("isCompleted")));
+      } else if(todoFilter.getStatus() == TodoStatusFilter.COMPLETED) {
+        predicates.add(criteriaBuilder.isTrue(root.get("isCompleted")));
+      }
+      if(todoFilter.getCreatedFrom() != null) {
+        predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("createdDate"), todoFilter.getCreatedFrom()));
+      }
+      if(todoFilter.getCreatedTo() != null) {
+        predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("createdDate"), todoFilter.getCreatedTo()));
+      }
+      if(todoFilter.getUpdatedFrom() != null) {
+        predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("updatedDate"), todoFilter.getUpdatedFrom()));
+      }
+      if(todoFilter.getUpdatedTo() != null) {
+        predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("updatedDate"), todoFilter.getUpdatedTo()));
+      }
+      return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+    };
+  }
+}
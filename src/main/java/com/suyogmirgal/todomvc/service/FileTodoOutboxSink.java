@@ -0,0 +1,65 @@
+package com.suyogmirgal.todomvc.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suyogmirgal.todomvc.model.TodoOutboxEventDto;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * This is {@link TodoOutboxSink} which appends events to a file,
+ * one json document per line.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Component
+@ConditionalOnProperty(name = "todo.outbox.sink", havingValue = "file")
+public class FileTodoOutboxSink implements TodoOutboxSink {
+
+  private final Path path;
+
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Parameterized constructor for {@link FileTodoOutboxSink}.
+   *
+   * @param path path of the file to which events are appended.
+   * @param objectMapper instance of {@link ObjectMapper} used to serialize events.
+   */
+  public FileTodoOutboxSink(@Value("${todo.outbox.sink.file.path:todo-outbox.jsonl}") String path,
+      ObjectMapper objectMapper) {
+    this.path = Paths.get(path);
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * This method appends the whole batch to the file with a single write.
+   *
+   * @param events List of {@link TodoOutboxEventDto} ordered by sequence.
+   */
+  @Override
+  public void publish(List<TodoOutboxEventDto> events) {
+    StringBuilder lines = new StringBuilder(events.size() * 256);
+    try {
+      for(TodoOutboxEventDto event : events) {
+        lines.append(objectMapper.writeValueAsString(event)).append('\n');
+      }
+      Files.write(path, lines.toString().getBytes(StandardCharsets.UTF_8),
+          StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Unable to serialize todo outbox events", ex);
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Unable to write todo outbox events to " + path, ex);
+    }
+  }
+}
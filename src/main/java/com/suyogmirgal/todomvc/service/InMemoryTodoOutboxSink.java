@@ -0,0 +1,81 @@
+package com.suyogmirgal.todomvc.service;
+
+import com.suyogmirgal.todomvc.model.TodoOutboxEventDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * This is the default {@link TodoOutboxSink} which publishes events
+ * to a bounded in-process queue, standing in for a message broker.
+ * Like the retention of a broker, the oldest events are dropped once
+ * the queue is full, so publishing never waits for a consumer.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Component
+@ConditionalOnProperty(name = "todo.outbox.sink", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTodoOutboxSink implements TodoOutboxSink {
+
+  private final BlockingQueue<TodoOutboxEventDto> queue;
+
+  private final Counter droppedCounter;
+
+  /**
+   * Parameterized constructor for {@link InMemoryTodoOutboxSink}.
+   *
+   * @param meterRegistry registry to which dropped events are counted.
+   * @param capacity max number of events held by the queue.
+   */
+  public InMemoryTodoOutboxSink(MeterRegistry meterRegistry,
+      @Value("${todo.outbox.sink.memory.capacity:10000}") int capacity) {
+    this.queue = new LinkedBlockingQueue<>(capacity);
+    this.droppedCounter = Counter.builder("todo.outbox.sink.dropped")
+        .description("Outbox events dropped from the full in-memory sink")
+        .register(meterRegistry);
+  }
+
+  /**
+   * This method publishes events to the queue without waiting,
+   * dropping the oldest events while queue is full.
+   *
+   * @param events List of {@link TodoOutboxEventDto} ordered by sequence.
+   */
+  @Override
+  public void publish(List<TodoOutboxEventDto> events) {
+    for(TodoOutboxEventDto event : events) {
+      while(!queue.offer(event)) {
+        if(queue.poll() != null) {
+          droppedCounter.increment();
+        }
+      }
+    }
+  }
+
+  /**
+   * This method moves up to maxEvents published events to provided collection.
+   *
+   * @param target collection to which events are moved.
+   * @param maxEvents max number of events to be moved.
+   * @return number of events moved.
+   */
+  public int drainTo(Collection<? super TodoOutboxEventDto> target, int maxEvents) {
+    return queue.drainTo(target, maxEvents);
+  }
+
+  /**
+   * This method provides number of events waiting in the queue.
+   *
+   * @return number of events waiting in the queue.
+   */
+  public int size() {
+    return queue.size();
+  }
+}
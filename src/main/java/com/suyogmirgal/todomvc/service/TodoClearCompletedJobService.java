@@ -0,0 +1,168 @@
+package com.suyogmirgal.todomvc.service;
+
+import com.suyogmirgal.todomvc.model.TodoJobDto;
+import com.suyogmirgal.todomvc.model.TodoJobStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * This is service class which clears completed todos as a background
+ * job, chunk by chunk on a dedicated executor. Requests which arrive
+ * while a job is running join the running job instead of starting a new one.
+ * A failed job is logged and reports the exception which failed it.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Service
+public class TodoClearCompletedJobService {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TodoClearCompletedJobService.class);
+
+  private final TodoService todoService;
+
+  private final TaskExecutor todoJobExecutor;
+
+  private final int chunkSize;
+
+  private final int maxRetainedJobs;
+
+  private final AtomicReference<ClearCompletedJob> runningJob = new AtomicReference<>();
+
+  private final Map<String, ClearCompletedJob> jobs = new ConcurrentHashMap<>();
+
+  private final Queue<String> jobIds = new ConcurrentLinkedQueue<>();
+
+  /**
+   * Parameterized constructor for {@link TodoClearCompletedJobService}.
+   *
+   * @param todoService instance of {@link TodoService}.
+   * @param todoJobExecutor executor dedicated to background todo jobs.
+   * @param chunkSize max number of todos deleted in one transaction.
+   * @param maxRetainedJobs max number of jobs whose progress is kept for lookup.
+   */
+  public TodoClearCompletedJobService(TodoService todoService,
+      @Qualifier("todoJobExecutor") TaskExecutor todoJobExecutor,
+      @Value("${todo.jobs.clear-completed.chunk-size:500}") int chunkSize,
+      @Value("${todo.jobs.max-retained:100}") int maxRetainedJobs) {
+    this.todoService = todoService;
+    this.todoJobExecutor = todoJobExecutor;
+    this.chunkSize = chunkSize;
+    this.maxRetainedJobs = maxRetainedJobs;
+  }
+
+  /**
+   * This method starts a job clearing completed todos, or returns the
+   * job which is already running.
+   *
+   * @return {@link TodoJobDto} of the started or already running job.
+   */
+  public TodoJobDto submit() {
+    while (true) {
+      ClearCompletedJob current = runningJob.get();
+      if(current != null) {
+        return current.toDto();
+      }
+      ClearCompletedJob job = new ClearCompletedJob(UUID.randomUUID().toString());
+      if(runningJob.compareAndSet(null, job)) {
+        retain(job);
+        try {
+          todoJobExecutor.execute(() -> run(job));
+        } catch (RuntimeException ex) {
+          LOGGER.error("Clear completed job {} could not be started", job.id, ex);
+          job.fail(ex);
+          runningJob.compareAndSet(job, null);
+          throw ex;
+        }
+        return job.toDto();
+      }
+    }
+  }
+
+  /**
+   * This method provides progress of the job for provided jobId.
+   *
+   * @param jobId id of the job.
+   * @return Optional of {@link TodoJobDto} if job is found else Optional.empty().
+   */
+  public Optional<TodoJobDto> getJob(final String jobId) {
+    ClearCompletedJob job = jobs.get(jobId);
+    return job == null ? Optional.empty() : Optional.of(job.toDto());
+  }
+
+  private void run(ClearCompletedJob job) {
+    try {
+      job.estimatedCount = todoService.getCompletedTodoCount();
+      List<Integer> deletedTodoIds;
+      do {
+        deletedTodoIds = todoService.deleteCompletedTodosChunk(chunkSize);
+        job.processedCount.addAndGet(deletedTodoIds.size());
+      } while (deletedTodoIds.size() == chunkSize);
+      job.finish(TodoJobStatus.COMPLETED);
+    } catch (RuntimeException ex) {
+      LOGGER.error("Clear completed job {} failed after clearing {} todos", job.id, job.processedCount.get(), ex);
+      job.fail(ex);
+    } finally {
+      runningJob.compareAndSet(job, null);
+    }
+  }
+
+  private void retain(ClearCompletedJob job) {
+    jobs.put(job.id, job);
+    jobIds.add(job.id);
+    while (jobIds.size() > maxRetainedJobs) {
+      String oldestJobId = jobIds.poll();
+      if(oldestJobId != null) {
+        jobs.remove(oldestJobId);
+      }
+    }
+  }
+
+  /**
+   * This class holds progress of a single clear completed job.
+   */
+  private static final class ClearCompletedJob {
+
+    private final String id;
+    private final LocalDateTime startedDate = LocalDateTime.now();
+    private final AtomicLong processedCount = new AtomicLong();
+    private volatile long estimatedCount;
+    private volatile TodoJobStatus status = TodoJobStatus.RUNNING;
+    private volatile LocalDateTime finishedDate;
+    private volatile String failureReason;
+
+    private ClearCompletedJob(String id) {
+      this.id = id;
+    }
+
+    private void finish(TodoJobStatus finalStatus) {
+      finishedDate = LocalDateTime.now();
+      status = finalStatus;
+    }
+
+    private void fail(RuntimeException ex) {
+      failureReason = ex.toString();
+      finish(TodoJobStatus.FAILED);
+    }
+
+    private TodoJobDto toDto() {
+      TodoJobStatus currentStatus = status;
+      return new TodoJobDto(id, currentStatus, processedCount.get(), estimatedCount, startedDate, finishedDate,
+          failureReason);
+    }
+  }
+}
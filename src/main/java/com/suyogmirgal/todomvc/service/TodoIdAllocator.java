@@ -0,0 +1,53 @@
+package com.suyogmirgal.todomvc.service;
+
+import com.suyogmirgal.todomvc.entity.TodoEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * This is allocator which hands out todo ids from blocks pre-allocated
+ * from the todo sequence, so ids can be assigned before a todo is written.
+ * Each call of the sequence owns the block [value, value + block size),
+ * which matches the pooled-lo optimizer Hibernate uses for the same sequence,
+ * so ids handed out here never collide with ids generated by Hibernate.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Component
+public class TodoIdAllocator {
+
+  private static final String NEXT_BLOCK_SQL = "select next value for " + TodoEntity.ID_SEQUENCE;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private long next;
+
+  private long limit;
+
+  /**
+   * Parameterized constructor for {@link TodoIdAllocator}.
+   *
+   * @param jdbcTemplate instance of {@link JdbcTemplate} used to call the sequence.
+   */
+  public TodoIdAllocator(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * This method provides next todo id, calling the sequence once per block.
+   *
+   * @return todo id.
+   */
+  public synchronized int nextId() {
+    if(next >= limit) {
+      Long blockStart = jdbcTemplate.queryForObject(NEXT_BLOCK_SQL, Long.class);
+      if(blockStart == null) {
+        throw new IllegalStateException("Sequence " + TodoEntity.ID_SEQUENCE + " returned no value");
+      }
+      next = blockStart;
+      limit = blockStart + TodoEntity.ID_BLOCK_SIZE;
+    }
+    return Math.toIntExact(next++);
+  }
+}
@@ -0,0 +1,20 @@
+package com.suyogmirgal.todomvc.service;
+
+/**
+ * This exception is thrown when an idempotency key is sent
+ * again with a request which differs from its first request.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoIdempotencyConflictException extends RuntimeException {
+
+  /**
+   * Parameterized constructor for {@link TodoIdempotencyConflictException}.
+   *
+   * @param message detail message.
+   */
+  public TodoIdempotencyConflictException(String message) {
+    super(message);
+  }
+}
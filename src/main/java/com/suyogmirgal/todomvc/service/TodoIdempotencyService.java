@@ -0,0 +1,271 @@
+package com.suyogmirgal.todomvc.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suyogmirgal.todomvc.entity.TodoIdempotencyKeyEntity;
+import com.suyogmirgal.todomvc.repository.TodoIdempotencyKeyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * This is service class which executes a write once per idempotency key and returns
+ * the response of the first execution to every retry with the same key.
+ *
+ * <p>Keys are looked up in a bounded in-process map, so a retry reaching the same
+ * instance is answered without a query, and concurrent requests with the same key
+ * wait for the first one while requests with other keys are not held up. Across
+ * instances the key is reserved with an insert into {@code todo_idempotency_key}
+ * before the write, in the same transaction, so a concurrent duplicate blocks on
+ * the primary key and then replays the committed response instead of writing.
+ *
+ * <p>Keys are scoped by client, so keys chosen by different clients never collide
+ * and a client can not replay the response of another one. The write has to commit
+ * in the transaction of the key, so it must not be deferred, e.g. to write behind.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Service
+public class TodoIdempotencyService {
+
+  private final Map<String, KeyEntry> keys = new ConcurrentHashMap<>();
+
+  private final TodoIdempotencyKeyRepository todoIdempotencyKeyRepository;
+
+  private final ObjectMapper objectMapper;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final long ttlMinutes;
+
+  private final int maxKeys;
+
+  private final Counter executedCounter;
+
+  private final Counter replayedCounter;
+
+  /**
+   * Parameterized constructor for {@link TodoIdempotencyService}.
+   *
+   * @param todoIdempotencyKeyRepository instance of {@link TodoIdempotencyKeyRepository}.
+   * @param objectMapper instance of {@link ObjectMapper} used to hash requests and store responses.
+   * @param transactionManager transaction manager shared with the repositories.
+   * @param meterRegistry registry to which idempotency metrics are published.
+   * @param ttlMinutes minutes for which a key is remembered.
+   * @param maxKeys max number of keys remembered in memory, older keys are then looked up in the database.
+   */
+  public TodoIdempotencyService(TodoIdempotencyKeyRepository todoIdempotencyKeyRepository, ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+      @Value("${todo.idempotency.ttl-minutes:1440}") long ttlMinutes,
+      @Value("${todo.idempotency.max-keys:100000}") int maxKeys) {
+    this.todoIdempotencyKeyRepository = todoIdempotencyKeyRepository;
+    this.objectMapper = objectMapper;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.ttlMinutes = ttlMinutes;
+    this.maxKeys = maxKeys;
+    this.executedCounter = Counter.builder("todo.idempotency.requests")
+        .description("Requests with an idempotency key")
+        .tag("result", "executed")
+        .register(meterRegistry);
+    this.replayedCounter = Counter.builder("todo.idempotency.requests")
+        .description("Requests with an idempotency key")
+        .tag("result", "replayed")
+        .register(meterRegistry);
+    Gauge.builder("todo.idempotency.keys", keys, Map::size)
+        .description("Idempotency keys remembered in memory")
+        .register(meterRegistry);
+  }
+
+  /**
+   * This method tells if provided value can be used as idempotency key.
+   *
+   * @param key value of the idempotency key header.
+   * @return true if key is not blank and not longer than {@value TodoIdempotencyKeyEntity#MAX_KEY_LENGTH}.
+   */
+  public static boolean isValidKey(final String key) {
+    return key != null && !key.isBlank() && key.length() <= TodoIdempotencyKeyEntity.MAX_KEY_LENGTH;
+  }
+
+  /**
+   * This method executes the write unless the key was already used, in which case response
+   * of the first execution is returned.
+   *
+   * @param client client which sent the key, keys are unique per client.
+   * @param key idempotency key sent by the client.
+   * @param operation name of the operation, a key used for one operation can not be used for another.
+   * @param request request of the write, a key can not be used again with a different request.
+   * @param responseType type of the response, used to read a response stored by another instance.
+   * @param write {@link Supplier} which executes the write and provides its response.
+   * @param <T> type of the response.
+   * @return response of the first execution.
+   * @throws TodoIdempotencyConflictException if key was used for a different request.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T execute(final String client, final String key, final String operation, final Object request,
+      final TypeReference<T> responseType, final Supplier<T> write) {
+    String requestHash = hash(operation, request);
+    String scopedKey = scopedKey(client, key);
+    KeyEntry keyEntry = keys.get(scopedKey);
+    if(keyEntry == null) {
+      KeyEntry newKeyEntry = new KeyEntry(requestHash);
+      keyEntry = keys.size() < maxKeys ? keys.putIfAbsent(scopedKey, newKeyEntry) : null;
+      if(keyEntry == null) {
+        return executeOnce(key, scopedKey, newKeyEntry, responseType, write);
+      }
+    }
+    if(!keyEntry.requestHash.equals(requestHash)) {
+      throw new TodoIdempotencyConflictException("Idempotency key " + key + " was used for a different request");
+    }
+    try {
+      T response = (T) keyEntry.response.join();
+      replayedCounter.increment();
+      return response;
+    } catch (CompletionException ex) {
+      if(ex.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw ex;
+    }
+  }
+
+  /**
+   * This method forgets keys older than the ttl, in memory and in the database.
+   *
+   * @return number of keys deleted from the database.
+   */
+  @Scheduled(fixedDelayString = "${todo.idempotency.purge-interval-ms:3600000}")
+  public int purgeExpired() {
+    long expiredBeforeNanos = System.nanoTime() - TimeUnit.MINUTES.toNanos(ttlMinutes);
+    keys.values().removeIf(keyEntry -> keyEntry.response.isDone() && keyEntry.createdNanos - expiredBeforeNanos < 0);
+    return todoIdempotencyKeyRepository.deleteByCreatedDateBefore(LocalDateTime.now().minusMinutes(ttlMinutes));
+  }
+
+  /**
+   * This method provides key under which idempotency key of a client is stored.
+   *
+   * @param client client which sent the key.
+   * @param key idempotency key sent by the client.
+   * @return hex encoded SHA-256 of the client followed by the key.
+   */
+  static String scopedKey(final String client, final String key) {
+    try {
+      byte[] clientHash = MessageDigest.getInstance("SHA-256").digest(client.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(clientHash) + ":" + key;
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException("SHA-256 is not available", ex);
+    }
+  }
+
+  private <T> T executeOnce(final String key, final String scopedKey, final KeyEntry keyEntry,
+      final TypeReference<T> responseType, final Supplier<T> write) {
+    try {
+      Optional<T> storedResponse = findStoredResponse(key, scopedKey, keyEntry.requestHash, responseType);
+      T response;
+      if(storedResponse.isPresent()) {
+        response = storedResponse.get();
+        replayedCounter.increment();
+      } else {
+        response = reserveAndWrite(key, scopedKey, keyEntry.requestHash, responseType, write);
+      }
+      keyEntry.response.complete(response);
+      return response;
+    } catch (RuntimeException ex) {
+      //nothing was committed for the key, so it can be retried
+      keys.remove(scopedKey, keyEntry);
+      keyEntry.response.completeExceptionally(ex);
+      throw ex;
+    }
+  }
+
+  private <T> T reserveAndWrite(final String key, final String scopedKey, final String requestHash,
+      final TypeReference<T> responseType, final Supplier<T> write) {
+    try {
+      T response = transactionTemplate.execute(status -> {
+        todoIdempotencyKeyRepository.reserve(scopedKey, requestHash, LocalDateTime.now());
+        T writeResponse = write.get();
+        todoIdempotencyKeyRepository.complete(scopedKey, toJson(writeResponse));
+        return writeResponse;
+      });
+      executedCounter.increment();
+      return response;
+    } catch (DataIntegrityViolationException ex) {
+      //reserved by another instance which has committed meanwhile, else violation was caused by the write
+      T response = findStoredResponse(key, scopedKey, requestHash, responseType).orElseThrow(() -> ex);
+      replayedCounter.increment();
+      return response;
+    }
+  }
+
+  private <T> Optional<T> findStoredResponse(final String key, final String scopedKey, final String requestHash,
+      final TypeReference<T> responseType) {
+    Optional<TodoIdempotencyKeyEntity> todoIdempotencyKeyEntityOptional =
+        todoIdempotencyKeyRepository.findById(scopedKey);
+    if(todoIdempotencyKeyEntityOptional.isEmpty() || todoIdempotencyKeyEntityOptional.get().getResponse() == null) {
+      return Optional.empty();
+    }
+    TodoIdempotencyKeyEntity todoIdempotencyKeyEntity = todoIdempotencyKeyEntityOptional.get();
+    if(!todoIdempotencyKeyEntity.getRequestHash().equals(requestHash)) {
+      throw new TodoIdempotencyConflictException("Idempotency key " + key + " was used for a different request");
+    }
+    try {
+      return Optional.of(objectMapper.readValue(todoIdempotencyKeyEntity.getResponse(), responseType));
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Unable to read response stored for idempotency key " + key, ex);
+    }
+  }
+
+  private String hash(final String operation, final Object request) {
+    try {
+      MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+      messageDigest.update(operation.getBytes(StandardCharsets.UTF_8));
+      messageDigest.update((byte) 0);
+      messageDigest.update(objectMapper.writeValueAsBytes(request));
+      return HexFormat.of().formatHex(messageDigest.digest());
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException("SHA-256 is not available", ex);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Unable to serialize request of " + operation, ex);
+    }
+  }
+
+  private String toJson(final Object response) {
+    try {
+      return objectMapper.writeValueAsString(response);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Unable to serialize response", ex);
+    }
+  }
+
+  private static final class KeyEntry {
+
+    private final String requestHash;
+
+    private final long createdNanos = System.nanoTime();
+
+    private final CompletableFuture<Object> response = new CompletableFuture<>();
+
+    private KeyEntry(String requestHash) {
+      this.requestHash = requestHash;
+    }
+  }
+}
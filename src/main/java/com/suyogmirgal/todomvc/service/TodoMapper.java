@@ -0,0 +1,47 @@
+package com.suyogmirgal.todomvc.service;
+
+import com.suyogmirgal.todomvc.entity.TodoEntity;
+import com.suyogmirgal.todomvc.model.TodoDto;
+import java.time.LocalDateTime;
+
+/**
+ * This class maps between {@link TodoEntity} and {@link TodoDto}. It is the only place
+ * todos are copied field by field; lists which are only read are not mapped at all but
+ * selected as {@link TodoDto} by the repository, so no entity is hydrated for them.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public final class TodoMapper {
+
+  private TodoMapper() {
+  }
+
+  /**
+   * This method maps entity to DTO.
+   *
+   * @param todoEntity instance of {@link TodoEntity}.
+   * @return {@link TodoDto} with the data of the entity.
+   */
+  public static TodoDto toDto(final TodoEntity todoEntity) {
+    return new TodoDto(todoEntity.getId(), todoEntity.getTitle(), todoEntity.getOrder(), todoEntity.isCompleted(),
+        todoEntity.getCreatedDate(), todoEntity.getUpdatedDate());
+  }
+
+  /**
+   * This method maps DTO of a todo to be created to a new entity.
+   *
+   * @param todoDto instance of {@link TodoDto}, its id and dates are ignored.
+   * @param now date time set as created and updated date of the entity.
+   * @return new {@link TodoEntity} without id.
+   */
+  public static TodoEntity toNewEntity(final TodoDto todoDto, final LocalDateTime now) {
+    TodoEntity todoEntity = new TodoEntity();
+    todoEntity.setTitle(todoDto.getTitle());
+    todoEntity.setOrder(todoDto.getOrder());
+    todoEntity.setCompleted(todoDto.isCompleted());
+    todoEntity.setCreatedDate(now);
+    todoEntity.setUpdatedDate(now);
+    return todoEntity;
+  }
+}
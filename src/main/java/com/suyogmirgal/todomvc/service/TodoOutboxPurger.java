@@ -0,0 +1,74 @@
+package com.suyogmirgal.todomvc.service;
+
+import com.suyogmirgal.todomvc.repository.TodoOutboxRepository;
+import com.suyogmirgal.todomvc.repository.TodoOutboxWatermarkRepository;
+import java.time.LocalDateTime;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * This is scheduled purger which removes outbox events relayed to every
+ * consumer and older than the retention in bounded batches. Events after
+ * the lowest watermark are never removed, so no consumer misses an event.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Component
+public class TodoOutboxPurger {
+
+  private final TodoOutboxRepository todoOutboxRepository;
+
+  private final TodoOutboxWatermarkRepository todoOutboxWatermarkRepository;
+
+  private final long retentionMinutes;
+
+  private final int batchSize;
+
+  private final int maxBatches;
+
+  /**
+   * Parameterized constructor for {@link TodoOutboxPurger}.
+   *
+   * @param todoOutboxRepository instance of {@link TodoOutboxRepository}.
+   * @param todoOutboxWatermarkRepository instance of {@link TodoOutboxWatermarkRepository}.
+   * @param retentionMinutes minutes for which relayed events are kept before purge.
+   * @param batchSize max number of events removed in one batch.
+   * @param maxBatches max number of batches executed in one run.
+   */
+  public TodoOutboxPurger(TodoOutboxRepository todoOutboxRepository,
+      TodoOutboxWatermarkRepository todoOutboxWatermarkRepository,
+      @Value("${todo.outbox.purge.retention-minutes:1440}") long retentionMinutes,
+      @Value("${todo.outbox.purge.batch-size:1000}") int batchSize,
+      @Value("${todo.outbox.purge.max-batches:100}") int maxBatches) {
+    this.todoOutboxRepository = todoOutboxRepository;
+    this.todoOutboxWatermarkRepository = todoOutboxWatermarkRepository;
+    this.retentionMinutes = retentionMinutes;
+    this.batchSize = batchSize;
+    this.maxBatches = maxBatches;
+  }
+
+  /**
+   * This method removes relayed events older than the retention, batch by batch.
+   *
+   * @return number of events removed.
+   */
+  @Scheduled(cron = "${todo.outbox.purge.cron:0 30 3 * * *}")
+  public long purge() {
+    Long watermark = todoOutboxWatermarkRepository.findMinLastSequence();
+    if(watermark == null) {
+      return 0;
+    }
+    LocalDateTime createdBefore = LocalDateTime.now().minusMinutes(retentionMinutes);
+    long purged = 0;
+    for(int batch = 0; batch < maxBatches; batch++) {
+      int removed = todoOutboxRepository.purgeUpTo(watermark, createdBefore, batchSize);
+      purged += removed;
+      if(removed < batchSize) {
+        break;
+      }
+    }
+    return purged;
+  }
+}
@@ -0,0 +1,165 @@
+package com.suyogmirgal.todomvc.service;
+
+import com.suyogmirgal.todomvc.entity.TodoOutboxWatermarkEntity;
+import com.suyogmirgal.todomvc.model.TodoOutboxEventDto;
+import com.suyogmirgal.todomvc.repository.TodoOutboxWatermarkRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * This is relay which drains the todo outbox in sequence ordered
+ * batches to the configured {@link TodoOutboxSink} and tracks
+ * the high watermark of relayed events. Watermark is moved only
+ * after a batch is published, so delivery is at least once.
+ * Relay runs on its own thread, so a slow sink does not hold up
+ * other scheduled jobs.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Component
+public class TodoOutboxRelay implements SmartLifecycle {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TodoOutboxRelay.class);
+
+  private final TodoOutboxService todoOutboxService;
+
+  private final TodoOutboxWatermarkRepository todoOutboxWatermarkRepository;
+
+  private final TodoOutboxSink todoOutboxSink;
+
+  private final String consumer;
+
+  private final int batchSize;
+
+  private final long intervalMillis;
+
+  private final long stopTimeoutMillis;
+
+  private ScheduledExecutorService relayExecutor;
+
+  /**
+   * Parameterized constructor for {@link TodoOutboxRelay}.
+   *
+   * @param todoOutboxService instance of {@link TodoOutboxService}.
+   * @param todoOutboxWatermarkRepository instance of {@link TodoOutboxWatermarkRepository}.
+   * @param todoOutboxSink instance of {@link TodoOutboxSink} to which events are published.
+   * @param consumer name under which watermark of this relay is stored.
+   * @param batchSize max number of events published in one batch.
+   * @param intervalMillis delay in milliseconds between the end of a relay and the start of the next.
+   * @param stopTimeoutMillis max time in milliseconds a running relay is awaited on shutdown.
+   */
+  public TodoOutboxRelay(TodoOutboxService todoOutboxService,
+      TodoOutboxWatermarkRepository todoOutboxWatermarkRepository, TodoOutboxSink todoOutboxSink,
+      @Value("${todo.outbox.relay.consumer:default}") String consumer,
+      @Value("${todo.outbox.relay.batch-size:500}") int batchSize,
+      @Value("${todo.outbox.relay.interval-ms:1000}") long intervalMillis,
+      @Value("${todo.shutdown.drain-timeout-ms:20000}") long stopTimeoutMillis) {
+    this.todoOutboxService = todoOutboxService;
+    this.todoOutboxWatermarkRepository = todoOutboxWatermarkRepository;
+    this.todoOutboxSink = todoOutboxSink;
+    this.consumer = consumer;
+    this.batchSize = batchSize;
+    this.intervalMillis = intervalMillis;
+    this.stopTimeoutMillis = stopTimeoutMillis;
+  }
+
+  @Override
+  public synchronized void start() {
+    if(relayExecutor != null) {
+      return;
+    }
+    relayExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "todo-outbox-relay");
+      thread.setDaemon(true);
+      return thread;
+    });
+    relayExecutor.scheduleWithFixedDelay(this::relayScheduled, intervalMillis, intervalMillis,
+        TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void stop() {
+    ScheduledExecutorService currentRelayExecutor;
+    synchronized (this) {
+      currentRelayExecutor = relayExecutor;
+      relayExecutor = null;
+    }
+    if(currentRelayExecutor == null) {
+      return;
+    }
+    currentRelayExecutor.shutdown();
+    try {
+      if(!currentRelayExecutor.awaitTermination(stopTimeoutMillis, TimeUnit.MILLISECONDS)) {
+        LOGGER.warn("Outbox relay did not finish within {} ms, interrupting it", stopTimeoutMillis);
+        currentRelayExecutor.shutdownNow();
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      currentRelayExecutor.shutdownNow();
+    }
+  }
+
+  @Override
+  public synchronized boolean isRunning() {
+    return relayExecutor != null;
+  }
+
+  /**
+   * This method drains all pending events batch by batch.
+   *
+   * @return number of events relayed.
+   */
+  public synchronized long relay() {
+    long relayed = 0;
+    long watermark = getWatermark();
+    List<TodoOutboxEventDto> events;
+    do {
+      events = todoOutboxService.getEventsAfter(watermark, batchSize);
+      if(events.isEmpty()) {
+        break;
+      }
+      todoOutboxSink.publish(events);
+      watermark = events.get(events.size() - 1).getSequence();
+      saveWatermark(watermark);
+      relayed += events.size();
+    } while (events.size() == batchSize);
+    return relayed;
+  }
+
+  /**
+   * This method provides sequence of the last relayed event.
+   *
+   * @return sequence of the last relayed event, 0 if nothing is relayed yet.
+   */
+  public long getWatermark() {
+    return todoOutboxWatermarkRepository.findById(consumer)
+        .map(TodoOutboxWatermarkEntity::getLastSequence)
+        .orElse(0L);
+  }
+
+  private void relayScheduled() {
+    try {
+      relay();
+    } catch (RuntimeException ex) {
+      //a failed run must not cancel the next ones, unpublished batches are published again
+      LOGGER.warn("Outbox relay failed, retrying in {} ms", intervalMillis, ex);
+    }
+  }
+
+  private void saveWatermark(long watermark) {
+    TodoOutboxWatermarkEntity todoOutboxWatermarkEntity = new TodoOutboxWatermarkEntity();
+    todoOutboxWatermarkEntity.setConsumer(consumer);
+    todoOutboxWatermarkEntity.setLastSequence(watermark);
+    todoOutboxWatermarkEntity.setUpdatedDate(LocalDateTime.now());
+    todoOutboxWatermarkRepository.save(todoOutboxWatermarkEntity);
+  }
+}
@@ -0,0 +1,194 @@
+package com.suyogmirgal.todomvc.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suyogmirgal.todomvc.entity.TodoEntity;
+import com.suyogmirgal.todomvc.entity.TodoOutboxEntity;
+import com.suyogmirgal.todomvc.model.TodoEventType;
+import com.suyogmirgal.todomvc.model.TodoOutboxEventDto;
+import com.suyogmirgal.todomvc.repository.TodoOutboxRepository;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * This is service class which records todo mutations in the
+ * append only outbox and provides replay of recorded mutations.
+ * Record methods are expected to be called within the transaction
+ * of the mutation so that outbox and todo table never diverge.
+ *
+ * <p>Sequences are identity values, which are taken at insert but become
+ * visible at commit, so a sequence may show up after higher ones. Reads
+ * therefore stop at the stable sequence, below which no event can still
+ * show up: events are read up to the first gap in the sequences, and a
+ * gap is skipped once the events after it are older than
+ * {@code todo.outbox.commit-grace-ms}, which has to exceed the longest
+ * transaction recording events. Gaps left by rolled back transactions are
+ * skipped after that grace period. One read scans at most
+ * {@code todo.outbox.stable-scan-size} sequences of the grace period, the
+ * next read continues from where it stopped.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Service
+public class TodoOutboxService {
+
+  private final TodoOutboxRepository todoOutboxRepository;
+
+  private final ObjectMapper objectMapper;
+
+  private final long commitGraceMillis;
+
+  private final int stableScanSize;
+
+  /**
+   * Parameterized constructor for {@link TodoOutboxService}.
+   *
+   * @param todoOutboxRepository instance of {@link TodoOutboxRepository}.
+   * @param objectMapper instance of {@link ObjectMapper} used to serialize payload.
+   * @param commitGraceMillis time in milliseconds after which a gap in the sequences is skipped.
+   * @param stableScanSize max number of sequences of the grace period scanned for the stable sequence.
+   */
+  public TodoOutboxService(TodoOutboxRepository todoOutboxRepository, ObjectMapper objectMapper,
+      @Value("${todo.outbox.commit-grace-ms:10000}") long commitGraceMillis,
+      @Value("${todo.outbox.stable-scan-size:1000}") int stableScanSize) {
+    this.todoOutboxRepository = todoOutboxRepository;
+    this.objectMapper = objectMapper;
+    this.commitGraceMillis = commitGraceMillis;
+    this.stableScanSize = stableScanSize;
+  }
+
+  /**
+   * This method records mutation of a single todo.
+   *
+   * @param eventType type of the mutation.
+   * @param todoEntity instance of {@link TodoEntity} after mutation.
+   * @return sequence of the recorded event.
+   */
+  public long record(final TodoEventType eventType, final TodoEntity todoEntity) {
+    TodoOutboxEntity todoOutboxEntity = new TodoOutboxEntity();
+    todoOutboxEntity.setTodoId(todoEntity.getId());
+    todoOutboxEntity.setEventType(eventType);
+    if(eventType != TodoEventType.DELETED) {
+      todoOutboxEntity.setPayload(toJson(todoEntity));
+    }
+    todoOutboxEntity.setCreatedDate(LocalDateTime.now());
+    return todoOutboxRepository.save(todoOutboxEntity).getId();
+  }
+
+  /**
+   * This method records deletion of a single todo.
+   *
+   * @param todoId id of the deleted todo.
+   * @return sequence of the recorded event.
+   */
+  public long recordDeleted(final int todoId) {
+    TodoOutboxEntity todoOutboxEntity = new TodoOutboxEntity();
+    todoOutboxEntity.setTodoId(todoId);
+    todoOutboxEntity.setEventType(TodoEventType.DELETED);
+    todoOutboxEntity.setCreatedDate(LocalDateTime.now());
+    return todoOutboxRepository.save(todoOutboxEntity).getId();
+  }
+
+  /**
+   * This method records deletion of provided todos.
+   *
+   * @param todoIds ids of the deleted todos.
+   */
+  public void recordDeleted(final List<Integer> todoIds) {
+    LocalDateTime now = LocalDateTime.now();
+    List<TodoOutboxEntity> todoOutboxEntityList = new ArrayList<>(todoIds.size());
+
+    todoIds.forEach(todoId -> {
+      TodoOutboxEntity todoOutboxEntity = new TodoOutboxEntity();
+      todoOutboxEntity.setTodoId(todoId);
+      todoOutboxEntity.setEventType(TodoEventType.DELETED);
+      todoOutboxEntity.setCreatedDate(now);
+      todoOutboxEntityList.add(todoOutboxEntity);
+    });
+    todoOutboxRepository.saveAll(todoOutboxEntityList);
+  }
+
+  /**
+   * This method records deletion of all todos with provided completed flag
+   * using a single set based insert, so cost does not grow with round trips.
+   *
+   * @param isCompleted completed flag of the todos which are going to be deleted.
+   * @return number of events recorded.
+   */
+  public int recordDeletedByIsCompleted(final boolean isCompleted) {
+    return todoOutboxRepository.insertDeletedEventsByIsCompleted(isCompleted, LocalDateTime.now());
+  }
+
+  /**
+   * This method provides recorded events after provided sequence and up to the stable
+   * sequence in sequence order, so consumers can catch up incrementally from their own
+   * high watermark without skipping events which are not committed yet.
+   *
+   * @param sequence sequence after which events are to be returned.
+   * @param limit max number of events to be returned.
+   * @return List of {@link TodoOutboxEventDto}.
+   */
+  public List<TodoOutboxEventDto> getEventsAfter(final long sequence, final int limit) {
+    long stableSequence = getStableSequence(sequence);
+    if(stableSequence <= sequence) {
+      return new ArrayList<>();
+    }
+    List<TodoOutboxEntity> todoOutboxEntityList = todoOutboxRepository
+        .findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(sequence, stableSequence, PageRequest.of(0, limit));
+    List<TodoOutboxEventDto> todoOutboxEventDtoList = new ArrayList<>(todoOutboxEntityList.size());
+
+    todoOutboxEntityList.forEach(todoOutboxEntity -> {
+      todoOutboxEventDtoList.add(new TodoOutboxEventDto(todoOutboxEntity.getId(), todoOutboxEntity.getTodoId(),
+          todoOutboxEntity.getEventType(), todoOutboxEntity.getPayload(), todoOutboxEntity.getCreatedDate()));
+    });
+    return todoOutboxEventDtoList;
+  }
+
+  /**
+   * This method provides the stable sequence, up to which all events are visible and
+   * no event can show up anymore. Only the first {@code todo.outbox.stable-scan-size}
+   * sequences of the grace period are scanned.
+   *
+   * @param after sequence known to be stable, e.g. watermark or change token of a consumer.
+   * @return stable sequence, not less than provided sequence.
+   */
+  public long getStableSequence(final long after) {
+    Long settledSequence = todoOutboxRepository.findMaxIdByCreatedDateLessThanEqual(
+        LocalDateTime.now().minus(commitGraceMillis, ChronoUnit.MILLIS));
+    long stableSequence = Math.max(after, settledSequence == null ? 0 : settledSequence);
+    for(long sequence : todoOutboxRepository.findIdsAfter(stableSequence,
+        PageRequest.of(0, stableScanSize))) {
+      if(sequence != stableSequence + 1) {
+        break;
+      }
+      stableSequence = sequence;
+    }
+    return stableSequence;
+  }
+
+  /**
+   * This method provides ids of the todos mutated after sequence after and up to sequence upTo.
+   * Lookup is a range scan on the outbox primary key, so it is bounded by the number of changes.
+   *
+   * @param after sequence after which mutations are considered.
+   * @param upTo last sequence which is considered.
+   * @return distinct ids of the mutated todos.
+   */
+  public List<Integer> getChangedTodoIds(final long after, final long upTo) {
+    return todoOutboxRepository.findDistinctTodoIdByIdBetween(after, upTo);
+  }
+
+  private String toJson(TodoEntity todoEntity) {
+    try {
+      return objectMapper.writeValueAsString(TodoMapper.toDto(todoEntity));
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Unable to serialize todo with id " + todoEntity.getId(), ex);
+    }
+  }
+}
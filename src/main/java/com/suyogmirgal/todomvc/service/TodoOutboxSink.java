@@ -0,0 +1,22 @@
+package com.suyogmirgal.todomvc.service;
+
+import com.suyogmirgal.todomvc.model.TodoOutboxEventDto;
+import java.util.List;
+
+/**
+ * This is the destination to which {@link TodoOutboxRelay}
+ * publishes recorded todo mutations in sequence order.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public interface TodoOutboxSink {
+
+  /**
+   * This method publishes a batch of events. Batch is published again
+   * if this method fails, so implementations must tolerate duplicates.
+   *
+   * @param events List of {@link TodoOutboxEventDto} ordered by sequence.
+   */
+  void publish(List<TodoOutboxEventDto> events);
+}
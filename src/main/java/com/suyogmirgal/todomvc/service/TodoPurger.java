@@ -0,0 +1,66 @@
+package com.suyogmirgal.todomvc.service;
+
+import com.suyogmirgal.todomvc.repository.TodoRepository;
+import java.time.LocalDateTime;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * This is scheduled purger which physically removes soft deleted
+ * todos in bounded batches. Each batch is a separate transaction,
+ * so purge never holds locks on a large number of rows.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Component
+@ConditionalOnProperty(name = "todo.soft-delete.enabled", havingValue = "true")
+public class TodoPurger {
+
+  private final TodoRepository todoRepository;
+
+  private final long retentionMinutes;
+
+  private final int batchSize;
+
+  private final int maxBatches;
+
+  /**
+   * Parameterized constructor for {@link TodoPurger}.
+   *
+   * @param todoRepository instance of {@link TodoRepository}.
+   * @param retentionMinutes minutes for which soft deleted todos are kept before purge.
+   * @param batchSize max number of todos removed in one batch.
+   * @param maxBatches max number of batches executed in one run.
+   */
+  public TodoPurger(TodoRepository todoRepository,
+      @Value("${todo.soft-delete.purge.retention-minutes:60}") long retentionMinutes,
+      @Value("${todo.soft-delete.purge.batch-size:1000}") int batchSize,
+      @Value("${todo.soft-delete.purge.max-batches:100}") int maxBatches) {
+    this.todoRepository = todoRepository;
+    this.retentionMinutes = retentionMinutes;
+    this.batchSize = batchSize;
+    this.maxBatches = maxBatches;
+  }
+
+  /**
+   * This method removes soft deleted todos older than the retention, batch by batch.
+   *
+   * @return number of todos removed.
+   */
+  @Scheduled(cron = "${todo.soft-delete.purge.cron:0 0 3 * * *}")
+  public long purge() {
+    LocalDateTime deletedBefore = LocalDateTime.now().minusMinutes(retentionMinutes);
+    long purged = 0;
+    for(int batch = 0; batch < maxBatches; batch++) {
+      int removed = todoRepository.purgeSoftDeleted(deletedBefore, batchSize);
+      purged += removed;
+      if(removed < batchSize) {
+        break;
+      }
+    }
+    return purged;
+  }
+}
@@ -0,0 +1,141 @@
+package com.suyogmirgal.todomvc.service;
+
+import com.suyogmirgal.todomvc.datasource.TodoReadYourWritesContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * This is single flight coalescer for reads. While a read for a key is in flight,
+ * identical reads for the same key wait for it and get its result, instead of
+ * sending the same query to the database again. Results are shared between callers,
+ * so they have to be immutable.
+ *
+ * <p>A read joins only a query which is already running, so it may miss a write
+ * committed after that query started, the same as if it had arrived a moment earlier.
+ * Reads only join reads served by the same database: with the {@code replica} profile
+ * reads of clients which have just written, and so read from the primary, never join
+ * reads from the replica. Reads within a transaction which writes are never coalesced,
+ * as they may see its uncommitted writes.
+ *
+ * <p>Reads are coalesced above the transaction boundary: only the read which runs the
+ * query opens a read-only transaction, and so takes a pooled connection, while identical
+ * reads wait for it without one. A burst of identical reads therefore takes one connection
+ * instead of draining the pool.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Component
+public class TodoReadCoalescer {
+
+  private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+  private final MeterRegistry meterRegistry;
+
+  private final TransactionTemplate readOnlyTransactionTemplate;
+
+  private final Optional<TodoReadYourWritesContext> todoReadYourWritesContext;
+
+  private final boolean enabled;
+
+  /**
+   * Parameterized constructor for {@link TodoReadCoalescer}.
+   *
+   * @param meterRegistry registry to which coalescing metrics are published.
+   * @param transactionManager transaction manager in which read-only transactions of reads are run.
+   * @param todoReadYourWritesContext {@link TodoReadYourWritesContext} of the {@code replica} profile, if active.
+   * @param enabled false to run every read on its own.
+   */
+  public TodoReadCoalescer(MeterRegistry meterRegistry, PlatformTransactionManager transactionManager,
+      Optional<TodoReadYourWritesContext> todoReadYourWritesContext,
+      @Value("${todo.read-coalescing.enabled:true}") boolean enabled) {
+    this.meterRegistry = meterRegistry;
+    this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+    this.readOnlyTransactionTemplate.setReadOnly(true);
+    this.todoReadYourWritesContext = todoReadYourWritesContext;
+    this.enabled = enabled;
+    Gauge.builder("todo.coalescing.inflight", inFlight, Map::size)
+        .description("Reads currently in flight")
+        .register(meterRegistry);
+  }
+
+  /**
+   * This method runs provided read in a read-only transaction, or waits for the identical read
+   * in flight and returns its result. Read joins the transaction of the caller, if any.
+   *
+   * @param operation name of the read operation, used as metric tag.
+   * @param key key which identifies identical reads of the operation.
+   * @param read read to be run if no identical read is in flight.
+   * @param <T> type of the result.
+   * @return result of the read.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T execute(final String operation, final Object key, final Supplier<T> read) {
+    if(TransactionSynchronizationManager.isActualTransactionActive()
+        && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      return read.get();
+    }
+    if(!enabled) {
+      return readOnlyTransactionTemplate.execute(status -> read.get());
+    }
+    String flightKey = operation + ':' + route() + ':' + key;
+    CompletableFuture<Object> flight = new CompletableFuture<>();
+    CompletableFuture<Object> runningFlight = inFlight.putIfAbsent(flightKey, flight);
+    if(runningFlight != null) {
+      counter(operation, "coalesced").increment();
+      return (T) await(runningFlight);
+    }
+    counter(operation, "executed").increment();
+    try {
+      T result = readOnlyTransactionTemplate.execute(status -> read.get());
+      flight.complete(result);
+      return result;
+    } catch (RuntimeException | Error ex) {
+      flight.completeExceptionally(ex);
+      throw ex;
+    } finally {
+      inFlight.remove(flightKey, flight);
+    }
+  }
+
+  private String route() {
+    if(todoReadYourWritesContext.isPresent() && todoReadYourWritesContext.get().isPrimaryRequired()) {
+      return "primary";
+    }
+    return "default";
+  }
+
+  private Object await(CompletableFuture<Object> flight) {
+    try {
+      return flight.join();
+    } catch (CompletionException ex) {
+      if(ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      if(ex.getCause() instanceof Error) {
+        throw (Error) ex.getCause();
+      }
+      throw ex;
+    }
+  }
+
+  private Counter counter(String operation, String result) {
+    return Counter.builder("todo.coalescing.requests")
+        .description("Reads executed or coalesced into an identical read in flight")
+        .tag("operation", operation)
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,158 @@
+package com.suyogmirgal.todomvc.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * This is in-process lock per todo which serializes read-modify-write of the same todo,
+ * so concurrent updates of a hot todo queue up on the instance instead of overwriting
+ * each other or piling up on a database row lock. A lock is held until the transaction
+ * which took it completes, so the next writer reads the committed row.
+ *
+ * <p>Every todo id gets its own lock, created on first use and dropped once no thread
+ * holds or waits for it, so writes of different todos never wait for each other.
+ * Contention is published per stripe, todo id modulo {@code todo.locking.stripes}, which
+ * keeps the number of meters bounded.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Component
+public class TodoRowLocks {
+
+  private final Map<Integer, RowLock> locks = new ConcurrentHashMap<>();
+
+  private final boolean enabled;
+
+  private final boolean selectForUpdate;
+
+  private final long timeoutMillis;
+
+  private final Counter[] contendedCounters;
+
+  private final Timer[] waitTimers;
+
+  /**
+   * Parameterized constructor for {@link TodoRowLocks}.
+   *
+   * @param meterRegistry registry to which contention metrics are published.
+   * @param enabled false to not lock on the instance.
+   * @param selectForUpdate true to also lock the row in the database while reading it for a write.
+   * @param timeoutMillis max time in milliseconds a write waits for the lock.
+   * @param stripes number of stripes contention is published for.
+   */
+  public TodoRowLocks(MeterRegistry meterRegistry,
+      @Value("${todo.locking.enabled:true}") boolean enabled,
+      @Value("${todo.locking.select-for-update:false}") boolean selectForUpdate,
+      @Value("${todo.locking.timeout-ms:5000}") long timeoutMillis,
+      @Value("${todo.locking.stripes:16}") int stripes) {
+    if(stripes < 1) {
+      throw new IllegalArgumentException("todo.locking.stripes must be at least 1");
+    }
+    this.enabled = enabled;
+    this.selectForUpdate = selectForUpdate;
+    this.timeoutMillis = timeoutMillis;
+    this.contendedCounters = new Counter[stripes];
+    this.waitTimers = new Timer[stripes];
+    for(int stripe = 0; stripe < stripes; stripe++) {
+      contendedCounters[stripe] = Counter.builder("todo.locks.contended")
+          .description("Writes which found the lock of their todo held")
+          .tag("stripe", String.valueOf(stripe))
+          .register(meterRegistry);
+      waitTimers[stripe] = Timer.builder("todo.locks.wait")
+          .description("Time contended writes waited for the lock of their todo")
+          .tag("stripe", String.valueOf(stripe))
+          .register(meterRegistry);
+    }
+    Gauge.builder("todo.locks.active", locks, Map::size)
+        .description("Todos locked or waited for")
+        .register(meterRegistry);
+  }
+
+  /**
+   * This method tells if rows read for a write are locked in the database too.
+   *
+   * @return true if rows are read with select for update.
+   */
+  public boolean isSelectForUpdate() {
+    return selectForUpdate;
+  }
+
+  /**
+   * This method locks todo until current transaction completes, or until {@link #unlock(int)}
+   * if there is no transaction.
+   *
+   * @param todoId id of the todo.
+   * @throws CannotAcquireLockException if lock is not acquired within {@code todo.locking.timeout-ms}.
+   */
+  public void lock(final int todoId) {
+    if(!enabled) {
+      return;
+    }
+    RowLock rowLock = locks.compute(todoId, (id, existing) -> {
+      RowLock acquired = existing == null ? new RowLock() : existing;
+      acquired.users++;
+      return acquired;
+    });
+    if(!rowLock.lock.tryLock()) {
+      int stripe = Math.floorMod(todoId, contendedCounters.length);
+      contendedCounters[stripe].increment();
+      long startNanos = System.nanoTime();
+      boolean locked;
+      try {
+        locked = rowLock.lock.tryLock(timeoutMillis, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        locked = false;
+      }
+      waitTimers[stripe].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+      if(!locked) {
+        release(todoId);
+        throw new CannotAcquireLockException("Timed out waiting for lock of todo " + todoId);
+      }
+    }
+    if(TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          unlock(todoId);
+        }
+      });
+    }
+  }
+
+  /**
+   * This method unlocks todo locked outside of a transaction.
+   *
+   * @param todoId id of the todo.
+   */
+  public void unlock(final int todoId) {
+    if(!enabled) {
+      return;
+    }
+    locks.get(todoId).lock.unlock();
+    release(todoId);
+  }
+
+  private void release(int todoId) {
+    locks.computeIfPresent(todoId, (id, rowLock) -> --rowLock.users == 0 ? null : rowLock);
+  }
+
+  private static final class RowLock {
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private int users;
+  }
+}
@@ -0,0 +1,363 @@
+package com.suyogmirgal.todomvc.service;
+
+import com.suyogmirgal.todomvc.entity.TodoEntity;
+import com.suyogmirgal.todomvc.repository.TodoRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * This is in-process inverted index over todo titles. Terms are kept in a
+ * sorted map so both exact term and prefix lookups are a map seek, and
+ * index is maintained incrementally by {@link TodoService} on every write,
+ * once the transaction of the write commits, so rolled back writes never show
+ * up in results. Writes are serialized, searches are lock free. Ids returned by a search
+ * may refer to todos removed after the search, callers have to tolerate that.
+ *
+ * <p>Writes committed while the index is rebuilt are applied right away and win over
+ * the rebuild: a todo read by the rebuild is skipped if it was written since the rebuild
+ * started, as the page it was read from may be older than the write.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Component
+public class TodoSearchIndex {
+
+  private static final float EXACT_MATCH_SCORE = 2f;
+
+  private static final float PREFIX_MATCH_SCORE = 1f;
+
+  private final NavigableMap<String, Set<Integer>> postings = new ConcurrentSkipListMap<>();
+
+  private final Map<Integer, IndexedTodo> documents = new ConcurrentHashMap<>();
+
+  private final TodoRepository todoRepository;
+
+  private final int rebuildPageSize;
+
+  //ids of todos written since rebuild started, null if no rebuild is running
+  private Set<Integer> writtenDuringRebuild;
+
+  private boolean completedRemovedDuringRebuild;
+
+  /**
+   * Parameterized constructor for {@link TodoSearchIndex}.
+   *
+   * @param todoRepository instance of {@link TodoRepository} used to build the index on startup.
+   * @param rebuildPageSize number of todos read per page while building the index.
+   */
+  public TodoSearchIndex(TodoRepository todoRepository,
+      @Value("${todo.search.rebuild-page-size:10000}") int rebuildPageSize) {
+    this.todoRepository = todoRepository;
+    this.rebuildPageSize = rebuildPageSize;
+  }
+
+  /**
+   * This method builds the index from all the todos once application is ready.
+   * Todos are loaded page by page as read-only entities, so no snapshots are kept for dirty checking.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    synchronized (this) {
+      writtenDuringRebuild = new HashSet<>();
+      completedRemovedDuringRebuild = false;
+    }
+    try {
+      Page<TodoEntity> page = todoRepository.findReadOnlyBy(PageRequest.of(0, rebuildPageSize, Sort.by("id")));
+      while (true) {
+        page.forEach(this::putIfNotWritten);
+        if(!page.hasNext()) {
+          break;
+        }
+        page = todoRepository.findReadOnlyBy(page.nextPageable());
+      }
+    } finally {
+      synchronized (this) {
+        writtenDuringRebuild = null;
+      }
+    }
+  }
+
+  /**
+   * This method adds todo to the index or replaces its indexed title once current
+   * transaction commits, or right away if there is no transaction.
+   *
+   * @param todoEntity instance of {@link TodoEntity} to be indexed.
+   */
+  public void index(final TodoEntity todoEntity) {
+    int todoId = todoEntity.getId();
+    IndexedTodo indexedTodo = new IndexedTodo(tokenize(todoEntity.getTitle()), todoEntity.isCompleted());
+    afterCommit(() -> put(todoId, indexedTodo));
+  }
+
+  /**
+   * This method removes todo from the index once current transaction commits,
+   * or right away if there is no transaction.
+   *
+   * @param todoId id of the todo to be removed.
+   */
+  public void remove(final int todoId) {
+    afterCommit(() -> removeNow(todoId));
+  }
+
+  /**
+   * This method removes todos from the index once current transaction commits,
+   * or right away if there is no transaction.
+   *
+   * @param todoIds ids of the todos to be removed.
+   */
+  public void removeAll(final Collection<Integer> todoIds) {
+    List<Integer> removedTodoIds = new ArrayList<>(todoIds);
+    afterCommit(() -> removeAllNow(removedTodoIds));
+  }
+
+  /**
+   * This method removes all the completed todos from the index once current transaction commits,
+   * or right away if there is no transaction.
+   */
+  public void removeCompleted() {
+    afterCommit(this::removeCompletedNow);
+  }
+
+  /**
+   * This method searches todos whose title has every term of the query, either
+   * as a whole term or as a prefix of a term. Results are ranked by score, where
+   * whole term matches count more than prefix matches and shorter titles rank higher.
+   *
+   * @param query search query.
+   * @param offset number of ranked results to be skipped.
+   * @param limit max number of results to be returned.
+   * @return {@link SearchResult} with ranked todo ids and total number of matches.
+   */
+  public SearchResult search(final String query, final int offset, final int limit) {
+    Set<String> queryTerms = tokenize(query);
+    if(queryTerms.isEmpty()) {
+      return new SearchResult(Collections.emptyList(), 0);
+    }
+    Map<Integer, Float> scores = null;
+    for(String queryTerm : queryTerms) {
+      Map<Integer, Float> termScores = match(queryTerm);
+      if(scores == null) {
+        scores = termScores;
+      } else {
+        Map<Integer, Float> intersection = new HashMap<>(Math.min(scores.size(), termScores.size()) * 2);
+        Map<Integer, Float> smaller = scores.size() <= termScores.size() ? scores : termScores;
+        Map<Integer, Float> larger = smaller == scores ? termScores : scores;
+        smaller.forEach((todoId, score) -> {
+          Float otherScore = larger.get(todoId);
+          if(otherScore != null) {
+            intersection.put(todoId, score + otherScore);
+          }
+        });
+        scores = intersection;
+      }
+      if(scores.isEmpty()) {
+        return new SearchResult(Collections.emptyList(), 0);
+      }
+    }
+
+    List<Map.Entry<Integer, Float>> ranked = new ArrayList<>(scores.size());
+    for(Map.Entry<Integer, Float> entry : scores.entrySet()) {
+      IndexedTodo indexedTodo = documents.get(entry.getKey());
+      if(indexedTodo != null) {
+        entry.setValue(entry.getValue() / (float) Math.sqrt(Math.max(1, indexedTodo.terms.size())));
+        ranked.add(entry);
+      }
+    }
+    ranked.sort((first, second) -> {
+      int byScore = Float.compare(second.getValue(), first.getValue());
+      return byScore != 0 ? byScore : Integer.compare(first.getKey(), second.getKey());
+    });
+
+    int from = Math.min(offset, ranked.size());
+    int to = Math.min(from + limit, ranked.size());
+    List<Integer> todoIds = new ArrayList<>(to - from);
+    for(int i = from; i < to; i++) {
+      todoIds.add(ranked.get(i).getKey());
+    }
+    return new SearchResult(todoIds, ranked.size());
+  }
+
+  /**
+   * This method provides number of indexed todos.
+   *
+   * @return number of indexed todos.
+   */
+  public int size() {
+    return documents.size();
+  }
+
+  private void afterCommit(Runnable change) {
+    if(TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          change.run();
+        }
+      });
+    } else {
+      change.run();
+    }
+  }
+
+  private synchronized void putIfNotWritten(TodoEntity todoEntity) {
+    if(writtenDuringRebuild.contains(todoEntity.getId())
+        || (completedRemovedDuringRebuild && todoEntity.isCompleted())) {
+      return;
+    }
+    putNow(todoEntity.getId(), new IndexedTodo(tokenize(todoEntity.getTitle()), todoEntity.isCompleted()));
+  }
+
+  private synchronized void put(int todoId, IndexedTodo indexedTodo) {
+    markWritten(todoId);
+    putNow(todoId, indexedTodo);
+  }
+
+  private void putNow(int todoId, IndexedTodo indexedTodo) {
+    IndexedTodo previous = documents.put(todoId, indexedTodo);
+    if(previous != null) {
+      removePostings(todoId, previous.terms);
+    }
+    indexedTodo.terms.forEach(term -> postings.computeIfAbsent(term, key -> ConcurrentHashMap.newKeySet()).add(todoId));
+  }
+
+  private synchronized void removeNow(int todoId) {
+    markWritten(todoId);
+    IndexedTodo previous = documents.remove(todoId);
+    if(previous != null) {
+      removePostings(todoId, previous.terms);
+    }
+  }
+
+  private synchronized void removeAllNow(Collection<Integer> todoIds) {
+    todoIds.forEach(this::removeNow);
+  }
+
+  private synchronized void removeCompletedNow() {
+    if(writtenDuringRebuild != null) {
+      //completed todos read by the rebuild before this removal are gone
+      completedRemovedDuringRebuild = true;
+    }
+    List<Integer> completedTodoIds = new ArrayList<>();
+    documents.forEach((todoId, indexedTodo) -> {
+      if(indexedTodo.completed) {
+        completedTodoIds.add(todoId);
+      }
+    });
+    removeAllNow(completedTodoIds);
+  }
+
+  private void markWritten(int todoId) {
+    if(writtenDuringRebuild != null) {
+      writtenDuringRebuild.add(todoId);
+    }
+  }
+
+  private Map<Integer, Float> match(String queryTerm) {
+    Map<Integer, Float> termScores = new HashMap<>();
+    for(Map.Entry<String, Set<Integer>> posting : postings.subMap(queryTerm, true, queryTerm + Character.MAX_VALUE,
+        true).entrySet()) {
+      float score = posting.getKey().equals(queryTerm) ? EXACT_MATCH_SCORE : PREFIX_MATCH_SCORE;
+      posting.getValue().forEach(todoId -> termScores.merge(todoId, score, Math::max));
+    }
+    return termScores;
+  }
+
+  private void removePostings(int todoId, Set<String> terms) {
+    terms.forEach(term -> postings.computeIfPresent(term, (key, todoIds) -> {
+      todoIds.remove(todoId);
+      return todoIds.isEmpty() ? null : todoIds;
+    }));
+  }
+
+  static Set<String> tokenize(String text) {
+    Set<String> terms = new LinkedHashSet<>();
+    if(text == null) {
+      return terms;
+    }
+    String lowerCaseText = text.toLowerCase(Locale.ROOT);
+    int start = -1;
+    for(int i = 0; i <= lowerCaseText.length(); i++) {
+      boolean termCharacter = i < lowerCaseText.length() && Character.isLetterOrDigit(lowerCaseText.charAt(i));
+      if(termCharacter && start < 0) {
+        start = i;
+      } else if(!termCharacter && start >= 0) {
+        terms.add(lowerCaseText.substring(start, i));
+        start = -1;
+      }
+    }
+    return terms;
+  }
+
+  /**
+   * This class holds the indexed terms of a todo.
+   */
+  private static final class IndexedTodo {
+
+    private final Set<String> terms;
+    private final boolean completed;
+
+    private IndexedTodo(Set<String> terms, boolean completed) {
+      this.terms = terms;
+      this.completed = completed;
+    }
+  }
+
+  /**
+   * This class holds a page of ranked todo ids and the total number of matches.
+   */
+  public static final class SearchResult {
+
+    private final List<Integer> todoIds;
+    private final long total;
+
+    /**
+     * Parameterized constructor for {@link SearchResult}.
+     *
+     * @param todoIds ranked todo ids of the page.
+     * @param total total number of matches.
+     */
+    public SearchResult(List<Integer> todoIds, long total) {
+      this.todoIds = todoIds;
+      this.total = total;
+    }
+
+    /**
+     * Getter method to get ranked todo ids of the page.
+     *
+     * @return ranked todo ids.
+     */
+    public List<Integer> getTodoIds() {
+      return todoIds;
+    }
+
+    /**
+     * Getter method to get total number of matches.
+     *
+     * @return total number of matches.
+     */
+    public long getTotal() {
+      return total;
+    }
+  }
+}
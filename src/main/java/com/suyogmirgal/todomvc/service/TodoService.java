@@ -1,15 +1,34 @@
 package com.suyogmirgal.todomvc.service;
 
+import com.suyogmirgal.todomvc.cache.TodoCache;
+import com.suyogmirgal.todomvc.cache.TodoInvalidation;
 import com.suyogmirgal.todomvc.entity.TodoEntity;
+import com.suyogmirgal.todomvc.model.TodoChangesDto;
 import com.suyogmirgal.todomvc.model.TodoDto;
+import com.suyogmirgal.todomvc.model.TodoEventType;
+import com.suyogmirgal.todomvc.model.TodoFilter;
+import com.suyogmirgal.todomvc.model.TodoSearchResultDto;
+import com.suyogmirgal.todomvc.model.TodoStatsDto;
 import com.suyogmirgal.todomvc.repository.TodoRepository;
-import jakarta.transaction.Transactional;
+import com.suyogmirgal.todomvc.repository.TodoSpecifications;
+import io.micrometer.observation.annotation.Observed;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * This is service class which provides all the operations/
@@ -19,19 +38,59 @@ import org.springframework.stereotype.Service;
  * created on 2024/04/30
  */
 @Service
+@Observed(name = "todo.service")
 public class TodoService {
 
   static DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
 
+  static final Set<String> QUERYABLE_FIELDS = Set.of("id", "title", "order", "isCompleted", "createdDate",
+      "updatedDate");
+
   private final TodoRepository todoRepository;
 
+  private final TodoOutboxService todoOutboxService;
+
+  private final boolean softDeleteEnabled;
+
+  private final Optional<TodoWriteBehindBuffer> todoWriteBehindBuffer;
+
+  private final TodoSearchIndex todoSearchIndex;
+
+  private final TodoStatsService todoStatsService;
+
+  private final TodoReadCoalescer todoReadCoalescer;
+
+  private final TodoCache todoCache;
+
+  private final TodoRowLocks todoRowLocks;
+
   /**
    * Parameterized constructor for {@link TodoService}.
    *
    * @param todoRepository instance of {@link TodoRepository}.
+   * @param todoOutboxService instance of {@link TodoOutboxService} which records every mutation.
+   * @param softDeleteEnabled true if deletes only mark todos as deleted and leave removal to {@link TodoPurger}.
+   * @param todoWriteBehindBuffer {@link TodoWriteBehindBuffer} through which todos are created, if enabled.
+   * @param todoSearchIndex instance of {@link TodoSearchIndex} which is kept in sync with every write.
+   * @param todoStatsService instance of {@link TodoStatsService} whose counters are changed by every write.
+   * @param todoReadCoalescer instance of {@link TodoReadCoalescer} which collapses concurrent identical reads.
+   * @param todoCache instance of {@link TodoCache} which is invalidated on every instance by every write.
+   * @param todoRowLocks instance of {@link TodoRowLocks} which serializes writes of the same todo.
    */
-  public TodoService(TodoRepository todoRepository) {
+  public TodoService(TodoRepository todoRepository, TodoOutboxService todoOutboxService,
+      @Value("${todo.soft-delete.enabled:false}") boolean softDeleteEnabled,
+      Optional<TodoWriteBehindBuffer> todoWriteBehindBuffer, TodoSearchIndex todoSearchIndex,
+      TodoStatsService todoStatsService, TodoReadCoalescer todoReadCoalescer, TodoCache todoCache,
+      TodoRowLocks todoRowLocks) {
     this.todoRepository = todoRepository;
+    this.todoOutboxService = todoOutboxService;
+    this.softDeleteEnabled = softDeleteEnabled;
+    this.todoWriteBehindBuffer = todoWriteBehindBuffer;
+    this.todoSearchIndex = todoSearchIndex;
+    this.todoStatsService = todoStatsService;
+    this.todoReadCoalescer = todoReadCoalescer;
+    this.todoCache = todoCache;
+    this.todoRowLocks = todoRowLocks;
   }
 
 
@@ -40,67 +99,225 @@ public class TodoService {
    *
    * @param todoDto instance of {@link TodoDto} which hold data about todo to be craeted.
    * @return {@link TodoDto} which holds data about todo created.
+   * @throws TodoWriteBehindOverflowException if write behind is enabled and its buffer is full.
    */
+  @Transactional
   public TodoDto createTodo(final TodoDto todoDto){
-    TodoEntity todoEntity = new TodoEntity();
-    todoEntity.setTitle(todoDto.getTitle());
-    todoEntity.setOrder(todoDto.getOrder());
-    todoEntity.setCompleted(todoDto.isCompleted());
+    return createTodo(todoDto, true);
+  }
+
+  /**
+   * This method creates todo.
+   *
+   * @param todoDto instance of {@link TodoDto} which hold data about todo to be craeted.
+   * @param writeBehind false to insert the todo in the current transaction even if write behind is enabled.
+   * @return {@link TodoDto} which holds data about todo created.
+   * @throws TodoWriteBehindOverflowException if write behind is used and its buffer is full.
+   */
+  @Transactional
+  public TodoDto createTodo(final TodoDto todoDto, final boolean writeBehind){
+    TodoEntity todoEntity = TodoMapper.toNewEntity(todoDto, format(LocalDateTime.now()));
+    TodoEntity savedTodoEntity;
+    if(writeBehind && todoWriteBehindBuffer.isPresent()) {
+      savedTodoEntity = todoWriteBehindBuffer.get().enqueue(todoEntity);
+    } else {
+      savedTodoEntity = todoRepository.save(todoEntity);
+      todoOutboxService.record(TodoEventType.CREATED, savedTodoEntity);
+      todoCache.invalidate(List.of(TodoInvalidation.todo(savedTodoEntity.getId()), TodoInvalidation.lists()));
+      todoSearchIndex.index(savedTodoEntity);
+      todoStatsService.recordCreated(savedTodoEntity.isCompleted());
+    }
+    return TodoMapper.toDto(savedTodoEntity);
+  }
+
+  /**
+   * This method creates provided todos in one transaction, inserts are sent to the database in JDBC batches.
+   *
+   * @param todoDtoList list of {@link TodoDto} which hold data about todos to be created.
+   * @return List of {@link TodoDto} which hold data about todos created, in order of provided todos.
+   * @throws TodoWriteBehindOverflowException if write behind is enabled and its buffer has no room for all todos,
+   *     none of the todos is created then.
+   */
+  @Transactional
+  public List<TodoDto> createTodos(final List<TodoDto> todoDtoList){
+    return createTodos(todoDtoList, true);
+  }
+
+  /**
+   * This method creates provided todos in one transaction, inserts are sent to the database in JDBC batches.
+   *
+   * @param todoDtoList list of {@link TodoDto} which hold data about todos to be created.
+   * @param writeBehind false to insert the todos in the current transaction even if write behind is enabled.
+   * @return List of {@link TodoDto} which hold data about todos created, in order of provided todos.
+   * @throws TodoWriteBehindOverflowException if write behind is used and its buffer has no room for all todos,
+   *     none of the todos is created then.
+   */
+  @Transactional
+  public List<TodoDto> createTodos(final List<TodoDto> todoDtoList, final boolean writeBehind){
     LocalDateTime now = format(LocalDateTime.now());
-    todoEntity.setCreatedDate(now);
-    todoEntity.setUpdatedDate(now);
-    TodoEntity savedTodoEntity = todoRepository.save(todoEntity);
-    return new TodoDto(savedTodoEntity.getId(), savedTodoEntity.getTitle(),
-            savedTodoEntity.getOrder(), savedTodoEntity.isCompleted(),
-            savedTodoEntity.getCreatedDate(), savedTodoEntity.getUpdatedDate());
+    List<TodoEntity> todoEntityList = new ArrayList<>(todoDtoList.size());
+    todoDtoList.forEach(todoDto -> todoEntityList.add(TodoMapper.toNewEntity(todoDto, now)));
+    List<TodoEntity> savedTodoEntityList;
+    if(writeBehind && todoWriteBehindBuffer.isPresent()) {
+      savedTodoEntityList = todoWriteBehindBuffer.get().enqueueAll(todoEntityList);
+    } else {
+      savedTodoEntityList = todoRepository.saveAll(todoEntityList);
+      savedTodoEntityList.forEach(todoEntity -> {
+        todoOutboxService.record(TodoEventType.CREATED, todoEntity);
+        todoSearchIndex.index(todoEntity);
+        todoStatsService.recordCreated(todoEntity.isCompleted());
+      });
+      todoCache.invalidate(invalidationsOf(savedTodoEntityList.stream().map(TodoEntity::getId).toList()));
+    }
+    List<TodoDto> createdTodoDtoList = new ArrayList<>(savedTodoEntityList.size());
+    savedTodoEntityList.forEach(todoEntity -> createdTodoDtoList.add(TodoMapper.toDto(todoEntity)));
+    return createdTodoDtoList;
   }
 
   /**
-   * This method provides details about todo for provided todoId.
+   * This method provides details about todo for provided todoId. Query runs in a read-only
+   * transaction opened by {@link TodoReadCoalescer}, not for reads which join it.
    *
    * @param todoId id of the todo to be searched.
    * @return Optional of {@link TodoDto} if todo found for provided todoId else Optional.empty().
    */
   public Optional<TodoDto> getTodoById(final int todoId){
-    Optional<TodoEntity>  todoEntityOptional = todoRepository.findById(todoId);
-    if(todoEntityOptional.isPresent()) {
-      TodoEntity todoEntity = todoEntityOptional.get();
-      return Optional.of(new TodoDto(todoEntity.getId(), todoEntity.getTitle(),
-          todoEntity.getOrder(), todoEntity.isCompleted(), todoEntity.getCreatedDate(), todoEntity.getUpdatedDate()));
-    }
-    return Optional.empty();
+    return todoCache.get(TodoCache.todoKey(todoId), () -> todoReadCoalescer.execute("getTodoById", todoId, () -> {
+      return todoRepository.findById(todoId).map(TodoMapper::toDto);
+    }));
   }
 
   /**
-   * This method provides list of all active and isCompleted todos.
+   * This method provides list of all active and isCompleted todos. Query runs in a read-only
+   * transaction opened by {@link TodoReadCoalescer}, not for reads which join it.
    *
-   * @return List of {@link TodoDto}.
+   * @return unmodifiable List of {@link TodoDto}.
    */
   public List<TodoDto> getAllTodos(){
-    List<TodoEntity>  todoEntityList = todoRepository.findAllByOrderByOrderAsc();
-    List<TodoDto> todoDtoList = new ArrayList<>();
+    return todoCache.get(TodoCache.ALL_TODOS_KEY, () -> todoReadCoalescer.execute("getAllTodos", "", () -> {
+      return Collections.unmodifiableList(todoRepository.findAllDtosByOrderByOrderAsc());
+    }));
+  }
 
-    todoEntityList.forEach(todoEntity -> {
-      todoDtoList.add(new TodoDto(todoEntity.getId(), todoEntity.getTitle(),
-          todoEntity.getOrder(), todoEntity.isCompleted(), todoEntity.getCreatedDate(), todoEntity.getUpdatedDate()));
-    });
-    return todoDtoList;
+  /**
+   * This method provides a page of todos in ascending order of order, which follow the todo with provided
+   * order and id. Pages are read by a keyset on order and id, so a page costs the same however deep it is.
+   *
+   * @param order order of the last todo of the previous page, {@link Integer#MIN_VALUE} for the first page.
+   * @param id id of the last todo of the previous page, {@link Integer#MIN_VALUE} for the first page.
+   * @param size max number of todos in the page.
+   * @return List of {@link TodoDto}, empty after the last page.
+   */
+  @Transactional(readOnly = true)
+  public List<TodoDto> getTodosAfter(final int order, final int id, final int size){
+    return todoRepository.findDtosAfterOrderAndId(order, id, PageRequest.of(0, size));
   }
 
   /**
-   * This method provides list of all active todos.
+   * This method provides list of all active todos. Query runs in a read-only
+   * transaction opened by {@link TodoReadCoalescer}, not for reads which join it.
    *
-   * @return List of {@link TodoDto}.
+   * @return unmodifiable List of {@link TodoDto}.
    */
   public List<TodoDto> getAllActiveTodos(){
-    List<TodoEntity>  todoEntityList = todoRepository.findByIsCompletedOrderByOrderAsc(false);
-    List<TodoDto> todoDtoList = new ArrayList<>();
+    return todoCache.get(TodoCache.ACTIVE_TODOS_KEY, () -> todoReadCoalescer.execute("getAllActiveTodos", "", () -> {
+      return Collections.unmodifiableList(todoRepository.findDtosByIsCompletedOrderByOrderAsc(false));
+    }));
+  }
 
-    todoEntityList.forEach(todoEntity -> {
-      todoDtoList.add(new TodoDto(todoEntity.getId(), todoEntity.getTitle(),
-          todoEntity.getOrder(), todoEntity.isCompleted(), todoEntity.getCreatedDate(), todoEntity.getUpdatedDate()));
+  /**
+   * This method provides list of todos matching provided filter in provided sort order.
+   *
+   * @param todoFilter instance of {@link TodoFilter} which todos have to match.
+   * @param sort {@link Sort} on queryable fields, todos with equal sort keys are ordered by id.
+   * @return List of {@link TodoDto}.
+   * @throws IllegalArgumentException if sort refers to a field which is not queryable.
+   */
+  @Transactional(readOnly = true)
+  public List<TodoDto> getTodos(final TodoFilter todoFilter, final Sort sort){
+    return todoRepository.findDtos(TodoSpecifications.matching(todoFilter), validate(sort));
+  }
+
+  /**
+   * This method provides only provided fields of todos matching provided filter in provided sort order.
+   * Only columns of provided fields are read from the database.
+   *
+   * @param todoFilter instance of {@link TodoFilter} which todos have to match.
+   * @param sort {@link Sort} on queryable fields, todos with equal sort keys are ordered by id.
+   * @param fields names of the {@link TodoDto} fields to be provided.
+   * @return List of field name to value maps, in order of provided fields.
+   * @throws IllegalArgumentException if fields or sort refer to a field which is not queryable.
+   */
+  @Transactional(readOnly = true)
+  public List<Map<String, Object>> getTodoProjections(final TodoFilter todoFilter, final Sort sort,
+      final List<String> fields){
+    if(fields.isEmpty()) {
+      throw new IllegalArgumentException("at least one field is required");
+    }
+    fields.forEach(field -> {
+      if(!QUERYABLE_FIELDS.contains(field)) {
+        throw new IllegalArgumentException("unknown field " + field);
+      }
+    });
+    return todoRepository.findProjected(TodoSpecifications.matching(todoFilter), validate(sort),
+        new ArrayList<>(new LinkedHashSet<>(fields)));
+  }
+
+  /**
+   * This method provides todos changed and deleted since provided change token,
+   * so cost of the sync is bounded by the number of changes and not by number of todos.
+   *
+   * @param changeToken change token returned by the previous sync, 0 for the first sync.
+   * @return {@link TodoChangesDto} with changed todos ordered by order and ids of deleted todos.
+   */
+  @Transactional
+  public TodoChangesDto getTodoChangesSince(final long changeToken){
+    long latestSequence = todoOutboxService.getStableSequence(changeToken);
+    if(changeToken >= latestSequence) {
+      return new TodoChangesDto(latestSequence, new ArrayList<>(), new ArrayList<>());
+    }
+    List<Integer> changedTodoIds = todoOutboxService.getChangedTodoIds(changeToken, latestSequence);
+    List<TodoDto> changed = new ArrayList<>(todoRepository.findDtosByIdIn(changedTodoIds));
+    Set<Integer> foundTodoIds = new HashSet<>(changed.size() * 2);
+
+    changed.forEach(todoDto -> foundTodoIds.add(todoDto.getId()));
+    changed.sort(Comparator.comparing(TodoDto::getOrder));
+
+    List<Integer> deleted = new ArrayList<>(changedTodoIds.size() - foundTodoIds.size());
+    changedTodoIds.forEach(todoId -> {
+      if(!foundTodoIds.contains(todoId)) {
+        deleted.add(todoId);
+      }
     });
-    return todoDtoList;
+    return new TodoChangesDto(latestSequence, changed, deleted);
+  }
+
+  /**
+   * This method searches todos by title using {@link TodoSearchIndex}.
+   *
+   * @param query search query, every term of which has to match a title term or its prefix.
+   * @param page index of the page, starting from 0.
+   * @param size size of the page.
+   * @return {@link TodoSearchResultDto} with todos of the page in ranking order.
+   */
+  public TodoSearchResultDto searchTodos(final String query, final int page, final int size){
+    int offset = (int) Math.min((long) page * size, Integer.MAX_VALUE);
+    TodoSearchIndex.SearchResult searchResult = todoSearchIndex.search(query, offset, size);
+    if(searchResult.getTodoIds().isEmpty()) {
+      return new TodoSearchResultDto(searchResult.getTotal(), page, size, new ArrayList<>());
+    }
+    List<TodoDto> todoDtoList = todoRepository.findDtosByIdIn(searchResult.getTodoIds());
+    Map<Integer, TodoDto> todoDtoById = new HashMap<>(todoDtoList.size() * 2);
+    todoDtoList.forEach(todoDto -> todoDtoById.put(todoDto.getId(), todoDto));
+
+    List<TodoDto> items = new ArrayList<>(todoDtoList.size());
+    searchResult.getTodoIds().forEach(todoId -> {
+      TodoDto todoDto = todoDtoById.get(todoId);
+      if(todoDto != null) {
+        items.add(todoDto);
+      }
+    });
+    return new TodoSearchResultDto(searchResult.getTotal(), page, size, items);
   }
 
   /**
@@ -110,8 +327,10 @@ public class TodoService {
    * @param updatedTodo instance of {@link TodoDto} holds data about todo to be updated.
    * @return Optional of updated {@link TodoDto} if todo found for provided todoId else Optional.empty().
    */
+  @Transactional
   public Optional<TodoDto> updateTodoById(final int todoId, final TodoDto updatedTodo){
-    Optional<TodoEntity>  todoEntityOptional = todoRepository.findById(todoId);
+    todoRowLocks.lock(todoId);
+    Optional<TodoEntity>  todoEntityOptional = findForWrite(todoId);
     if(todoEntityOptional.isPresent()) {
       TodoEntity todoEntity = todoEntityOptional.get();
       if(updatedTodo.getTitle() != null && updatedTodo.getTitle().trim().length() > 0) {
@@ -120,17 +339,19 @@ public class TodoService {
       if(updatedTodo.getOrder() != null) {
         todoEntity.setOrder(updatedTodo.getOrder());
       }
-      if(updatedTodo.isCompleted()) {
+      if(updatedTodo.isCompleted() && !todoEntity.isCompleted()) {
         todoEntity.setCompleted(true);
+        todoStatsService.recordCompleted();
       }
 
       LocalDateTime now = format(LocalDateTime.now());
       todoEntity.setUpdatedDate(now);
 
       TodoEntity updatedTodoEntity = todoRepository.save(todoEntity);
-      return Optional.of(new TodoDto(updatedTodoEntity.getId(), updatedTodoEntity.getTitle(),
-          updatedTodoEntity.getOrder(), updatedTodoEntity.isCompleted(), updatedTodoEntity.getCreatedDate(),
-          updatedTodoEntity.getUpdatedDate()));
+      todoOutboxService.record(TodoEventType.UPDATED, updatedTodoEntity);
+      todoCache.invalidate(List.of(TodoInvalidation.todo(todoId), TodoInvalidation.lists()));
+      todoSearchIndex.index(updatedTodoEntity);
+      return Optional.of(TodoMapper.toDto(updatedTodoEntity));
     }
     return Optional.empty();
   }
@@ -141,10 +362,27 @@ public class TodoService {
    * @param todoId id of the todo to be searched.
    * @return true if todo for provided todoId is found and deleted else false.
    */
+  @Transactional
   public boolean deleteTodoById(final int todoId){
-    Optional<TodoEntity>  todoEntityOptional = todoRepository.findById(todoId);
+    todoRowLocks.lock(todoId);
+    if(softDeleteEnabled) {
+      boolean isCompleted = todoRepository.findIsCompletedById(todoId).orElse(false);
+      if(todoRepository.softDeleteById(todoId, format(LocalDateTime.now())) > 0) {
+        todoOutboxService.recordDeleted(todoId);
+        todoCache.invalidate(List.of(TodoInvalidation.todo(todoId), TodoInvalidation.lists()));
+        todoSearchIndex.remove(todoId);
+        todoStatsService.recordDeleted(1, isCompleted ? 1 : 0);
+        return true;
+      }
+      return false;
+    }
+    Optional<TodoEntity>  todoEntityOptional = findForWrite(todoId);
     if(todoEntityOptional.isPresent()) {
+      todoOutboxService.record(TodoEventType.DELETED, todoEntityOptional.get());
       todoRepository.delete(todoEntityOptional.get());
+      todoCache.invalidate(List.of(TodoInvalidation.todo(todoId), TodoInvalidation.lists()));
+      todoSearchIndex.remove(todoId);
+      todoStatsService.recordDeleted(1, todoEntityOptional.get().isCompleted() ? 1 : 0);
       return true;
     }
     return false;
@@ -157,7 +395,80 @@ public class TodoService {
    */
   @Transactional
   public long  deleteAllCompletedTodos(){
-    return todoRepository.deleteByIsCompleted(true);
+    todoOutboxService.recordDeletedByIsCompleted(true);
+    long deletedCount;
+    if(softDeleteEnabled) {
+      deletedCount = todoRepository.softDeleteByIsCompleted(true, format(LocalDateTime.now()));
+    } else {
+      deletedCount = todoRepository.deleteByIsCompleted(true);
+    }
+    todoCache.invalidate(List.of(TodoInvalidation.all()));
+    todoSearchIndex.removeCompleted();
+    todoStatsService.recordDeleted(deletedCount, deletedCount);
+    return deletedCount;
+  }
+
+  /**
+   * This method deletes at most chunkSize isCompleted todos in one transaction.
+   *
+   * @param chunkSize max number of todos to be deleted.
+   * @return ids of the deleted todos.
+   */
+  @Transactional
+  public List<Integer> deleteCompletedTodosChunk(final int chunkSize){
+    List<Integer> todoIds = todoRepository.findIdsByIsCompleted(true, PageRequest.of(0, chunkSize));
+    if(todoIds.isEmpty()) {
+      return todoIds;
+    }
+    todoOutboxService.recordDeleted(todoIds);
+    if(softDeleteEnabled) {
+      todoRepository.softDeleteByIdIn(todoIds, format(LocalDateTime.now()));
+    } else {
+      todoRepository.deleteAllByIdInBatch(todoIds);
+    }
+    todoCache.invalidate(invalidationsOf(todoIds));
+    todoSearchIndex.removeAll(todoIds);
+    todoStatsService.recordDeleted(todoIds.size(), todoIds.size());
+    return todoIds;
+  }
+
+  /**
+   * This method provides number of all, active and isCompleted todos from maintained counters.
+   *
+   * @return {@link TodoStatsDto}.
+   */
+  public TodoStatsDto getTodoStats(){
+    return todoStatsService.getStats();
+  }
+
+  /**
+   * This method provides number of isCompleted todos.
+   *
+   * @return number of isCompleted todos.
+   */
+  public long getCompletedTodoCount(){
+    return todoRepository.countByIsCompleted(true);
+  }
+
+  private Optional<TodoEntity> findForWrite(int todoId) {
+    return todoRowLocks.isSelectForUpdate() ? todoRepository.findForUpdateById(todoId)
+        : todoRepository.findById(todoId);
+  }
+
+  private static List<TodoInvalidation> invalidationsOf(List<Integer> todoIds) {
+    List<TodoInvalidation> todoInvalidations = new ArrayList<>(todoIds.size() + 1);
+    todoIds.forEach(todoId -> todoInvalidations.add(TodoInvalidation.todo(todoId)));
+    todoInvalidations.add(TodoInvalidation.lists());
+    return todoInvalidations;
+  }
+
+  private Sort validate(Sort sort) {
+    sort.forEach(order -> {
+      if(!QUERYABLE_FIELDS.contains(order.getProperty())) {
+        throw new IllegalArgumentException("unknown sort field " + order.getProperty());
+      }
+    });
+    return sort.and(Sort.by("id"));
   }
 
   private LocalDateTime format(LocalDateTime dateTime) {
@@ -0,0 +1,79 @@
+package com.suyogmirgal.todomvc.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.cloud.CloudPlatform;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * This is first step of the graceful shutdown. Once the application context starts closing,
+ * readiness is reported as refusing traffic, while the web and gRPC servers keep accepting
+ * requests for {@code todo.shutdown.readiness-delay-ms}, so load balancers polling
+ * {@code /actuator/health/readiness} stop routing to the instance before it stops listening.
+ * Unless the delay is configured, it is {@value #PLATFORM_READINESS_DELAY_MILLIS} ms on a
+ * detected cloud platform such as Kubernetes and none elsewhere.
+ * Servers then stop accepting and drain in-flight requests for at most
+ * {@code todo.shutdown.drain-timeout-ms}, and the write behind buffer and pending cache
+ * invalidations are flushed after them.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Component
+public class TodoShutdownDrain {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TodoShutdownDrain.class);
+
+  private static final long PLATFORM_READINESS_DELAY_MILLIS = 5000;
+
+  private final ApplicationContext applicationContext;
+
+  private final long readinessDelayMillis;
+
+  /**
+   * Parameterized constructor for {@link TodoShutdownDrain}.
+   *
+   * @param applicationContext context of the application.
+   * @param environment environment in which the cloud platform is detected.
+   * @param readinessDelayMillis time in milliseconds requests are still accepted after readiness turns false,
+   *     negative for the default of the platform.
+   */
+  public TodoShutdownDrain(ApplicationContext applicationContext, Environment environment,
+      @Value("${todo.shutdown.readiness-delay-ms:-1}") long readinessDelayMillis) {
+    this.applicationContext = applicationContext;
+    if(readinessDelayMillis < 0) {
+      this.readinessDelayMillis = CloudPlatform.getActive(environment) == null ? 0 : PLATFORM_READINESS_DELAY_MILLIS;
+    } else {
+      this.readinessDelayMillis = readinessDelayMillis;
+    }
+  }
+
+  /**
+   * This method turns readiness false and waits for load balancers to notice, before any server is stopped.
+   *
+   * @param event {@link ContextClosedEvent} of the closing context.
+   */
+  @EventListener
+  public void onContextClosed(final ContextClosedEvent event) {
+    if(event.getApplicationContext() != applicationContext) {
+      return;
+    }
+    AvailabilityChangeEvent.publish(applicationContext, ReadinessState.REFUSING_TRAFFIC);
+    if(readinessDelayMillis <= 0) {
+      return;
+    }
+    LOGGER.info("Refusing traffic, accepting requests for {} ms more before draining", readinessDelayMillis);
+    try {
+      Thread.sleep(readinessDelayMillis);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,148 @@
+package com.suyogmirgal.todomvc.service;
+
+import com.suyogmirgal.todomvc.model.TodoStatsDto;
+import com.suyogmirgal.todomvc.repository.TodoCounts;
+import com.suyogmirgal.todomvc.repository.TodoRepository;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * This is service class which maintains number of todos in memory,
+ * so stats are served without counting rows. Counters are changed by
+ * {@link TodoService} write paths once their transaction commits and are
+ * periodically reconciled against the database to correct any drift.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Service
+public class TodoStatsService {
+
+  private final TodoRepository todoRepository;
+
+  private final LongAdder total = new LongAdder();
+
+  private final LongAdder completed = new LongAdder();
+
+  private final LongAdder changes = new LongAdder();
+
+  //writes which are committing and not yet added to counters
+  private final AtomicLong committing = new AtomicLong();
+
+  private final int reconcileAttempts;
+
+  /**
+   * Parameterized constructor for {@link TodoStatsService}.
+   *
+   * @param todoRepository instance of {@link TodoRepository}.
+   * @param reconcileAttempts max number of times database is counted by one reconciliation.
+   */
+  public TodoStatsService(TodoRepository todoRepository,
+      @Value("${todo.stats.reconcile-attempts:5}") int reconcileAttempts) {
+    this.todoRepository = todoRepository;
+    this.reconcileAttempts = Math.max(reconcileAttempts, 1);
+  }
+
+  /**
+   * This method provides number of all, active and isCompleted todos.
+   *
+   * @return {@link TodoStatsDto}.
+   */
+  public TodoStatsDto getStats() {
+    long totalCount = Math.max(total.sum(), 0);
+    long completedCount = Math.min(Math.max(completed.sum(), 0), totalCount);
+    return new TodoStatsDto(totalCount, totalCount - completedCount, completedCount);
+  }
+
+  /**
+   * This method records creation of a todo.
+   *
+   * @param isCompleted true if todo is created as isCompleted.
+   */
+  public void recordCreated(final boolean isCompleted) {
+    apply(1, isCompleted ? 1 : 0);
+  }
+
+  /**
+   * This method records an active todo becoming isCompleted.
+   */
+  public void recordCompleted() {
+    apply(0, 1);
+  }
+
+  /**
+   * This method records deletion of provided number of todos.
+   *
+   * @param count number of deleted todos.
+   * @param completedCount number of isCompleted todos among deleted todos.
+   */
+  public void recordDeleted(final long count, final long completedCount) {
+    apply(-count, -completedCount);
+  }
+
+  /**
+   * This method replaces counters by number of todos counted in the database.
+   * A count is used only if no write was committing or added to counters while
+   * counting, else the count may miss a write which counters have or have a write
+   * which counters get later. Database is counted again up to
+   * {@code todo.stats.reconcile-attempts} times, else reconciliation is retried by the next run.
+   *
+   * @return true if counters were reconciled.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(initialDelayString = "${todo.stats.reconcile-interval-ms:60000}",
+      fixedDelayString = "${todo.stats.reconcile-interval-ms:60000}")
+  public synchronized boolean reconcile() {
+    for(int attempt = 0; attempt < reconcileAttempts; attempt++) {
+      long changesBefore = changes.sum();
+      TodoCounts todoCounts = todoRepository.countTodos();
+      if(committing.get() == 0 && changes.sum() == changesBefore) {
+        total.add(todoCounts.getTotal() - total.sum());
+        completed.add(todoCounts.getCompleted() - completed.sum());
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void apply(final long totalDelta, final long completedDelta) {
+    if(TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        private boolean isCommitting;
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+          isCommitting = true;
+          committing.incrementAndGet();
+        }
+
+        @Override
+        public void afterCommit() {
+          add(totalDelta, completedDelta);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+          if(isCommitting) {
+            committing.decrementAndGet();
+          }
+        }
+      });
+    } else {
+      add(totalDelta, completedDelta);
+    }
+  }
+
+  private void add(final long totalDelta, final long completedDelta) {
+    total.add(totalDelta);
+    completed.add(completedDelta);
+    changes.increment();
+  }
+}
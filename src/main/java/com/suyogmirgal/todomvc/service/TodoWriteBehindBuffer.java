@@ -0,0 +1,312 @@
+package com.suyogmirgal.todomvc.service;
+
+import com.suyogmirgal.todomvc.cache.TodoCache;
+import com.suyogmirgal.todomvc.cache.TodoInvalidation;
+import com.suyogmirgal.todomvc.entity.TodoEntity;
+import com.suyogmirgal.todomvc.model.TodoEventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * This is write behind buffer for todo creates. Todos get their id from
+ * {@link TodoIdAllocator} and are queued in a bounded ring buffer, and a
+ * single flusher thread writes them to the database in batches once batch
+ * size or flush interval is reached. Producers wait while buffer is full
+ * and get {@link TodoWriteBehindOverflowException} if it stays full. A
+ * batch of todos is accepted as a whole or not at all.
+ *
+ * <p>Durability trade-off: a created todo is acknowledged before it is
+ * written, so todos still in the buffer are lost if the process dies
+ * without a clean shutdown, and a todo is not visible to reads, search
+ * and stats until its batch is flushed. Buffer is drained on a clean shutdown.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Component
+@ConditionalOnProperty(name = "todo.write-behind.enabled", havingValue = "true")
+public class TodoWriteBehindBuffer implements SmartLifecycle {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TodoWriteBehindBuffer.class);
+
+  private static final String INSERT_TODO_SQL = "insert into todo "
+      + "(id, title, todo_order, is_completed, created_date, updated_date) values (?, ?, ?, ?, ?, ?)";
+
+  private static final long STOP_CHECK_INTERVAL_MILLIS = 100;
+
+  private final TodoIdAllocator todoIdAllocator;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final TodoOutboxService todoOutboxService;
+
+  private final TodoCache todoCache;
+
+  private final TodoSearchIndex todoSearchIndex;
+
+  private final TodoStatsService todoStatsService;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final BlockingQueue<TodoEntity> queue;
+
+  private final Semaphore freeSlots;
+
+  private final int batchSize;
+
+  private final long flushIntervalMillis;
+
+  private final long offerTimeoutMillis;
+
+  private final int maxFlushAttempts;
+
+  private final AtomicInteger pending = new AtomicInteger();
+
+  private final Counter flushedCounter;
+
+  private final Counter rejectedCounter;
+
+  private final Counter droppedCounter;
+
+  private volatile boolean running;
+
+  private Thread flusher;
+
+  /**
+   * Parameterized constructor for {@link TodoWriteBehindBuffer}.
+   *
+   * @param todoIdAllocator instance of {@link TodoIdAllocator}.
+   * @param jdbcTemplate instance of {@link JdbcTemplate} used for batch inserts.
+   * @param todoOutboxService instance of {@link TodoOutboxService}.
+   * @param todoCache instance of {@link TodoCache} which is invalidated once a batch is written.
+   * @param todoSearchIndex instance of {@link TodoSearchIndex} to which todos are added once their batch is written.
+   * @param todoStatsService instance of {@link TodoStatsService} which counts todos once their batch is written.
+   * @param transactionManager transaction manager shared with the repositories.
+   * @param meterRegistry registry to which buffer metrics are published.
+   * @param capacity max number of todos waiting in the buffer.
+   * @param batchSize max number of todos written in one batch.
+   * @param flushIntervalMillis max time a todo waits in the buffer while batch is not full.
+   * @param offerTimeoutMillis max time a producer waits while buffer is full.
+   * @param maxFlushAttempts number of times a failing batch is written before it is dropped.
+   */
+  public TodoWriteBehindBuffer(TodoIdAllocator todoIdAllocator, JdbcTemplate jdbcTemplate,
+      TodoOutboxService todoOutboxService, TodoCache todoCache, TodoSearchIndex todoSearchIndex,
+      TodoStatsService todoStatsService, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+      @Value("${todo.write-behind.capacity:10000}") int capacity,
+      @Value("${todo.write-behind.batch-size:500}") int batchSize,
+      @Value("${todo.write-behind.flush-interval-ms:50}") long flushIntervalMillis,
+      @Value("${todo.write-behind.offer-timeout-ms:100}") long offerTimeoutMillis,
+      @Value("${todo.write-behind.max-flush-attempts:3}") int maxFlushAttempts) {
+    this.todoIdAllocator = todoIdAllocator;
+    this.jdbcTemplate = jdbcTemplate;
+    this.todoOutboxService = todoOutboxService;
+    this.todoCache = todoCache;
+    this.todoSearchIndex = todoSearchIndex;
+    this.todoStatsService = todoStatsService;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.freeSlots = new Semaphore(capacity);
+    this.batchSize = batchSize;
+    this.flushIntervalMillis = flushIntervalMillis;
+    this.offerTimeoutMillis = offerTimeoutMillis;
+    this.maxFlushAttempts = maxFlushAttempts;
+    Gauge.builder("todo.writebehind.pending", pending, AtomicInteger::get)
+        .description("Todos accepted but not yet written to the database")
+        .register(meterRegistry);
+    Gauge.builder("todo.writebehind.capacity", freeSlots, Semaphore::availablePermits)
+        .description("Free slots in the write behind buffer")
+        .register(meterRegistry);
+    this.flushedCounter = Counter.builder("todo.writebehind.flushed").register(meterRegistry);
+    this.rejectedCounter = Counter.builder("todo.writebehind.rejected").register(meterRegistry);
+    this.droppedCounter = Counter.builder("todo.writebehind.dropped").register(meterRegistry);
+  }
+
+  /**
+   * This method assigns id to the todo and queues it for writing.
+   *
+   * @param todoEntity instance of {@link TodoEntity} to be written.
+   * @return provided {@link TodoEntity} with assigned id.
+   * @throws TodoWriteBehindOverflowException if buffer is closed or stays full.
+   */
+  public TodoEntity enqueue(final TodoEntity todoEntity) {
+    return enqueueAll(List.of(todoEntity)).get(0);
+  }
+
+  /**
+   * This method assigns ids to the todos and queues all of them for writing, or none of them
+   * if there is no room for all of them, so a rejected batch can be sent again without duplicates.
+   *
+   * @param todoEntityList List of {@link TodoEntity} to be written.
+   * @return provided List of {@link TodoEntity} with assigned ids.
+   * @throws TodoWriteBehindOverflowException if buffer is closed or does not get room for the whole batch.
+   */
+  public List<TodoEntity> enqueueAll(final List<TodoEntity> todoEntityList) {
+    int size = todoEntityList.size();
+    if(!running) {
+      rejectedCounter.increment(size);
+      throw new TodoWriteBehindOverflowException("Write behind buffer is closed");
+    }
+    boolean reserved;
+    try {
+      reserved = freeSlots.tryAcquire(size, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      reserved = false;
+    }
+    if(!reserved) {
+      rejectedCounter.increment(size);
+      throw new TodoWriteBehindOverflowException("Write behind buffer is full");
+    }
+    try {
+      for(TodoEntity todoEntity : todoEntityList) {
+        todoEntity.setId(todoIdAllocator.nextId());
+      }
+    } catch (RuntimeException ex) {
+      freeSlots.release(size);
+      throw ex;
+    }
+    pending.addAndGet(size);
+    //slots are reserved, so there is room in the queue
+    queue.addAll(todoEntityList);
+    return todoEntityList;
+  }
+
+  /**
+   * This method provides number of todos accepted but not yet written.
+   *
+   * @return number of pending todos.
+   */
+  public int getPendingCount() {
+    return pending.get();
+  }
+
+  @Override
+  public synchronized void start() {
+    if(running) {
+      return;
+    }
+    running = true;
+    flusher = new Thread(this::runFlusher, "todo-write-behind-flusher");
+    flusher.setDaemon(true);
+    flusher.start();
+  }
+
+  @Override
+  public void stop() {
+    Thread currentFlusher;
+    synchronized (this) {
+      running = false;
+      currentFlusher = flusher;
+    }
+    if(currentFlusher != null) {
+      try {
+        currentFlusher.join();
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    //todos enqueued while flusher was exiting
+    List<TodoEntity> remaining = new ArrayList<>(queue.size());
+    freeSlots.release(queue.drainTo(remaining));
+    flush(remaining);
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  /**
+   * Buffer stops after the web server, so requests which are still
+   * draining can enqueue and everything they enqueued is flushed.
+   *
+   * @return phase of this lifecycle.
+   */
+  @Override
+  public int getPhase() {
+    return SmartLifecycle.DEFAULT_PHASE - 4096;
+  }
+
+  private void runFlusher() {
+    List<TodoEntity> batch = new ArrayList<>(batchSize);
+    long deadline = System.currentTimeMillis() + flushIntervalMillis;
+    while (running || !queue.isEmpty()) {
+      //waits in slices, so stop does not wait for the rest of the interval
+      long waitMillis = Math.min(deadline - System.currentTimeMillis(), STOP_CHECK_INTERVAL_MILLIS);
+      try {
+        TodoEntity todoEntity = waitMillis > 0 ? queue.poll(waitMillis, TimeUnit.MILLISECONDS) : queue.poll();
+        if(todoEntity != null) {
+          batch.add(todoEntity);
+          freeSlots.release(1 + queue.drainTo(batch, batchSize - batch.size()));
+        }
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        running = false;
+      }
+      if(batch.size() >= batchSize || System.currentTimeMillis() >= deadline || !running) {
+        flush(batch);
+        batch.clear();
+        deadline = System.currentTimeMillis() + flushIntervalMillis;
+      }
+    }
+    flush(batch);
+  }
+
+  private void flush(List<TodoEntity> batch) {
+    if(batch.isEmpty()) {
+      return;
+    }
+    for(int attempt = 1; attempt <= maxFlushAttempts; attempt++) {
+      try {
+        transactionTemplate.executeWithoutResult(status -> write(batch));
+        flushedCounter.increment(batch.size());
+        List<TodoInvalidation> todoInvalidations = new ArrayList<>(batch.size() + 1);
+        batch.forEach(todoEntity -> {
+          todoInvalidations.add(TodoInvalidation.todo(todoEntity.getId()));
+          todoSearchIndex.index(todoEntity);
+          todoStatsService.recordCreated(todoEntity.isCompleted());
+        });
+        todoInvalidations.add(TodoInvalidation.lists());
+        todoCache.invalidate(todoInvalidations);
+        pending.addAndGet(-batch.size());
+        return;
+      } catch (RuntimeException ex) {
+        LOGGER.warn("Write behind flush of {} todos failed, attempt {} of {}", batch.size(), attempt,
+            maxFlushAttempts, ex);
+      }
+    }
+    LOGGER.error("Dropping {} todos after {} failed write behind flush attempts", batch.size(), maxFlushAttempts);
+    droppedCounter.increment(batch.size());
+    pending.addAndGet(-batch.size());
+  }
+
+  private void write(List<TodoEntity> batch) {
+    jdbcTemplate.batchUpdate(INSERT_TODO_SQL, batch, batch.size(), (preparedStatement, todoEntity) -> {
+      preparedStatement.setInt(1, todoEntity.getId());
+      preparedStatement.setString(2, todoEntity.getTitle());
+      preparedStatement.setInt(3, todoEntity.getOrder());
+      preparedStatement.setBoolean(4, todoEntity.isCompleted());
+      preparedStatement.setTimestamp(5, Timestamp.valueOf(todoEntity.getCreatedDate()));
+      preparedStatement.setTimestamp(6, Timestamp.valueOf(todoEntity.getUpdatedDate()));
+    });
+    batch.forEach(todoEntity -> todoOutboxService.record(TodoEventType.CREATED, todoEntity));
+  }
+}
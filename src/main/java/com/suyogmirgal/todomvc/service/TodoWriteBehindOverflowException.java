@@ -0,0 +1,20 @@
+package com.suyogmirgal.todomvc.service;
+
+/**
+ * This exception is thrown when write behind buffer stays full
+ * for longer than the configured wait, so caller has to back off.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoWriteBehindOverflowException extends RuntimeException {
+
+  /**
+   * Parameterized constructor for {@link TodoWriteBehindOverflowException}.
+   *
+   * @param message detail message.
+   */
+  public TodoWriteBehindOverflowException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,188 @@
+package com.suyogmirgal.todomvc.statistics;
+
+import com.suyogmirgal.todomvc.model.TodoQueryStatsDto;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * This is binder of Hibernate {@link Statistics} to Micrometer. Entity, flush, transaction and
+ * second level cache counters are published as {@code todo.hibernate.*}, and every query
+ * Hibernate has executed gets executions, rows, max and average time tagged with its query
+ * string. Queries are picked up every {@code todo.hibernate.statistics.refresh-interval-ms},
+ * at most {@code todo.hibernate.statistics.max-queries} of them.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoHibernateMetrics implements MeterBinder {
+
+  private final Statistics statistics;
+
+  private final int maxQueries;
+
+  private final Set<String> boundQueries = ConcurrentHashMap.newKeySet();
+
+  private volatile MeterRegistry meterRegistry;
+
+  /**
+   * Parameterized constructor for {@link TodoHibernateMetrics}.
+   *
+   * @param statistics statistics of the Hibernate session factory, have to be enabled.
+   * @param maxQueries max number of queries published with own meters.
+   */
+  public TodoHibernateMetrics(Statistics statistics, int maxQueries) {
+    this.statistics = statistics;
+    this.maxQueries = maxQueries;
+  }
+
+  @Override
+  public void bindTo(final MeterRegistry registry) {
+    counter(registry, "todo.hibernate.entities", "Entities by operation", "operation", "load",
+        Statistics::getEntityLoadCount);
+    counter(registry, "todo.hibernate.entities", "Entities by operation", "operation", "fetch",
+        Statistics::getEntityFetchCount);
+    counter(registry, "todo.hibernate.entities", "Entities by operation", "operation", "insert",
+        Statistics::getEntityInsertCount);
+    counter(registry, "todo.hibernate.entities", "Entities by operation", "operation", "update",
+        Statistics::getEntityUpdateCount);
+    counter(registry, "todo.hibernate.entities", "Entities by operation", "operation", "delete",
+        Statistics::getEntityDeleteCount);
+    counter(registry, "todo.hibernate.flushes", "Flushes of sessions", null, null,
+        Statistics::getFlushCount);
+    counter(registry, "todo.hibernate.statements", "Prepared JDBC statements", null, null,
+        Statistics::getPrepareStatementCount);
+    counter(registry, "todo.hibernate.sessions", "Sessions by event", "event", "open",
+        Statistics::getSessionOpenCount);
+    counter(registry, "todo.hibernate.sessions", "Sessions by event", "event", "close",
+        Statistics::getSessionCloseCount);
+    counter(registry, "todo.hibernate.transactions", "Transactions by result", "result", "success",
+        Statistics::getSuccessfulTransactionCount);
+    counter(registry, "todo.hibernate.transactions", "Transactions by result", "result", "failure",
+        stats -> stats.getTransactionCount() - stats.getSuccessfulTransactionCount());
+    counter(registry, "todo.hibernate.optimistic-failures", "Optimistic lock failures", null, null,
+        Statistics::getOptimisticFailureCount);
+    counter(registry, "todo.hibernate.queries", "Executed queries", null, null,
+        Statistics::getQueryExecutionCount);
+    counter(registry, "todo.hibernate.second-level-cache.requests", "Second level cache requests", "result", "hit",
+        Statistics::getSecondLevelCacheHitCount);
+    counter(registry, "todo.hibernate.second-level-cache.requests", "Second level cache requests", "result", "miss",
+        Statistics::getSecondLevelCacheMissCount);
+    counter(registry, "todo.hibernate.second-level-cache.puts", "Second level cache puts", null, null,
+        Statistics::getSecondLevelCachePutCount);
+    counter(registry, "todo.hibernate.query-cache.requests", "Query cache requests", "result", "hit",
+        Statistics::getQueryCacheHitCount);
+    counter(registry, "todo.hibernate.query-cache.requests", "Query cache requests", "result", "miss",
+        Statistics::getQueryCacheMissCount);
+    Gauge.builder("todo.hibernate.second-level-cache.hit-ratio", statistics,
+            stats -> ratio(stats.getSecondLevelCacheHitCount(), stats.getSecondLevelCacheMissCount()))
+        .description("Share of second level cache requests which hit")
+        .register(registry);
+    Gauge.builder("todo.hibernate.query-cache.hit-ratio", statistics,
+            stats -> ratio(stats.getQueryCacheHitCount(), stats.getQueryCacheMissCount()))
+        .description("Share of query cache requests which hit")
+        .register(registry);
+    this.meterRegistry = registry;
+    bindQueries();
+  }
+
+  /**
+   * This method publishes meters of queries executed since the last call.
+   *
+   * @return number of queries which got meters.
+   */
+  @Scheduled(fixedDelayString = "${todo.hibernate.statistics.refresh-interval-ms:10000}")
+  public int bindQueries() {
+    MeterRegistry registry = meterRegistry;
+    if(registry == null) {
+      return 0;
+    }
+    int bound = 0;
+    for(String query : statistics.getQueries()) {
+      if(boundQueries.size() >= maxQueries) {
+        break;
+      }
+      if(!boundQueries.add(query)) {
+        continue;
+      }
+      QueryStatistics queryStatistics = statistics.getQueryStatistics(query);
+      FunctionCounter.builder("todo.hibernate.query.executions", queryStatistics,
+              QueryStatistics::getExecutionCount)
+          .description("Executions of the query")
+          .tag("query", query)
+          .register(registry);
+      FunctionCounter.builder("todo.hibernate.query.rows", queryStatistics, QueryStatistics::getExecutionRowCount)
+          .description("Rows returned by the query")
+          .tag("query", query)
+          .register(registry);
+      TimeGauge.builder("todo.hibernate.query.time.max", queryStatistics, TimeUnit.MILLISECONDS,
+              QueryStatistics::getExecutionMaxTime)
+          .description("Slowest execution of the query")
+          .tag("query", query)
+          .register(registry);
+      TimeGauge.builder("todo.hibernate.query.time.avg", queryStatistics, TimeUnit.MILLISECONDS,
+              QueryStatistics::getExecutionAvgTimeAsDouble)
+          .description("Average execution of the query")
+          .tag("query", query)
+          .register(registry);
+      bound++;
+    }
+    return bound;
+  }
+
+  /**
+   * This method provides the slowest queries by max execution time.
+   *
+   * @param limit max number of queries to provide.
+   * @return List of {@link TodoQueryStatsDto}, slowest first.
+   */
+  public List<TodoQueryStatsDto> getSlowestQueries(final int limit) {
+    List<TodoQueryStatsDto> slowQueries = new ArrayList<>();
+    for(String query : statistics.getQueries()) {
+      QueryStatistics queryStatistics = statistics.getQueryStatistics(query);
+      slowQueries.add(new TodoQueryStatsDto(query, queryStatistics.getExecutionCount(),
+          queryStatistics.getExecutionRowCount(), queryStatistics.getExecutionMaxTime(),
+          queryStatistics.getExecutionAvgTimeAsDouble(), queryStatistics.getExecutionTotalTime()));
+    }
+    slowQueries.sort(Comparator.comparingLong(TodoQueryStatsDto::getMaxTimeMs).reversed()
+        .thenComparing(Comparator.comparingLong(TodoQueryStatsDto::getTotalTimeMs).reversed()));
+    return slowQueries.subList(0, Math.min(Math.max(limit, 0), slowQueries.size()));
+  }
+
+  /**
+   * This method provides queries Hibernate logged as slow, see {@code hibernate.log_slow_query}.
+   *
+   * @return Map of query to its slowest execution in milliseconds.
+   */
+  public Map<String, Long> getLoggedSlowQueries() {
+    return statistics.getSlowQueries();
+  }
+
+  private void counter(MeterRegistry registry, String name, String description, String tagKey, String tagValue,
+      ToDoubleFunction<Statistics> count) {
+    FunctionCounter.Builder<Statistics> builder = FunctionCounter.builder(name, statistics, count)
+        .description(description);
+    if(tagKey != null) {
+      builder.tag(tagKey, tagValue);
+    }
+    builder.register(registry);
+  }
+
+  private static double ratio(long hits, long misses) {
+    long requests = hits + misses;
+    return requests == 0 ? 0 : (double) hits / requests;
+  }
+}
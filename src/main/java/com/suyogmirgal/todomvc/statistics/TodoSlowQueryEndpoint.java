@@ -0,0 +1,47 @@
+package com.suyogmirgal.todomvc.statistics;
+
+import com.suyogmirgal.todomvc.model.TodoQueryStatsDto;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+/**
+ * This is actuator endpoint to find slow queries. {@code GET /actuator/todoslowqueries}
+ * provides the slowest queries by max execution time, {@code limit} of them, along with
+ * queries Hibernate logged as slower than {@code hibernate.log_slow_query}.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@Endpoint(id = "todoslowqueries")
+public class TodoSlowQueryEndpoint {
+
+  static final int DEFAULT_LIMIT = 10;
+
+  private final TodoHibernateMetrics todoHibernateMetrics;
+
+  /**
+   * Parameterized constructor for {@link TodoSlowQueryEndpoint}.
+   *
+   * @param todoHibernateMetrics instance of {@link TodoHibernateMetrics}.
+   */
+  public TodoSlowQueryEndpoint(TodoHibernateMetrics todoHibernateMetrics) {
+    this.todoHibernateMetrics = todoHibernateMetrics;
+  }
+
+  /**
+   * This method provides the slowest queries.
+   *
+   * @param limit max number of queries, {@value #DEFAULT_LIMIT} if not provided.
+   * @return Map with the slowest queries and the queries logged as slow.
+   */
+  @ReadOperation
+  public Map<String, Object> slowQueries(@Nullable Integer limit) {
+    Map<String, Object> slowQueries = new LinkedHashMap<>();
+    slowQueries.put("slowest", todoHibernateMetrics.getSlowestQueries(limit == null ? DEFAULT_LIMIT : limit));
+    slowQueries.put("logged", todoHibernateMetrics.getLoggedSlowQueries());
+    return slowQueries;
+  }
+}
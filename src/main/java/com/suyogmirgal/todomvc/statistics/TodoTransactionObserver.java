@@ -0,0 +1,165 @@
+package com.suyogmirgal.todomvc.statistics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * This is listener of transaction execution which observes every new transaction as a
+ * {@code todo.transaction} observation, a timer and a tracing span named after the
+ * transaction. Statements, batches and JDBC time are counted by
+ * {@link TodoTransactionStatementListener} and entity rows by {@link TodoTransactionRowInterceptor}
+ * into the transaction running on the thread, and are attached to the observation when it
+ * completes. Transactions slower than {@code todo.hibernate.statistics.slow-transaction-ms}
+ * are logged along with those numbers.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoTransactionObserver implements TransactionExecutionListener {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TodoTransactionObserver.class);
+
+  private static final ThreadLocal<Deque<TransactionScope>> SCOPES = ThreadLocal.withInitial(ArrayDeque::new);
+
+  private final ObservationRegistry observationRegistry;
+
+  private final MeterRegistry meterRegistry;
+
+  private final long slowTransactionNanos;
+
+  /**
+   * Parameterized constructor for {@link TodoTransactionObserver}.
+   *
+   * @param observationRegistry registry to which transaction observations are reported.
+   * @param meterRegistry registry to which statements and rows per transaction are published.
+   * @param slowTransactionMillis duration in milliseconds above which a transaction is logged.
+   */
+  public TodoTransactionObserver(ObservationRegistry observationRegistry, MeterRegistry meterRegistry,
+      long slowTransactionMillis) {
+    this.observationRegistry = observationRegistry;
+    this.meterRegistry = meterRegistry;
+    this.slowTransactionNanos = TimeUnit.MILLISECONDS.toNanos(slowTransactionMillis);
+  }
+
+  /**
+   * This method provides transaction running on the current thread.
+   *
+   * @return scope of the innermost transaction, null if there is none.
+   */
+  static TransactionScope current() {
+    return SCOPES.get().peek();
+  }
+
+  @Override
+  public void afterBegin(final TransactionExecution transaction, final Throwable beginFailure) {
+    if(beginFailure != null || !transaction.isNewTransaction()) {
+      return;
+    }
+    String name = transaction.getTransactionName() == null ? "unnamed" : transaction.getTransactionName();
+    Observation observation = Observation.createNotStarted("todo.transaction", observationRegistry)
+        .contextualName("transaction " + name)
+        .lowCardinalityKeyValue("name", name)
+        .lowCardinalityKeyValue("read-only", String.valueOf(transaction.isReadOnly()))
+        .start();
+    SCOPES.get().push(new TransactionScope(name, observation));
+  }
+
+  @Override
+  public void afterCommit(final TransactionExecution transaction, final Throwable commitFailure) {
+    complete(transaction, "committed", commitFailure);
+  }
+
+  @Override
+  public void afterRollback(final TransactionExecution transaction, final Throwable rollbackFailure) {
+    complete(transaction, "rolled-back", rollbackFailure);
+  }
+
+  private void complete(TransactionExecution transaction, String outcome, Throwable failure) {
+    if(!transaction.isNewTransaction()) {
+      return;
+    }
+    Deque<TransactionScope> scopes = SCOPES.get();
+    TransactionScope scope = scopes.poll();
+    if(scopes.isEmpty()) {
+      SCOPES.remove();
+    }
+    if(scope == null) {
+      return;
+    }
+    long durationNanos = System.nanoTime() - scope.startNanos;
+    Observation observation = scope.observation
+        .lowCardinalityKeyValue("outcome", outcome)
+        .highCardinalityKeyValue("statements", String.valueOf(scope.statements))
+        .highCardinalityKeyValue("batches", String.valueOf(scope.batches))
+        .highCardinalityKeyValue("rows", String.valueOf(scope.rows))
+        .highCardinalityKeyValue("jdbc.time.ms", String.valueOf(TimeUnit.NANOSECONDS.toMillis(scope.jdbcNanos)));
+    if(failure != null) {
+      observation.error(failure);
+    }
+    observation.stop();
+    summary("todo.transaction.statements", "Statements executed by a transaction", scope.name)
+        .record(scope.statements);
+    summary("todo.transaction.rows", "Entity rows read or written by a transaction", scope.name)
+        .record(scope.rows);
+    if(durationNanos >= slowTransactionNanos) {
+      LOGGER.warn("Slow transaction {} {} in {} ms: {} statements, {} batches, {} rows, {} ms in JDBC", scope.name,
+          outcome, TimeUnit.NANOSECONDS.toMillis(durationNanos), scope.statements, scope.batches, scope.rows,
+          TimeUnit.NANOSECONDS.toMillis(scope.jdbcNanos));
+    }
+  }
+
+  private DistributionSummary summary(String name, String description, String transactionName) {
+    return DistributionSummary.builder(name)
+        .description(description)
+        .tag("name", transactionName)
+        .register(meterRegistry);
+  }
+
+  /**
+   * This is work done by one transaction, only touched by the thread running it.
+   */
+  static final class TransactionScope {
+
+    private final String name;
+
+    private final Observation observation;
+
+    private final long startNanos = System.nanoTime();
+
+    private long statements;
+
+    private long batches;
+
+    private long rows;
+
+    private long jdbcNanos;
+
+    private TransactionScope(String name, Observation observation) {
+      this.name = name;
+      this.observation = observation;
+    }
+
+    void recordStatement(long nanos) {
+      statements++;
+      jdbcNanos += nanos;
+    }
+
+    void recordBatch(long nanos) {
+      batches++;
+      jdbcNanos += nanos;
+    }
+
+    void recordRow() {
+      rows++;
+    }
+  }
+}
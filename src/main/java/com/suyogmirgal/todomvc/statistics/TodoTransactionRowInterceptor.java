@@ -0,0 +1,46 @@
+package com.suyogmirgal.todomvc.statistics;
+
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+/**
+ * This is Hibernate interceptor which counts entity rows loaded, inserted, updated and
+ * deleted into the transaction running on the thread, see {@link TodoTransactionObserver}.
+ * Bulk updates and deletes do not go through entities and are only counted as statements.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoTransactionRowInterceptor implements Interceptor {
+
+  @Override
+  public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+    recordRow();
+    return false;
+  }
+
+  @Override
+  public boolean onSave(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+    recordRow();
+    return false;
+  }
+
+  @Override
+  public boolean onFlushDirty(Object entity, Object id, Object[] currentState, Object[] previousState,
+      String[] propertyNames, Type[] types) {
+    recordRow();
+    return false;
+  }
+
+  @Override
+  public void onDelete(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+    recordRow();
+  }
+
+  private void recordRow() {
+    TodoTransactionObserver.TransactionScope scope = TodoTransactionObserver.current();
+    if(scope != null) {
+      scope.recordRow();
+    }
+  }
+}
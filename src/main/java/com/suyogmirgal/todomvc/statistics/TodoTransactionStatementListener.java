@@ -0,0 +1,44 @@
+package com.suyogmirgal.todomvc.statistics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * This is Hibernate session event listener which counts JDBC statements, batches and the
+ * time spent executing them into the transaction running on the thread, see
+ * {@link TodoTransactionObserver}. Hibernate creates one listener per session.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoTransactionStatementListener implements SessionEventListener {
+
+  private long statementStartNanos;
+
+  private long batchStartNanos;
+
+  @Override
+  public void jdbcExecuteStatementStart() {
+    statementStartNanos = System.nanoTime();
+  }
+
+  @Override
+  public void jdbcExecuteStatementEnd() {
+    TodoTransactionObserver.TransactionScope scope = TodoTransactionObserver.current();
+    if(scope != null) {
+      scope.recordStatement(System.nanoTime() - statementStartNanos);
+    }
+  }
+
+  @Override
+  public void jdbcExecuteBatchStart() {
+    batchStartNanos = System.nanoTime();
+  }
+
+  @Override
+  public void jdbcExecuteBatchEnd() {
+    TodoTransactionObserver.TransactionScope scope = TodoTransactionObserver.current();
+    if(scope != null) {
+      scope.recordBatch(System.nanoTime() - batchStartNanos);
+    }
+  }
+}
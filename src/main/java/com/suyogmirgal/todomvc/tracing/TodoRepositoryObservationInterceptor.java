@@ -0,0 +1,55 @@
+package com.suyogmirgal.todomvc.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * This is interceptor of Spring Data repository proxies which observes every repository
+ * call as a {@code todo.repository} observation, a timer and a span named after the
+ * repository and method in lower hyphen case, e.g. {@code todo-repository.find-by-id}. JDBC spans of the call
+ * are its children.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoRepositoryObservationInterceptor implements MethodInterceptor {
+
+  private final ObservationRegistry observationRegistry;
+
+  private final String repositoryName;
+
+  /**
+   * Parameterized constructor for {@link TodoRepositoryObservationInterceptor}.
+   *
+   * @param observationRegistry registry to which repository calls are reported.
+   * @param repositoryInterface interface of the intercepted repository.
+   */
+  public TodoRepositoryObservationInterceptor(ObservationRegistry observationRegistry,
+      Class<?> repositoryInterface) {
+    this.observationRegistry = observationRegistry;
+    this.repositoryName = repositoryInterface.getSimpleName();
+  }
+
+  @Override
+  public Object invoke(final MethodInvocation invocation) throws Throwable {
+    if(invocation.getMethod().getDeclaringClass() == Object.class) {
+      return invocation.proceed();
+    }
+    String method = invocation.getMethod().getName();
+    Observation observation = Observation.createNotStarted("todo.repository", observationRegistry)
+        .contextualName(repositoryName + "." + method)
+        .lowCardinalityKeyValue("repository", repositoryName)
+        .lowCardinalityKeyValue("method", method)
+        .start();
+    try(Observation.Scope scope = observation.openScope()) {
+      return invocation.proceed();
+    } catch (Throwable ex) {
+      observation.error(ex);
+      throw ex;
+    } finally {
+      observation.stop();
+    }
+  }
+}
@@ -0,0 +1,146 @@
+package com.suyogmirgal.todomvc.tracing;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * This is span processor which samples traces at their tail. Spans recorded but not sampled,
+ * see {@link TodoTailSampler}, are held per trace until the local root span of the trace ends;
+ * the trace is then exported if the root took at least {@code todo.tracing.tail.slow-ms} or
+ * failed, and dropped otherwise. Sampled spans are left to the regular export.
+ *
+ * <p>At most {@code todo.tracing.tail.max-traces} traces are held at once, each with at
+ * most {@code todo.tracing.tail.max-spans-per-trace} spans; spans of further traces are dropped.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoSlowTraceSpanProcessor implements SpanProcessor {
+
+  private static final long MAX_PENDING_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+  private final Map<String, PendingTrace> pendingTraces = new ConcurrentHashMap<>();
+
+  private final ExecutorService exportExecutor = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "todo-slow-trace-export");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final Supplier<SpanExporter> spanExporter;
+
+  private final long slowNanos;
+
+  private final int maxTraces;
+
+  private final int maxSpansPerTrace;
+
+  /**
+   * Parameterized constructor for {@link TodoSlowTraceSpanProcessor}.
+   *
+   * @param spanExporter {@link Supplier} of the exporter to which slow traces are sent.
+   * @param slowMillis duration in milliseconds of the local root span above which a trace is exported.
+   * @param maxTraces max number of traces held at once.
+   * @param maxSpansPerTrace max number of spans held for a trace.
+   */
+  public TodoSlowTraceSpanProcessor(Supplier<SpanExporter> spanExporter, long slowMillis, int maxTraces,
+      int maxSpansPerTrace) {
+    this.spanExporter = spanExporter;
+    this.slowNanos = TimeUnit.MILLISECONDS.toNanos(slowMillis);
+    this.maxTraces = maxTraces;
+    this.maxSpansPerTrace = maxSpansPerTrace;
+  }
+
+  @Override
+  public void onStart(final Context parentContext, final ReadWriteSpan span) {
+  }
+
+  @Override
+  public boolean isStartRequired() {
+    return false;
+  }
+
+  @Override
+  public void onEnd(final ReadableSpan span) {
+    SpanContext spanContext = span.getSpanContext();
+    if(spanContext.isSampled()) {
+      return;
+    }
+    String traceId = spanContext.getTraceId();
+    SpanContext parentSpanContext = span.getParentSpanContext();
+    if(parentSpanContext.isValid() && !parentSpanContext.isRemote()) {
+      PendingTrace pendingTrace = pendingTraces.get(traceId);
+      if(pendingTrace == null) {
+        if(pendingTraces.size() >= maxTraces) {
+          long expiredBeforeNanos = System.nanoTime() - MAX_PENDING_NANOS;
+          pendingTraces.values().removeIf(trace -> trace.startNanos - expiredBeforeNanos < 0);
+          if(pendingTraces.size() >= maxTraces) {
+            return;
+          }
+        }
+        pendingTrace = pendingTraces.computeIfAbsent(traceId, id -> new PendingTrace());
+      }
+      pendingTrace.add(span.toSpanData(), maxSpansPerTrace);
+      return;
+    }
+    PendingTrace pendingTrace = pendingTraces.remove(traceId);
+    SpanData root = span.toSpanData();
+    if(span.getLatencyNanos() < slowNanos && root.getStatus().getStatusCode() != StatusCode.ERROR) {
+      return;
+    }
+    List<SpanData> trace = pendingTrace == null ? new ArrayList<>() : pendingTrace.drain();
+    trace.add(root);
+    exportExecutor.execute(() -> spanExporter.get().export(trace));
+  }
+
+  @Override
+  public boolean isEndRequired() {
+    return true;
+  }
+
+  @Override
+  public CompletableResultCode forceFlush() {
+    CompletableResultCode result = new CompletableResultCode();
+    exportExecutor.execute(result::succeed);
+    return result;
+  }
+
+  @Override
+  public CompletableResultCode shutdown() {
+    exportExecutor.shutdown();
+    pendingTraces.clear();
+    return CompletableResultCode.ofSuccess();
+  }
+
+  private static final class PendingTrace {
+
+    private final long startNanos = System.nanoTime();
+
+    private final List<SpanData> spans = new ArrayList<>();
+
+    private synchronized void add(SpanData spanData, int maxSpans) {
+      if(spans.size() < maxSpans) {
+        spans.add(spanData);
+      }
+    }
+
+    private synchronized List<SpanData> drain() {
+      return new ArrayList<>(spans);
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package com.suyogmirgal.todomvc.tracing;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.util.List;
+
+/**
+ * This is sampler which keeps the decision of the head sampler for traces it samples and
+ * records the others without sampling them, so {@link TodoSlowTraceSpanProcessor} can still
+ * export them once they turn out to be slow or failed.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoTailSampler implements Sampler {
+
+  private static final SamplingResult RECORD_ONLY = SamplingResult.create(SamplingDecision.RECORD_ONLY);
+
+  private final Sampler headSampler;
+
+  /**
+   * Parameterized constructor for {@link TodoTailSampler}.
+   *
+   * @param headSampler sampler which decides which traces are sampled up front.
+   */
+  public TodoTailSampler(Sampler headSampler) {
+    this.headSampler = headSampler;
+  }
+
+  /**
+   * This method provides sampler which only records spans, used for children of recorded spans.
+   *
+   * @return {@link Sampler} which records without sampling.
+   */
+  public static Sampler recordOnly() {
+    return new TodoTailSampler(Sampler.alwaysOff());
+  }
+
+  @Override
+  public SamplingResult shouldSample(Context parentContext, String traceId, String name, SpanKind spanKind,
+      Attributes attributes, List<LinkData> parentLinks) {
+    SamplingResult samplingResult = headSampler.shouldSample(parentContext, traceId, name, spanKind, attributes,
+        parentLinks);
+    return samplingResult.getDecision() == SamplingDecision.DROP ? RECORD_ONLY : samplingResult;
+  }
+
+  @Override
+  public String getDescription() {
+    return "TodoTailSampler{" + headSampler.getDescription() + "}";
+  }
+}
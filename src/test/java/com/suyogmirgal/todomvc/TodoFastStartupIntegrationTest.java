@@ -0,0 +1,64 @@
+package com.suyogmirgal.todomvc;
+
+import com.suyogmirgal.todomvc.model.TodoDto;
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * This is integration test class for the {@code fast-startup} profile, which verifies
+ * the service serves todos with lazily created beans.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = "todo.grpc.port=0")
+@ActiveProfiles("fast-startup")
+public class TodoFastStartupIntegrationTest {
+
+  @LocalServerPort
+  private int port;
+
+  private RestTemplate restTemplate;
+
+  private String apiBaseUrl;
+
+  @PostConstruct
+  void init() {
+    apiBaseUrl = "http://localhost:" + port;
+    restTemplate = new RestTemplate();
+    restTemplate.setRequestFactory(new HttpComponentsClientHttpRequestFactory());
+  }
+
+  /**
+   * This test verifies todos are created and listed with the fast startup profile.
+   */
+  @Test
+  public void testCreateAndGetAllTodos() {
+    HttpHeaders headers = new HttpHeaders();
+    headers.add(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+    ResponseEntity<TodoDto> created = restTemplate.exchange(apiBaseUrl + "/todo", HttpMethod.POST,
+        new HttpEntity<>("{ \"title\" : \"Go to Gym\", \"order\" : 1 }", headers), TodoDto.class);
+    Assertions.assertEquals(201, created.getStatusCode().value());
+
+    ResponseEntity<List<TodoDto>> responseEntity = restTemplate.exchange(apiBaseUrl + "/todo", HttpMethod.GET,
+        null, new ParameterizedTypeReference<List<TodoDto>>() {});
+
+    Assertions.assertEquals(200, responseEntity.getStatusCode().value());
+    Assertions.assertTrue(responseEntity.getBody().stream()
+        .anyMatch(todoDto -> todoDto.getId() == created.getBody().getId()));
+  }
+}
@@ -0,0 +1,113 @@
+package com.suyogmirgal.todomvc;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * This is integration test class for the graceful shutdown, which closes the application
+ * while clients keep sending requests until readiness turns false.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoGracefulShutdownIntegrationTest {
+
+  private static final String DATABASE_URL = "jdbc:h2:mem:shutdowntest";
+
+  private static final int CLIENTS = 8;
+
+  /**
+   * This test verifies no request fails while the application shuts down and
+   * todos buffered by write behind are written before it exits.
+   */
+  @Test
+  public void testNoRequestFailsDuringShutdown() throws Exception {
+    ConfigurableApplicationContext context = new SpringApplicationBuilder(TodoMVCBackendServiceApplication.class)
+        .run("--server.port=0", "--todo.grpc.port=0", "--todo.shutdown.readiness-delay-ms=500",
+            "--todo.rate-limit.enabled=false", "--todo.concurrency-limit.enabled=false",
+            "--todo.write-behind.enabled=true", "--todo.write-behind.flush-interval-ms=60000",
+            "--todo.write-behind.batch-size=1000000", "--todo.write-behind.capacity=1000000",
+            "--spring.datasource.url=" + DATABASE_URL + ";DB_CLOSE_DELAY=-1",
+            "--spring.jpa.hibernate.ddl-auto=create");
+    String apiBaseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+    ApplicationAvailability applicationAvailability = context.getBean(ApplicationAvailability.class);
+
+    AtomicInteger created = new AtomicInteger();
+    AtomicInteger listed = new AtomicInteger();
+    Queue<String> failures = new ConcurrentLinkedQueue<>();
+    CountDownLatch clientsServed = new CountDownLatch(CLIENTS);
+    List<Thread> clients = new ArrayList<>(CLIENTS);
+    for(int client = 0; client < CLIENTS; client++) {
+      Thread thread = new Thread(() -> {
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.setRequestFactory(new HttpComponentsClientHttpRequestFactory());
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+        HttpEntity<String> entity = new HttpEntity<>("{ \"title\" : \"Go to Gym\", \"order\" : 1 }", headers);
+        //like a load balancer, clients only send requests while the instance is ready
+        while(applicationAvailability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC) {
+          try {
+            ResponseEntity<String> createResponse = restTemplate.exchange(apiBaseUrl + "/todo", HttpMethod.POST,
+                entity, String.class);
+            if(createResponse.getStatusCode().value() == 201) {
+              created.incrementAndGet();
+            }
+            restTemplate.getForEntity(apiBaseUrl + "/todo/active", String.class);
+            listed.incrementAndGet();
+            clientsServed.countDown();
+          } catch (RuntimeException ex) {
+            failures.add(ex.toString());
+          }
+        }
+      });
+      thread.start();
+      clients.add(thread);
+    }
+
+    //shut down under load, once every client is past its first, slow requests
+    Assertions.assertTrue(clientsServed.await(30, TimeUnit.SECONDS));
+    Thread.sleep(300);
+    context.close();
+    for(Thread thread : clients) {
+      thread.join();
+    }
+
+    Assertions.assertTrue(failures.isEmpty(), failures.toString());
+    Assertions.assertTrue(created.get() > 0);
+    Assertions.assertTrue(listed.get() > 0);
+    Assertions.assertEquals(created.get(), countTodos());
+  }
+
+  private int countTodos() throws SQLException {
+    try(Connection connection = DriverManager.getConnection(DATABASE_URL, "sa", "");
+        Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery("select count(*) from todo")) {
+      resultSet.next();
+      return resultSet.getInt(1);
+    }
+  }
+}
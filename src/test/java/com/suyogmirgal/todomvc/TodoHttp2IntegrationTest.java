@@ -0,0 +1,57 @@
+package com.suyogmirgal.todomvc;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * This is integration test class for the {@code http2} profile, which verifies
+ * the todo APIs are served over HTTP/2 in cleartext and still over HTTP/1.1.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = "todo.grpc.port=0")
+@ActiveProfiles("http2")
+public class TodoHttp2IntegrationTest {
+
+  @LocalServerPort
+  private int port;
+
+  /**
+   * This test verifies a client upgrading to h2c gets todos over HTTP/2 on a kept-alive connection.
+   */
+  @Test
+  public void testGetAllTodosOverHttp2() throws Exception {
+    HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build();
+    HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/todo")).GET().build();
+
+    HttpResponse<String> upgradeResponse = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+    Assertions.assertEquals(200, upgradeResponse.statusCode());
+    Assertions.assertEquals(200, response.statusCode());
+    Assertions.assertEquals(HttpClient.Version.HTTP_2, response.version());
+  }
+
+  /**
+   * This test verifies HTTP/1.1 clients are still served.
+   */
+  @Test
+  public void testGetAllTodosOverHttp11() throws Exception {
+    HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/todo")).GET().build();
+
+    HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+    Assertions.assertEquals(200, response.statusCode());
+    Assertions.assertEquals(HttpClient.Version.HTTP_1_1, response.version());
+  }
+}
@@ -11,7 +11,7 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
  * @author suyogmirgal
  * created on 2024/04/29
  */
-@SpringBootTest
+@SpringBootTest(properties = "todo.grpc.port=0")
 class TodoMVCBackendServiceApplicationTests {
 
 	@Test
@@ -0,0 +1,123 @@
+package com.suyogmirgal.todomvc.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This is unit test class for {@link TodoCache}, with two caches sharing
+ * an {@link InMemoryTodoInvalidationBus} standing in for two instances.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoCacheTest {
+
+  /**
+   * This is the Unit test to verify invalidation is applied locally right away and on other instances once sent.
+   */
+  @Test
+  public void testInvalidationReachesOtherInstances() {
+    InMemoryTodoInvalidationBus bus = new InMemoryTodoInvalidationBus();
+    TodoCache first = cache(bus, 100);
+    TodoCache second = cache(bus, 100);
+    AtomicInteger firstLoads = new AtomicInteger();
+    AtomicInteger secondLoads = new AtomicInteger();
+
+    first.get(TodoCache.ALL_TODOS_KEY, firstLoads::incrementAndGet);
+    first.get(TodoCache.ALL_TODOS_KEY, firstLoads::incrementAndGet);
+    second.get(TodoCache.ALL_TODOS_KEY, secondLoads::incrementAndGet);
+    Assertions.assertEquals(1, firstLoads.get());
+    Assertions.assertEquals(1, secondLoads.get());
+
+    first.invalidate(List.of(TodoInvalidation.lists()));
+    first.get(TodoCache.ALL_TODOS_KEY, firstLoads::incrementAndGet);
+    second.get(TodoCache.ALL_TODOS_KEY, secondLoads::incrementAndGet);
+    Assertions.assertEquals(2, firstLoads.get());
+    Assertions.assertEquals(1, secondLoads.get());
+
+    Assertions.assertEquals(1, first.flush());
+    second.get(TodoCache.ALL_TODOS_KEY, secondLoads::incrementAndGet);
+    Assertions.assertEquals(2, secondLoads.get());
+  }
+
+  /**
+   * This is the Unit test to verify value loaded while an invalidation arrives is not cached.
+   */
+  @Test
+  public void testInvalidationDuringLoadWins() {
+    TodoCache todoCache = cache(new InMemoryTodoInvalidationBus(), 100);
+    String key = TodoCache.todoKey(1);
+
+    Assertions.assertEquals("stale", todoCache.get(key, () -> {
+      todoCache.apply(List.of(TodoInvalidation.todo(1)));
+      return "stale";
+    }));
+    Assertions.assertEquals("fresh", todoCache.get(key, () -> "fresh"));
+    Assertions.assertEquals("fresh", todoCache.get(key, () -> "newer"));
+
+    todoCache.apply(List.of(TodoInvalidation.todo(2), TodoInvalidation.todo(2)));
+    Assertions.assertEquals("fresh", todoCache.get(key, () -> "newer"));
+    todoCache.apply(List.of(TodoInvalidation.all()));
+    Assertions.assertEquals("newer", todoCache.get(key, () -> "newer"));
+  }
+
+  /**
+   * This is the Unit test to verify invalidations are sent in batches without duplicates.
+   */
+  @Test
+  public void testBatching() {
+    InMemoryTodoInvalidationBus bus = new InMemoryTodoInvalidationBus();
+    List<List<TodoInvalidation>> batches = new ArrayList<>();
+    bus.subscribe(batches::add);
+    TodoCache todoCache = cache(bus, 4);
+
+    todoCache.invalidate(List.of(TodoInvalidation.todo(1), TodoInvalidation.lists()));
+    Assertions.assertTrue(batches.isEmpty());
+
+    todoCache.invalidate(List.of(TodoInvalidation.todo(2), TodoInvalidation.lists()));
+    Assertions.assertEquals(1, batches.size());
+    Assertions.assertEquals(List.of(TodoInvalidation.todo(1), TodoInvalidation.lists(), TodoInvalidation.todo(2)),
+        batches.get(0));
+    Assertions.assertEquals(0, todoCache.flush());
+  }
+
+  /**
+   * This is the Unit test to verify a batch which the bus fails to send is sent with the next batch,
+   * and the write which caused it does not fail.
+   */
+  @Test
+  public void testFailedBatchIsSentAgain() {
+    List<List<TodoInvalidation>> batches = new ArrayList<>();
+    AtomicBoolean failing = new AtomicBoolean(true);
+    InMemoryTodoInvalidationBus bus = new InMemoryTodoInvalidationBus() {
+      @Override
+      public void publish(List<TodoInvalidation> todoInvalidations) {
+        if(failing.get()) {
+          throw new UncheckedIOException(new IOException("network is unreachable"));
+        }
+        batches.add(todoInvalidations);
+      }
+    };
+    TodoCache todoCache = cache(bus, 2);
+
+    todoCache.invalidate(List.of(TodoInvalidation.todo(1), TodoInvalidation.lists()));
+    Assertions.assertTrue(batches.isEmpty());
+
+    failing.set(false);
+    todoCache.invalidate(List.of(TodoInvalidation.todo(2)));
+    Assertions.assertEquals(1, batches.size());
+    Assertions.assertEquals(List.of(TodoInvalidation.todo(1), TodoInvalidation.lists(), TodoInvalidation.todo(2)),
+        batches.get(0));
+  }
+
+  private static TodoCache cache(TodoInvalidationBus bus, int batchSize) {
+    return new TodoCache(bus, new SimpleMeterRegistry(), true, 60000, 10000, batchSize);
+  }
+}
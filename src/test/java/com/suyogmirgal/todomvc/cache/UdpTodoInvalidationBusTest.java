@@ -0,0 +1,72 @@
+package com.suyogmirgal.todomvc.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This is unit test class for {@link UdpTodoInvalidationBus}
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class UdpTodoInvalidationBusTest {
+
+  /**
+   * This is the Unit test to verify batch is delivered to local subscribers and to the peer over loopback.
+   *
+   * @throws InterruptedException exception thrown if interrupted while waiting for delivery.
+   */
+  @Test
+  public void testPublishToPeer() throws InterruptedException {
+    UdpTodoInvalidationBus receiving = new UdpTodoInvalidationBus("127.0.0.1", 0, List.of());
+    receiving.start();
+    UdpTodoInvalidationBus sending = new UdpTodoInvalidationBus("127.0.0.1", 0,
+        List.of("127.0.0.1:" + receiving.getPort()));
+    sending.start();
+    try {
+      List<TodoInvalidation> received = new CopyOnWriteArrayList<>();
+      List<TodoInvalidation> local = new CopyOnWriteArrayList<>();
+      receiving.subscribe(received::addAll);
+      sending.subscribe(local::addAll);
+
+      List<TodoInvalidation> batch = List.of(TodoInvalidation.todo(7), TodoInvalidation.lists());
+      sending.publish(batch);
+
+      Assertions.assertEquals(batch, local);
+      long deadline = System.currentTimeMillis() + 5000;
+      while(received.size() < batch.size() && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10);
+      }
+      Assertions.assertEquals(batch, received);
+    } finally {
+      sending.stop();
+      receiving.stop();
+    }
+  }
+
+  /**
+   * This is the Unit test to verify large batches are split into datagrams which decode to the batch.
+   */
+  @Test
+  public void testEncodeAndDecode() {
+    List<TodoInvalidation> batch = new ArrayList<>();
+    for(int todoId = 1; todoId <= 1000; todoId++) {
+      batch.add(TodoInvalidation.todo(todoId));
+    }
+    batch.add(TodoInvalidation.all());
+
+    List<byte[]> datagrams = UdpTodoInvalidationBus.encode(batch);
+    Assertions.assertTrue(datagrams.size() > 1);
+    List<TodoInvalidation> decoded = new ArrayList<>();
+    for(byte[] datagram : datagrams) {
+      Assertions.assertTrue(datagram.length <= UdpTodoInvalidationBus.MAX_DATAGRAM_BYTES);
+      decoded.addAll(UdpTodoInvalidationBus.decode(datagram, datagram.length));
+    }
+    Assertions.assertEquals(batch, decoded);
+    Assertions.assertEquals(List.of(TodoInvalidation.lists()),
+        UdpTodoInvalidationBus.decode("LISTS\nbogus\nTODO:x".getBytes(), 18));
+  }
+}
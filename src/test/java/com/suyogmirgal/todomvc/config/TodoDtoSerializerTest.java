@@ -0,0 +1,91 @@
+package com.suyogmirgal.todomvc.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.suyogmirgal.todomvc.model.TodoDto;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This is unit test class for {@link TodoDtoSerializer}
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoDtoSerializerTest {
+
+  private final ObjectMapper defaultObjectMapper = new ObjectMapper()
+      .registerModule(new JavaTimeModule())
+      .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+  private final ObjectMapper objectMapper = new ObjectMapper()
+      .registerModule(new JavaTimeModule())
+      .registerModule(new SimpleModule().addSerializer(TodoDto.class, new TodoDtoSerializer()))
+      .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+  /**
+   * This is the unit test to verify serialized todos are the same as serialized by the default serializer.
+   *
+   * @throws Exception exception thrown if occurred while executing test.
+   */
+  @Test
+  public void testSerializeSameAsDefault() throws Exception {
+    List<TodoDto> todoDtoList = Arrays.asList(
+        new TodoDto(1, "Go to Gym", 1, false, LocalDateTime.of(2024, 5, 1, 10, 0), LocalDateTime.of(2024, 5, 1, 10, 0)),
+        new TodoDto(2, "Eat \"breakfast\"\n", null, true, LocalDateTime.of(2024, 12, 31, 23, 59, 59, 500_000_000),
+            LocalDateTime.of(1, 1, 1, 0, 0, 0, 1)),
+        new TodoDto(3, null, -4, false, null, LocalDateTime.of(12024, 1, 2, 3, 4, 5)));
+
+    Assertions.assertEquals(defaultObjectMapper.readTree(defaultObjectMapper.writeValueAsString(todoDtoList)),
+        objectMapper.readTree(objectMapper.writeValueAsString(todoDtoList)));
+  }
+
+  /**
+   * This is the unit test to verify date times are written as timestamps like by the default
+   * serializer when {@link SerializationFeature#WRITE_DATES_AS_TIMESTAMPS} is enabled.
+   *
+   * @throws Exception exception thrown if occurred while executing test.
+   */
+  @Test
+  public void testSerializeDatesAsTimestamps() throws Exception {
+    ObjectMapper defaultTimestampObjectMapper = defaultObjectMapper.copy()
+        .enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    ObjectMapper timestampObjectMapper = objectMapper.copy().enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    List<TodoDto> todoDtoList = Arrays.asList(
+        new TodoDto(1, "Go to Gym", 1, false, LocalDateTime.of(2024, 5, 1, 10, 0, 0, 500_000_000), null));
+
+    JsonNode expected = defaultTimestampObjectMapper.readTree(
+        defaultTimestampObjectMapper.writeValueAsString(todoDtoList));
+    JsonNode actual = timestampObjectMapper.readTree(timestampObjectMapper.writeValueAsString(todoDtoList));
+
+    Assertions.assertEquals(expected, actual);
+    Assertions.assertTrue(actual.get(0).get("createdDate").isArray());
+  }
+
+  /**
+   * This is the unit test to verify date times are formatted the same as by
+   * {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}.
+   */
+  @Test
+  public void testFormatDateTime() {
+    Random random = new Random(42);
+    char[] chars = new char[29];
+    for(int i = 0; i < 10_000; i++) {
+      LocalDateTime dateTime = LocalDateTime.of(random.nextInt(10_000), 1 + random.nextInt(12),
+          1 + random.nextInt(28), random.nextInt(24), random.nextInt(60), random.nextInt(60),
+          i % 3 == 0 ? 0 : random.nextInt(1_000_000_000));
+
+      int length = TodoDtoSerializer.formatDateTime(dateTime, chars);
+
+      Assertions.assertEquals(dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME), new String(chars, 0, length));
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package com.suyogmirgal.todomvc.controller;
 
+import com.suyogmirgal.todomvc.model.TodoChangesDto;
 import com.suyogmirgal.todomvc.model.TodoDto;
 import jakarta.annotation.PostConstruct;
 import java.time.LocalDateTime;
@@ -28,7 +29,7 @@ import org.springframework.web.client.RestTemplate;
  * @author suyogmirgal
  * created on 2024/05/01
  */
-@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = "todo.grpc.port=0")
 @DirtiesContext(classMode = ClassMode.BEFORE_EACH_TEST_METHOD)
 public class TodoControllerIntegrationTest {
 
@@ -395,6 +396,57 @@ public class TodoControllerIntegrationTest {
 
   }
 
+  /**
+   * This is the integration test to verify get todos changed since a change token API.
+   *
+   */
+  @Test
+  public void testGetTodoChanges() {
+
+    String todoCreateRequestJson1 = "{ \"title\" : \"Eat breakfast\", \"order\" : 1 }";
+    String todoCreateRequestJson2 = "{ \"title\" : \"Wash Clothes\", \"order\" : 2 }";
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.add(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+
+    HttpEntity<TodoDto> entity1 = new HttpEntity(todoCreateRequestJson1, headers);
+    HttpEntity<TodoDto> entity2 = new HttpEntity(todoCreateRequestJson2, headers);
+
+    int todoId1 = restTemplate.exchange(apiBaseUrl + "/todo", HttpMethod.POST, entity1, TodoDto.class).getBody().getId();
+    int todoId2 = restTemplate.exchange(apiBaseUrl + "/todo", HttpMethod.POST, entity2, TodoDto.class).getBody().getId();
+
+    //first sync returns all todos
+    TodoChangesDto firstSync = restTemplate.exchange(apiBaseUrl + "/todo?changedSince=0", HttpMethod.GET,
+        null, TodoChangesDto.class).getBody();
+
+    Assertions.assertEquals(2, firstSync.getChanged().size());
+    Assertions.assertTrue(firstSync.getDeleted().isEmpty());
+
+    String todoUpdateRequestJson = "{ \"isCompleted\" : true }";
+    restTemplate.exchange(apiBaseUrl + "/todo/" + todoId1, HttpMethod.PATCH,
+        new HttpEntity(todoUpdateRequestJson, headers), TodoDto.class);
+    restTemplate.exchange(apiBaseUrl + "/todo/" + todoId2, HttpMethod.DELETE, null, String.class);
+
+    //second sync returns only the changes done after first sync
+    TodoChangesDto secondSync = restTemplate.exchange(apiBaseUrl + "/todo?changedSince=" + firstSync.getNextToken(),
+        HttpMethod.GET, null, TodoChangesDto.class).getBody();
+
+    Assertions.assertTrue(secondSync.getNextToken() > firstSync.getNextToken());
+    Assertions.assertEquals(1, secondSync.getChanged().size());
+    Assertions.assertEquals(todoId1, secondSync.getChanged().get(0).getId());
+    Assertions.assertTrue(secondSync.getChanged().get(0).isCompleted());
+    Assertions.assertEquals(1, secondSync.getDeleted().size());
+    Assertions.assertEquals(todoId2, secondSync.getDeleted().get(0));
+
+    //third sync has nothing to return
+    TodoChangesDto thirdSync = restTemplate.exchange(apiBaseUrl + "/todo?changedSince=" + secondSync.getNextToken(),
+        HttpMethod.GET, null, TodoChangesDto.class).getBody();
+
+    Assertions.assertEquals(secondSync.getNextToken(), thirdSync.getNextToken());
+    Assertions.assertTrue(thirdSync.getChanged().isEmpty());
+    Assertions.assertTrue(thirdSync.getDeleted().isEmpty());
+  }
+
   /**
    * This method checks if todo created datetime is equal or after datetime recorded just before todocreate request.
    *  also it checks if todo created datetime is equal or before datetime recorded just after todocreate request isCompleted.
@@ -5,15 +5,34 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.suyogmirgal.todomvc.model.TodoChangesDto;
 import com.suyogmirgal.todomvc.model.TodoDto;
+import com.suyogmirgal.todomvc.model.TodoFilter;
+import com.suyogmirgal.todomvc.model.TodoJobDto;
+import com.suyogmirgal.todomvc.model.TodoJobStatus;
+import com.suyogmirgal.todomvc.model.TodoSearchResultDto;
+import com.suyogmirgal.todomvc.model.TodoStatsDto;
+import com.suyogmirgal.todomvc.model.TodoStatusFilter;
+import com.suyogmirgal.todomvc.service.TodoClearCompletedJobService;
+import com.suyogmirgal.todomvc.service.TodoIdempotencyConflictException;
+import com.suyogmirgal.todomvc.service.TodoIdempotencyService;
 import com.suyogmirgal.todomvc.service.TodoService;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -22,6 +41,8 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -42,6 +63,12 @@ public class TodoControllerTest {
   @MockBean
   private TodoService todoService;
 
+  @MockBean
+  private TodoClearCompletedJobService todoClearCompletedJobService;
+
+  @MockBean
+  private TodoIdempotencyService todoIdempotencyService;
+
   @Autowired
   private ObjectMapper objectMapper;
 
@@ -75,6 +102,57 @@ public class TodoControllerTest {
     Assertions.assertEquals(1, todoDtoArgumentCaptor.getValue().getOrder());
   }
 
+  /**
+   * This is the unit test to verify create todo API with an idempotency key.
+   *
+   * @throws Exception exception thrown if occurred while executing test.
+   */
+  @Test
+  public void testCreateTodoWithIdempotencyKey() throws Exception {
+
+    LocalDateTime now = LocalDateTime.parse(LocalDateTime.now().format(formatter), formatter);
+    //without client header and forwarded headers keys are not scoped by remote address
+    Mockito.when(todoIdempotencyService.execute(Mockito.eq(""), Mockito.eq("key-1"),
+        Mockito.eq("createTodo"), Mockito.any(TodoDto.class), Mockito.any(), Mockito.any()))
+        .thenReturn(new TodoDto(1, "Go to Gym", 1, false, now, now));
+
+    mockMvc.perform(post("/todo").header("Idempotency-Key", "key-1")
+        .content("{ \"title\" : \"Go to Gym\", \"order\" : 1 }")
+        .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.id").value(1))
+        .andExpect(jsonPath("$.title").value("Go to Gym"));
+
+    Mockito.verify(todoService, Mockito.never()).createTodo(Mockito.any(TodoDto.class));
+  }
+
+  /**
+   * This is the unit test to verify create todo API rejects an invalid or reused idempotency key.
+   *
+   * @throws Exception exception thrown if occurred while executing test.
+   */
+  @Test
+  public void testCreateTodoWithInvalidOrReusedIdempotencyKey() throws Exception {
+
+    String todoCreateRequestJson = "{ \"title\" : \"Go to Gym\", \"order\" : 1 }";
+
+    mockMvc.perform(post("/todo").header("Idempotency-Key", " ")
+        .content(todoCreateRequestJson)
+        .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isBadRequest());
+
+    Mockito.when(todoIdempotencyService.execute(Mockito.anyString(), Mockito.eq("key-1"),
+        Mockito.eq("createTodo"), Mockito.any(TodoDto.class), Mockito.any(), Mockito.any()))
+        .thenThrow(new TodoIdempotencyConflictException("Idempotency key key-1 was used for a different request"));
+
+    mockMvc.perform(post("/todo").header("Idempotency-Key", "key-1")
+        .content(todoCreateRequestJson)
+        .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isUnprocessableEntity());
+
+    Mockito.verify(todoService, Mockito.never()).createTodo(Mockito.any(TodoDto.class));
+  }
+
   /**
    * This is the unit test to verify get all todos API.
    *
@@ -106,6 +184,55 @@ public class TodoControllerTest {
 
   }
 
+  /**
+   * This is the unit test to verify get todos changed since a change token API.
+   *
+   * @throws Exception exception thrown if occurred while executing test.
+   */
+  @Test
+  public void testGetTodoChanges() throws Exception {
+
+    LocalDateTime now = LocalDateTime.parse(LocalDateTime.now().format(formatter), formatter);
+    TodoDto todo = new TodoDto(1, "Go to Gym", 1, false, now, now);
+
+    Mockito.when(todoService.getTodoChangesSince(5)).thenReturn(
+        new TodoChangesDto(9, Arrays.asList(todo), Arrays.asList(2)));
+
+    mockMvc.perform(get("/todo").param("changedSince", "5"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(jsonPath("$.nextToken").value(9))
+        .andExpect(jsonPath("$.changed.length()").value(1))
+        .andExpect(jsonPath("$.changed[0].title").value("Go to Gym"))
+        .andExpect(jsonPath("$.deleted[0]").value(2));
+
+    Mockito.verify(todoService, Mockito.never()).getAllTodos();
+  }
+
+  /**
+   * This is the unit test to verify search todos API.
+   *
+   * @throws Exception exception thrown if occurred while executing test.
+   */
+  @Test
+  public void testSearchTodos() throws Exception {
+
+    LocalDateTime now = LocalDateTime.parse(LocalDateTime.now().format(formatter), formatter);
+    TodoDto todo = new TodoDto(1, "Go to Gym", 1, false, now, now);
+
+    Mockito.when(todoService.searchTodos("gym", 1, 100)).thenReturn(
+        new TodoSearchResultDto(101, 1, 100, Arrays.asList(todo)));
+
+    mockMvc.perform(get("/todo/search").param("q", "gym").param("page", "1").param("size", "500"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.total").value(101))
+        .andExpect(jsonPath("$.size").value(100))
+        .andExpect(jsonPath("$.items[0].title").value("Go to Gym"));
+
+    mockMvc.perform(get("/todo/search").param("q", "gym").param("page", "-1"))
+        .andExpect(status().isBadRequest());
+  }
+
   /**
    * This is the unit test to verify get all active todos API.
    *
@@ -170,6 +297,23 @@ public class TodoControllerTest {
         .andExpect(status().isNotFound());
   }
 
+  /**
+   * This is the unit test to verify update todo by todoId API asks to retry when the todo stays locked.
+   *
+   * @throws Exception exception thrown if occurred while executing test.
+   */
+  @Test
+  public void testUpdateTodoByTodoIdLockTimeout() throws Exception {
+
+    Mockito.when(todoService.updateTodoById(Mockito.anyInt(), Mockito.any(TodoDto.class)))
+        .thenThrow(new CannotAcquireLockException("Timed out waiting for lock of todo 1"));
+
+    mockMvc.perform(patch("/todo/1").contentType(MediaType.APPLICATION_JSON)
+        .content("{ \"isCompleted\" : true }"))
+        .andExpect(status().isServiceUnavailable())
+        .andExpect(header().string("Retry-After", "1"));
+  }
+
   /**
    * This is the unit test to verify successful update todo by todoId API.
    *
@@ -249,4 +393,214 @@ public class TodoControllerTest {
         .andExpect(status().isOk()).andExpect(content().string("Total 2 todos were isCompleted are deleted."));
   }
 
-}
\ No newline at end of file
+
+  /**
+   * This is the unit test to verify delete all isCompleted todos API in async mode
+   * accepts the request and returns the job.
+   *
+   * @throws Exception exception thrown if occurred while executing test.
+   */
+  @Test
+  public void testDeleteAllCompletedTodoAsync() throws Exception {
+
+    LocalDateTime now = LocalDateTime.parse(LocalDateTime.now().format(formatter), formatter);
+    Mockito.when(todoClearCompletedJobService.submit()).thenReturn(
+        new TodoJobDto("job-1", TodoJobStatus.RUNNING, 0, 5, now, null, null));
+
+    mockMvc.perform(delete("/todo/clear-isCompleted-todos").param("async", "true"))
+        .andExpect(status().isAccepted())
+        .andExpect(header().string("Location", "/todo/jobs/job-1"))
+        .andExpect(jsonPath("$.id").value("job-1"))
+        .andExpect(jsonPath("$.status").value("RUNNING"))
+        .andExpect(jsonPath("$.estimatedCount").value(5));
+
+    Mockito.verify(todoService, Mockito.never()).deleteAllCompletedTodos();
+  }
+
+  /**
+   * This is the unit test to verify get job API.
+   *
+   * @throws Exception exception thrown if occurred while executing test.
+   */
+  @Test
+  public void testGetJob() throws Exception {
+
+    LocalDateTime now = LocalDateTime.parse(LocalDateTime.now().format(formatter), formatter);
+    Mockito.when(todoClearCompletedJobService.getJob("job-1")).thenReturn(
+        Optional.of(new TodoJobDto("job-1", TodoJobStatus.COMPLETED, 5, 5, now, now, null)));
+    Mockito.when(todoClearCompletedJobService.getJob("job-2")).thenReturn(Optional.empty());
+
+    mockMvc.perform(get("/todo/jobs/job-1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.status").value("COMPLETED"))
+        .andExpect(jsonPath("$.processedCount").value(5));
+
+    mockMvc.perform(get("/todo/jobs/job-2"))
+        .andExpect(status().isNotFound());
+  }
+
+  /**
+   * This is the unit test to verify get all todos API with filter and sort.
+   *
+   * @throws Exception exception thrown if occurred while executing test.
+   */
+  @Test
+  public void testGetAllTodoWithFilterAndSort() throws Exception {
+
+    LocalDateTime now = LocalDateTime.parse(LocalDateTime.now().format(formatter), formatter);
+    Mockito.when(todoService.getTodos(Mockito.any(TodoFilter.class), Mockito.any(Sort.class))).thenReturn(
+        Arrays.asList(new TodoDto(2, "Eat breakfast", 2, true, now, now)));
+
+    mockMvc.perform(get("/todo").param("status", "completed")
+        .param("createdFrom", "2024-05-01T10:00:00")
+        .param("sort", "createdDate,desc"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].id").value(2))
+        .andExpect(jsonPath("$[0].isCompleted").value(true));
+
+    ArgumentCaptor<TodoFilter> todoFilterCaptor = ArgumentCaptor.forClass(TodoFilter.class);
+    ArgumentCaptor<Sort> sortCaptor = ArgumentCaptor.forClass(Sort.class);
+    Mockito.verify(todoService).getTodos(todoFilterCaptor.capture(), sortCaptor.capture());
+    Assertions.assertEquals(TodoStatusFilter.COMPLETED, todoFilterCaptor.getValue().getStatus());
+    Assertions.assertEquals(LocalDateTime.of(2024, 5, 1, 10, 0), todoFilterCaptor.getValue().getCreatedFrom());
+    Assertions.assertNull(todoFilterCaptor.getValue().getUpdatedTo());
+    Assertions.assertEquals(Sort.Direction.DESC, sortCaptor.getValue().getOrderFor("createdDate").getDirection());
+    Mockito.verify(todoService, Mockito.never()).getAllTodos();
+  }
+
+  /**
+   * This is the unit test to verify get all todos API with fields projection.
+   *
+   * @throws Exception exception thrown if occurred while executing test.
+   */
+  @Test
+  public void testGetAllTodoWithFields() throws Exception {
+
+    Map<String, Object> projection = new LinkedHashMap<>();
+    projection.put("id", 1);
+    projection.put("title", "Go to Gym");
+    Mockito.when(todoService.getTodoProjections(Mockito.any(TodoFilter.class), Mockito.any(Sort.class),
+        Mockito.eq(List.of("id", "title")))).thenReturn(List.of(projection));
+
+    mockMvc.perform(get("/todo").param("fields", "id,title"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].id").value(1))
+        .andExpect(jsonPath("$[0].title").value("Go to Gym"))
+        .andExpect(jsonPath("$[0].order").doesNotExist());
+  }
+
+  /**
+   * This is the unit test to verify get all todos API rejects invalid query parameters.
+   *
+   * @throws Exception exception thrown if occurred while executing test.
+   */
+  @Test
+  public void testGetAllTodoWithInvalidParameters() throws Exception {
+
+    Mockito.when(todoService.getTodoProjections(Mockito.any(TodoFilter.class), Mockito.any(Sort.class),
+        Mockito.anyList())).thenThrow(new IllegalArgumentException("unknown field password"));
+
+    mockMvc.perform(get("/todo").param("status", "archived"))
+        .andExpect(status().isBadRequest());
+
+    mockMvc.perform(get("/todo").param("sort", "title,sideways"))
+        .andExpect(status().isBadRequest());
+
+    mockMvc.perform(get("/todo").param("fields", "password"))
+        .andExpect(status().isBadRequest());
+  }
+
+  /**
+   * This is the unit test to verify get todo stats API.
+   *
+   * @throws Exception exception thrown if occurred while executing test.
+   */
+  @Test
+  public void testGetTodoStats() throws Exception {
+
+    Mockito.when(todoService.getTodoStats()).thenReturn(new TodoStatsDto(5, 3, 2));
+
+    mockMvc.perform(get("/todo/stats"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.total").value(5))
+        .andExpect(jsonPath("$.active").value(3))
+        .andExpect(jsonPath("$.completed").value(2));
+  }
+
+  /**
+   * This is the unit test to verify get all todos API provides CBOR when it is accepted
+   * and that CBOR payload is smaller than JSON payload.
+   *
+   * @throws Exception exception thrown if occurred while executing test.
+   */
+  @Test
+  public void testGetAllTodoAsCbor() throws Exception {
+
+    LocalDateTime now = LocalDateTime.parse(LocalDateTime.now().format(formatter), formatter);
+    List<TodoDto> todoDtoList = new ArrayList<>();
+    for(int i = 1; i <= 100; i++) {
+      todoDtoList.add(new TodoDto(i, "Todo number " + i, i, i % 2 == 0, now, now));
+    }
+    Mockito.when(todoService.getAllTodos()).thenReturn(todoDtoList);
+
+    byte[] cbor = mockMvc.perform(get("/todo").accept("application/cbor"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType("application/cbor"))
+        .andReturn().getResponse().getContentAsByteArray();
+    byte[] json = mockMvc.perform(get("/todo"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andReturn().getResponse().getContentAsByteArray();
+
+    ObjectMapper cborObjectMapper = new ObjectMapper(new CBORFactory());
+    JsonNode todos = cborObjectMapper.readTree(cbor);
+    Assertions.assertEquals(objectMapper.readTree(json), todos);
+    Assertions.assertEquals("Todo number 1", todos.get(0).get("title").asText());
+    Assertions.assertEquals(now.format(formatter), todos.get(0).get("createdDate").asText());
+    Assertions.assertTrue(cbor.length < json.length);
+  }
+
+  /**
+   * This is the unit test to verify batch create todos API with CBOR request and response.
+   *
+   * @throws Exception exception thrown if occurred while executing test.
+   */
+  @Test
+  public void testCreateTodosAsCbor() throws Exception {
+
+    LocalDateTime now = LocalDateTime.parse(LocalDateTime.now().format(formatter), formatter);
+    Mockito.when(todoService.createTodos(Mockito.anyList())).thenReturn(Arrays.asList(
+        new TodoDto(1, "Go to Gym", 1, false, now, now), new TodoDto(2, "Eat breakfast", 2, false, now, now)));
+
+    ObjectMapper cborObjectMapper = new ObjectMapper(new CBORFactory()).registerModule(new JavaTimeModule());
+    byte[] request = cborObjectMapper.writeValueAsBytes(Arrays.asList(
+        new TodoDto(0, "Go to Gym", 1, false, null, null), new TodoDto(0, "Eat breakfast", 2, false, null, null)));
+
+    byte[] response = mockMvc.perform(post("/todo/batch").content(request)
+        .contentType("application/cbor").accept("application/cbor"))
+        .andExpect(status().isCreated())
+        .andReturn().getResponse().getContentAsByteArray();
+
+    List<JsonNode> todos = cborObjectMapper.readValue(response, new TypeReference<List<JsonNode>>() { });
+    Assertions.assertEquals(2, todos.size());
+    Assertions.assertEquals(2, todos.get(1).get("id").asInt());
+
+    ArgumentCaptor<List<TodoDto>> todoDtoListCaptor = ArgumentCaptor.forClass(List.class);
+    Mockito.verify(todoService).createTodos(todoDtoListCaptor.capture());
+    Assertions.assertEquals("Eat breakfast", todoDtoListCaptor.getValue().get(1).getTitle());
+  }
+
+  /**
+   * This is the unit test to verify batch create todos API rejects empty batch.
+   *
+   * @throws Exception exception thrown if occurred while executing test.
+   */
+  @Test
+  public void testCreateTodosWithEmptyBatch() throws Exception {
+
+    mockMvc.perform(post("/todo/batch").content("[]").contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isBadRequest());
+
+    Mockito.verifyNoInteractions(todoService);
+  }
+}
@@ -0,0 +1,68 @@
+package com.suyogmirgal.todomvc.datasource;
+
+import com.suyogmirgal.todomvc.model.TodoDto;
+import com.suyogmirgal.todomvc.service.TodoService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * This is integration test class for routing of the {@code replica} profile, in which
+ * a second in-memory database with the schema but none of the rows of the primary
+ * stands in for a lagging replica.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@SpringBootTest(properties = "todo.grpc.port=0")
+@ActiveProfiles("replica")
+public class TodoReplicaRoutingIntegrationTest {
+
+  @Autowired
+  private TodoService todoService;
+
+  @Autowired
+  private TodoReadYourWritesContext todoReadYourWritesContext;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  /**
+   * This test verifies writes go to the primary, reads go to the replica which lags behind,
+   * and a client reads its own write from the primary right after the write.
+   */
+  @Test
+  public void testClientReadsOwnWriteWhileReplicaLags() {
+    TodoDto todoDto;
+    todoReadYourWritesContext.bind("client-1");
+    try {
+      double primaryBefore = routed("primary");
+      todoDto = todoService.createTodo(new TodoDto(0, "Eat breakfast", 1, false, null, null));
+      Assertions.assertTrue(routed("primary") > primaryBefore);
+
+      primaryBefore = routed("primary");
+      Assertions.assertTrue(todoService.getTodoById(todoDto.getId()).isPresent());
+      Assertions.assertTrue(todoService.getAllTodos().stream().anyMatch(todo -> todo.getId() == todoDto.getId()));
+      Assertions.assertTrue(routed("primary") > primaryBefore);
+    } finally {
+      todoReadYourWritesContext.clear();
+    }
+
+    todoReadYourWritesContext.bind("client-2");
+    try {
+      double replicaBefore = routed("replica");
+      Assertions.assertTrue(todoService.getTodoById(todoDto.getId()).isEmpty());
+      Assertions.assertTrue(routed("replica") > replicaBefore);
+    } finally {
+      todoReadYourWritesContext.clear();
+      todoService.deleteTodoById(todoDto.getId());
+    }
+  }
+
+  private double routed(String target) {
+    return meterRegistry.get("todo.datasource.routed").tag("target", target).counter().count();
+  }
+}
@@ -0,0 +1,105 @@
+package com.suyogmirgal.todomvc.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * This is unit test class for {@link TodoRoutingDataSource}
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoRoutingDataSourceTest {
+
+  private TodoReadYourWritesContext todoReadYourWritesContext;
+
+  private MeterRegistry meterRegistry;
+
+  private TodoRoutingDataSource todoRoutingDataSource;
+
+  @BeforeEach
+  public void setUp() {
+    todoReadYourWritesContext = new TodoReadYourWritesContext(60000);
+    meterRegistry = new SimpleMeterRegistry();
+    todoRoutingDataSource = new TodoRoutingDataSource(Mockito.mock(DataSource.class),
+        Mockito.mock(DataSource.class), todoReadYourWritesContext, meterRegistry);
+    todoRoutingDataSource.afterPropertiesSet();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    todoReadYourWritesContext.clear();
+  }
+
+  /**
+   * This is the Unit test to verify only read only transactions are routed to the replica.
+   */
+  @Test
+  public void testReadOnlyTransactionsGoToReplica() {
+    Assertions.assertEquals(TodoDataSourceTarget.PRIMARY, todoRoutingDataSource.determineCurrentLookupKey());
+
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    todoReadYourWritesContext.bind("client-1");
+    Assertions.assertEquals(TodoDataSourceTarget.REPLICA, todoRoutingDataSource.determineCurrentLookupKey());
+
+    Assertions.assertEquals(1, routed("primary"));
+    Assertions.assertEquals(1, routed("replica"));
+  }
+
+  /**
+   * This is the Unit test to verify reads of a client go to the primary within the window after its write.
+   */
+  @Test
+  public void testReadYourWrites() {
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    todoReadYourWritesContext.recordWrite("client-1");
+
+    todoReadYourWritesContext.bind("client-1");
+    Assertions.assertEquals(TodoDataSourceTarget.PRIMARY, todoRoutingDataSource.determineCurrentLookupKey());
+
+    todoReadYourWritesContext.bind("client-2");
+    Assertions.assertEquals(TodoDataSourceTarget.REPLICA, todoRoutingDataSource.determineCurrentLookupKey());
+
+    TodoReadYourWritesContext expiredContext = new TodoReadYourWritesContext(0);
+    expiredContext.recordWrite("client-1");
+    expiredContext.bind("client-1");
+    Assertions.assertFalse(expiredContext.isPrimaryRequired());
+    Assertions.assertEquals(1, expiredContext.evictExpired());
+    expiredContext.clear();
+  }
+
+  /**
+   * This is the Unit test to verify a write transaction of a client is recorded
+   * as its write once it commits.
+   */
+  @Test
+  public void testWriteIsRecordedOnCommit() {
+    todoReadYourWritesContext.bind("client-1");
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      Assertions.assertEquals(TodoDataSourceTarget.PRIMARY, todoRoutingDataSource.determineCurrentLookupKey());
+      Assertions.assertFalse(todoReadYourWritesContext.isPrimaryRequired());
+
+      TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+    Assertions.assertTrue(todoReadYourWritesContext.isPrimaryRequired());
+
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    Assertions.assertEquals(TodoDataSourceTarget.PRIMARY, todoRoutingDataSource.determineCurrentLookupKey());
+  }
+
+  private double routed(String target) {
+    return meterRegistry.get("todo.datasource.routed").tag("target", target).counter().count();
+  }
+}
@@ -0,0 +1,45 @@
+package com.suyogmirgal.todomvc.filter;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * This is unit test class for {@link TodoClientResolver}
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoClientResolverTest {
+
+  /**
+   * This is the Unit test to verify client is identified by header and falls back to remote address only if allowed.
+   */
+  @Test
+  public void testResolve() {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setRemoteAddr("10.0.0.1");
+
+    Assertions.assertEquals("10.0.0.1", new TodoClientResolver("X-Client").resolve(request));
+    Assertions.assertNull(new TodoClientResolver("X-Client", false).resolve(request));
+    Assertions.assertNull(new TodoClientResolver("", false).resolve(request));
+
+    request.addHeader("X-Client", "client-1");
+    Assertions.assertEquals("client-1", new TodoClientResolver("X-Client").resolve(request));
+    Assertions.assertEquals("client-1", new TodoClientResolver("X-Client", false).resolve(request));
+    Assertions.assertEquals("10.0.0.1", new TodoClientResolver(" ").resolve(request));
+  }
+
+  /**
+   * This is the Unit test to verify remote address is trusted only if forwarded headers are applied to it.
+   */
+  @Test
+  public void testIsRemoteAddressTrusted() {
+    Assertions.assertFalse(TodoClientResolver.isRemoteAddressTrusted(null));
+    Assertions.assertFalse(TodoClientResolver.isRemoteAddressTrusted(""));
+    Assertions.assertFalse(TodoClientResolver.isRemoteAddressTrusted("none"));
+    Assertions.assertFalse(TodoClientResolver.isRemoteAddressTrusted("NONE"));
+    Assertions.assertTrue(TodoClientResolver.isRemoteAddressTrusted("native"));
+    Assertions.assertTrue(TodoClientResolver.isRemoteAddressTrusted("framework"));
+  }
+}
@@ -0,0 +1,116 @@
+package com.suyogmirgal.todomvc.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This is unit test class for {@link TodoConcurrencyLimiter}
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoConcurrencyLimiterTest {
+
+  private static final long MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+
+  /**
+   * This is the Unit test to verify requests over the limit are rejected.
+   */
+  @Test
+  public void testRejectOverLimit() {
+    TodoConcurrencyLimiter limiter = new TodoConcurrencyLimiter(2, 1, 10, 1.5);
+
+    Assertions.assertTrue(limiter.tryAcquire());
+    Assertions.assertTrue(limiter.tryAcquire());
+    Assertions.assertFalse(limiter.tryAcquire());
+    Assertions.assertEquals(2, limiter.getInFlight());
+
+    limiter.release(-1);
+
+    Assertions.assertTrue(limiter.tryAcquire());
+  }
+
+  /**
+   * This is the Unit test to verify limit grows while latency is stable
+   * and shrinks once latency rises.
+   */
+  @Test
+  public void testLimitFollowsLatency() {
+    TodoConcurrencyLimiter limiter = new TodoConcurrencyLimiter(20, 5, 200, 1.5);
+
+    for(int i = 0; i < 200; i++) {
+      runAtLimit(limiter, 10 * MILLISECOND);
+    }
+    int grownLimit = limiter.getLimit();
+    Assertions.assertTrue(grownLimit > 20);
+
+    for(int i = 0; i < 2; i++) {
+      runAtLimit(limiter, 100 * MILLISECOND);
+    }
+    Assertions.assertTrue(limiter.getLimit() < grownLimit);
+    Assertions.assertTrue(limiter.getLimit() >= 5);
+  }
+
+  /**
+   * This is the Unit test to verify limit does not grow while far fewer requests than the limit are in flight.
+   */
+  @Test
+  public void testLimitDoesNotGrowWhenIdle() {
+    TodoConcurrencyLimiter limiter = new TodoConcurrencyLimiter(20, 5, 200, 1.5);
+
+    for(int i = 0; i < 200; i++) {
+      Assertions.assertTrue(limiter.tryAcquire());
+      limiter.release(10 * MILLISECOND);
+    }
+
+    Assertions.assertEquals(20, limiter.getLimit());
+  }
+
+  /**
+   * This is the Unit test to verify concurrent releases keep the count of requests in flight
+   * and the limit within its bounds.
+   *
+   * @throws Exception exception thrown if occurred while executing test.
+   */
+  @Test
+  public void testConcurrentReleases() throws Exception {
+    TodoConcurrencyLimiter limiter = new TodoConcurrencyLimiter(20, 5, 200, 1.5);
+    ExecutorService executorService = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for(int thread = 0; thread < 8; thread++) {
+        futures.add(executorService.submit(() -> {
+          for(int i = 0; i < 10000; i++) {
+            if(limiter.tryAcquire()) {
+              limiter.release(10 * MILLISECOND);
+            }
+          }
+        }));
+      }
+      for(Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executorService.shutdown();
+    }
+
+    Assertions.assertEquals(0, limiter.getInFlight());
+    Assertions.assertTrue(limiter.getLimit() >= 5 && limiter.getLimit() <= 200);
+  }
+
+  private void runAtLimit(TodoConcurrencyLimiter limiter, long rttNanos) {
+    int admitted = 0;
+    while(limiter.tryAcquire()) {
+      admitted++;
+    }
+    for(int i = 0; i < admitted; i++) {
+      limiter.release(rttNanos);
+    }
+  }
+}
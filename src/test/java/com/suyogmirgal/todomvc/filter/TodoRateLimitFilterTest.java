@@ -0,0 +1,89 @@
+package com.suyogmirgal.todomvc.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * This is unit test class for {@link TodoRateLimitFilter}
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoRateLimitFilterTest {
+
+  private final AtomicLong nanoClock = new AtomicLong();
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private TodoRateLimitFilter todoRateLimitFilter;
+
+  @BeforeEach
+  void init() {
+    meterRegistry = new SimpleMeterRegistry();
+    todoRateLimitFilter = new TodoRateLimitFilter(1, 2, "X-Client-Id", 2, meterRegistry, nanoClock::get);
+  }
+
+  /**
+   * This is the Unit test to verify requests over the rate of a client are rejected
+   * with 429 and Retry-After, while other clients are not affected.
+   *
+   * @throws Exception exception thrown if occurred while executing test.
+   */
+  @Test
+  public void testRejectOverRate() throws Exception {
+    Assertions.assertEquals(200, perform("client-1", "10.0.0.1").getStatus());
+    Assertions.assertEquals(200, perform("client-1", "10.0.0.2").getStatus());
+
+    MockHttpServletResponse rejected = perform("client-1", "10.0.0.3");
+    Assertions.assertEquals(429, rejected.getStatus());
+    Assertions.assertEquals("1", rejected.getHeader("Retry-After"));
+
+    Assertions.assertEquals(200, perform("client-2", "10.0.0.1").getStatus());
+    Assertions.assertEquals(200, perform(null, "10.0.0.1").getStatus());
+
+    nanoClock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+    Assertions.assertEquals(200, perform("client-1", "10.0.0.1").getStatus());
+    Assertions.assertEquals(1, meterRegistry.counter("todo.ratelimit.rejected").count());
+  }
+
+  /**
+   * This is the Unit test to verify clients over max clients share one bucket per
+   * remote address and idle buckets are evicted.
+   *
+   * @throws Exception exception thrown if occurred while executing test.
+   */
+  @Test
+  public void testMaxClientsAndEviction() throws Exception {
+    perform("client-1", "10.0.0.1");
+    perform("client-2", "10.0.0.1");
+    perform("client-3", "10.0.0.1");
+    perform("client-4", "10.0.0.1");
+
+    Assertions.assertEquals(429, perform("client-5", "10.0.0.1").getStatus());
+    Assertions.assertEquals(200, perform("client-6", "10.0.0.2").getStatus());
+    Assertions.assertEquals(4.0, meterRegistry.get("todo.ratelimit.clients").gauge().value());
+
+    nanoClock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+    Assertions.assertEquals(4, todoRateLimitFilter.evictIdleBuckets());
+    Assertions.assertEquals(0.0, meterRegistry.get("todo.ratelimit.clients").gauge().value());
+  }
+
+  private MockHttpServletResponse perform(String client, String remoteAddress) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todo");
+    request.setRemoteAddr(remoteAddress);
+    if(client != null) {
+      request.addHeader("X-Client-Id", client);
+    }
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    todoRateLimitFilter.doFilter(request, response, new MockFilterChain());
+    return response;
+  }
+}
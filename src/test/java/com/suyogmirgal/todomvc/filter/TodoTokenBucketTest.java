@@ -0,0 +1,77 @@
+package com.suyogmirgal.todomvc.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This is unit test class for {@link TodoTokenBucket}
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoTokenBucketTest {
+
+  private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  /**
+   * This is the Unit test to verify bucket allows burst and then refills at its rate.
+   */
+  @Test
+  public void testBurstAndRefill() {
+    TodoTokenBucket bucket = new TodoTokenBucket(10, 5, 0);
+
+    for(int i = 0; i < 5; i++) {
+      Assertions.assertEquals(0, bucket.tryAcquire(0));
+    }
+    long waitNanos = bucket.tryAcquire(0);
+    Assertions.assertEquals(SECOND / 10, waitNanos);
+    Assertions.assertFalse(bucket.isFull(0));
+
+    Assertions.assertEquals(0, bucket.tryAcquire(waitNanos));
+    Assertions.assertTrue(bucket.tryAcquire(waitNanos) > 0);
+
+    Assertions.assertTrue(bucket.isFull(SECOND));
+    for(int i = 0; i < 5; i++) {
+      Assertions.assertEquals(0, bucket.tryAcquire(10 * SECOND));
+    }
+    Assertions.assertTrue(bucket.tryAcquire(10 * SECOND) > 0);
+  }
+
+  /**
+   * This is the Unit test to verify concurrent requests never take more tokens than bucket holds.
+   *
+   * @throws Exception exception thrown if occurred while executing test.
+   */
+  @Test
+  public void testConcurrentAcquire() throws Exception {
+    TodoTokenBucket bucket = new TodoTokenBucket(1, 1000, 0);
+    ExecutorService executorService = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<Integer>> futures = new ArrayList<>();
+      for(int i = 0; i < 8; i++) {
+        futures.add(executorService.submit(() -> {
+          int acquired = 0;
+          for(int j = 0; j < 1000; j++) {
+            if(bucket.tryAcquire(0) == 0) {
+              acquired++;
+            }
+          }
+          return acquired;
+        }));
+      }
+      int acquired = 0;
+      for(Future<Integer> future : futures) {
+        acquired += future.get(10, TimeUnit.SECONDS);
+      }
+      Assertions.assertEquals(1000, acquired);
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,241 @@
+package com.suyogmirgal.todomvc.grpc;
+
+import com.suyogmirgal.todomvc.model.TodoDto;
+import com.suyogmirgal.todomvc.service.TodoService;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * This is unit test class for {@link TodoGrpcService}, which calls it
+ * through an in-process gRPC server and channel.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@ExtendWith(MockitoExtension.class)
+public class TodoGrpcServiceTest {
+
+  @Mock
+  private TodoService todoService;
+
+  private Server server;
+
+  private ManagedChannel channel;
+
+  private TodosGrpc.TodosBlockingStub blockingStub;
+
+  private TodosGrpc.TodosStub asyncStub;
+
+  @BeforeEach
+  void init() throws Exception {
+    String serverName = InProcessServerBuilder.generateName();
+    server = InProcessServerBuilder.forName(serverName)
+        .addService(new TodoGrpcService(todoService, 2, 20))
+        .build()
+        .start();
+    channel = InProcessChannelBuilder.forName(serverName).build();
+    blockingStub = TodosGrpc.newBlockingStub(channel);
+    asyncStub = TodosGrpc.newStub(channel);
+  }
+
+  @AfterEach
+  void destroy() throws Exception {
+    channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+  }
+
+  /**
+   * This is the Unit test to verify create todo RPC.
+   */
+  @Test
+  public void testCreateTodo() {
+    LocalDateTime dateTime = LocalDateTime.of(2024, 5, 1, 10, 0);
+    Mockito.when(todoService.createTodo(Mockito.any(TodoDto.class)))
+        .thenReturn(new TodoDto(1, "Go to Gym", 2, false, dateTime, dateTime));
+
+    Todo todo = blockingStub.createTodo(CreateTodoRequest.newBuilder().setTitle("Go to Gym").setOrder(2).build());
+
+    Assertions.assertEquals(1, todo.getId());
+    Assertions.assertEquals("Go to Gym", todo.getTitle());
+    Assertions.assertEquals(2, todo.getOrder());
+    Assertions.assertEquals("2024-05-01T10:00:00", todo.getCreatedDate());
+
+    ArgumentCaptor<TodoDto> todoDtoCaptor = ArgumentCaptor.forClass(TodoDto.class);
+    Mockito.verify(todoService).createTodo(todoDtoCaptor.capture());
+    Assertions.assertEquals("Go to Gym", todoDtoCaptor.getValue().getTitle());
+    Assertions.assertEquals(2, todoDtoCaptor.getValue().getOrder());
+  }
+
+  /**
+   * This is the Unit test to verify create todo RPC without order is rejected.
+   */
+  @Test
+  public void testCreateTodoWithoutOrder() {
+    StatusRuntimeException ex = Assertions.assertThrows(StatusRuntimeException.class,
+        () -> blockingStub.createTodo(CreateTodoRequest.newBuilder().setTitle("Go to Gym").build()));
+
+    Assertions.assertEquals(Status.Code.INVALID_ARGUMENT, ex.getStatus().getCode());
+    Mockito.verifyNoInteractions(todoService);
+  }
+
+  /**
+   * This is the Unit test to verify get todo RPC for todo which does not exist.
+   */
+  @Test
+  public void testGetTodoNotFound() {
+    Mockito.when(todoService.getTodoById(5)).thenReturn(Optional.empty());
+
+    StatusRuntimeException ex = Assertions.assertThrows(StatusRuntimeException.class,
+        () -> blockingStub.getTodo(GetTodoRequest.newBuilder().setId(5).build()));
+
+    Assertions.assertEquals(Status.Code.NOT_FOUND, ex.getStatus().getCode());
+  }
+
+  /**
+   * This is the Unit test to verify update and delete todo RPCs.
+   */
+  @Test
+  public void testUpdateAndDeleteTodo() {
+    LocalDateTime dateTime = LocalDateTime.of(2024, 5, 1, 10, 0, 30);
+    Mockito.when(todoService.updateTodoById(Mockito.eq(1), Mockito.any(TodoDto.class)))
+        .thenReturn(Optional.of(new TodoDto(1, "Go to Gym", 3, true, dateTime, dateTime)));
+    Mockito.when(todoService.deleteTodoById(1)).thenReturn(true);
+
+    Todo todo = blockingStub.updateTodo(UpdateTodoRequest.newBuilder().setId(1).setOrder(3).setIsCompleted(true)
+        .build());
+
+    Assertions.assertEquals(3, todo.getOrder());
+    Assertions.assertTrue(todo.getIsCompleted());
+    ArgumentCaptor<TodoDto> todoDtoCaptor = ArgumentCaptor.forClass(TodoDto.class);
+    Mockito.verify(todoService).updateTodoById(Mockito.eq(1), todoDtoCaptor.capture());
+    Assertions.assertNull(todoDtoCaptor.getValue().getTitle());
+    Assertions.assertEquals(3, todoDtoCaptor.getValue().getOrder());
+
+    Assertions.assertTrue(blockingStub.deleteTodo(DeleteTodoRequest.newBuilder().setId(1).build()).getDeleted());
+  }
+
+  /**
+   * This is the Unit test to verify list todos RPC streams every todo, page after page.
+   */
+  @Test
+  public void testListTodos() {
+    Mockito.when(todoService.getTodosAfter(Mockito.anyInt(), Mockito.anyInt(), Mockito.eq(20)))
+        .thenAnswer(invocation -> newPage(invocation.getArgument(1), 50));
+
+    Iterator<Todo> todos = blockingStub.listTodos(ListTodosRequest.getDefaultInstance());
+
+    List<Integer> todoIds = new ArrayList<>();
+    todos.forEachRemaining(todo -> todoIds.add(todo.getId()));
+    Assertions.assertEquals(50, todoIds.size());
+    Assertions.assertEquals(1, todoIds.get(0));
+    Assertions.assertEquals(50, todoIds.get(49));
+    Mockito.verify(todoService).getTodosAfter(Integer.MIN_VALUE, Integer.MIN_VALUE, 20);
+    Mockito.verify(todoService).getTodosAfter(20, 20, 20);
+    Mockito.verify(todoService).getTodosAfter(50, 50, 20);
+  }
+
+  /**
+   * This is the Unit test to verify list todos RPC reads no further page
+   * while the client does not request more todos.
+   *
+   * @throws Exception exception thrown if occurred while executing test.
+   */
+  @Test
+  public void testListTodosWaitsForSlowClient() throws Exception {
+    Mockito.when(todoService.getTodosAfter(Mockito.anyInt(), Mockito.anyInt(), Mockito.eq(20)))
+        .thenAnswer(invocation -> newPage(invocation.getArgument(1), 50));
+
+    CompletableFuture<Todo> first = new CompletableFuture<>();
+    asyncStub.listTodos(ListTodosRequest.getDefaultInstance(), new ClientResponseObserver<ListTodosRequest, Todo>() {
+      @Override
+      public void beforeStart(ClientCallStreamObserver<ListTodosRequest> requestStream) {
+        requestStream.disableAutoRequestWithInitial(1);
+      }
+
+      @Override
+      public void onNext(Todo todo) {
+        first.complete(todo);
+      }
+
+      @Override
+      public void onError(Throwable throwable) {
+        first.completeExceptionally(throwable);
+      }
+
+      @Override
+      public void onCompleted() {
+      }
+    });
+
+    Assertions.assertEquals(1, first.get(5, TimeUnit.SECONDS).getId());
+    Thread.sleep(100);
+    Mockito.verify(todoService).getTodosAfter(Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt());
+  }
+
+  /**
+   * This is the Unit test to verify bulk create RPC creates streamed todos in batches.
+   *
+   * @throws Exception exception thrown if occurred while executing test.
+   */
+  @Test
+  public void testBulkCreate() throws Exception {
+    Mockito.when(todoService.createTodos(Mockito.anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    CompletableFuture<BulkCreateResponse> response = new CompletableFuture<>();
+    StreamObserver<CreateTodoRequest> requestObserver = asyncStub.bulkCreate(new StreamObserver<>() {
+      @Override
+      public void onNext(BulkCreateResponse bulkCreateResponse) {
+        response.complete(bulkCreateResponse);
+      }
+
+      @Override
+      public void onError(Throwable throwable) {
+        response.completeExceptionally(throwable);
+      }
+
+      @Override
+      public void onCompleted() {
+      }
+    });
+    for(int i = 1; i <= 3; i++) {
+      requestObserver.onNext(CreateTodoRequest.newBuilder().setTitle("Todo " + i).setOrder(i).build());
+    }
+    requestObserver.onCompleted();
+
+    Assertions.assertEquals(3, response.get(5, TimeUnit.SECONDS).getCreatedCount());
+    Mockito.verify(todoService, Mockito.times(2)).createTodos(Mockito.anyList());
+  }
+
+  private List<TodoDto> newPage(int lastId, int total) {
+    LocalDateTime dateTime = LocalDateTime.of(2024, 5, 1, 10, 0);
+    int from = Math.max(lastId, 0) + 1;
+    List<TodoDto> page = new ArrayList<>();
+    for(int id = from; id <= Math.min(from + 19, total); id++) {
+      page.add(new TodoDto(id, "Todo " + id, id, false, dateTime, dateTime));
+    }
+    return page;
+  }
+}
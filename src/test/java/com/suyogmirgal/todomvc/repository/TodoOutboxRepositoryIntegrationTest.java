@@ -0,0 +1,152 @@
+package com.suyogmirgal.todomvc.repository;
+
+import com.suyogmirgal.todomvc.entity.TodoEntity;
+import com.suyogmirgal.todomvc.entity.TodoOutboxEntity;
+import com.suyogmirgal.todomvc.model.TodoEventType;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * This is integration test class for {@link TodoOutboxRepository}
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@DataJpaTest
+public class TodoOutboxRepositoryIntegrationTest {
+
+  @Autowired
+  private TodoRepository todoRepository;
+
+  @Autowired
+  private TodoOutboxRepository todoOutboxRepository;
+
+  /**
+   * This test verifies that deleted events are recorded for all completed todos.
+   */
+  @Test
+  public void testInsertDeletedEventsByIsCompleted() {
+    TodoEntity todoEntity1 = todoRepository.save(newTodoEntity("Go to Gym", 1, true));
+    todoRepository.save(newTodoEntity("Eat breakfast", 2, false));
+    TodoEntity todoEntity3 = todoRepository.save(newTodoEntity("Read Story book", 3, true));
+
+    Assertions.assertEquals(2, todoOutboxRepository.insertDeletedEventsByIsCompleted(true, LocalDateTime.now()));
+
+    List<TodoOutboxEntity> todoOutboxEntityList = todoOutboxRepository
+        .findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(0, Long.MAX_VALUE, PageRequest.of(0, 10));
+
+    Assertions.assertEquals(2, todoOutboxEntityList.size());
+    Assertions.assertEquals(todoEntity1.getId(), todoOutboxEntityList.get(0).getTodoId());
+    Assertions.assertEquals(TodoEventType.DELETED, todoOutboxEntityList.get(0).getEventType());
+    Assertions.assertNull(todoOutboxEntityList.get(0).getPayload());
+    Assertions.assertEquals(todoEntity3.getId(), todoOutboxEntityList.get(1).getTodoId());
+    Assertions.assertEquals(TodoEventType.DELETED, todoOutboxEntityList.get(1).getEventType());
+  }
+
+  /**
+   * This test verifies retrieval of events after a sequence in sequence order.
+   */
+  @Test
+  public void testFindByIdGreaterThanAndIdLessThanEqualOrderByIdAsc() {
+    TodoOutboxEntity todoOutboxEntity1 = todoOutboxRepository.save(newTodoOutboxEntity(1, TodoEventType.CREATED));
+    TodoOutboxEntity todoOutboxEntity2 = todoOutboxRepository.save(newTodoOutboxEntity(1, TodoEventType.UPDATED));
+    TodoOutboxEntity todoOutboxEntity3 = todoOutboxRepository.save(newTodoOutboxEntity(1, TodoEventType.DELETED));
+
+    Assertions.assertTrue(todoOutboxEntity1.getId() < todoOutboxEntity2.getId());
+    Assertions.assertTrue(todoOutboxEntity2.getId() < todoOutboxEntity3.getId());
+
+    List<TodoOutboxEntity> todoOutboxEntityList = todoOutboxRepository
+        .findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(todoOutboxEntity1.getId(), todoOutboxEntity3.getId(),
+            PageRequest.of(0, 1));
+
+    Assertions.assertEquals(1, todoOutboxEntityList.size());
+    Assertions.assertEquals(todoOutboxEntity2.getId(), todoOutboxEntityList.get(0).getId());
+    Assertions.assertEquals(TodoEventType.UPDATED, todoOutboxEntityList.get(0).getEventType());
+  }
+
+  /**
+   * This test verifies purge removes only old events up to the provided sequence.
+   */
+  @Test
+  public void testPurgeUpTo() {
+    LocalDateTime now = LocalDateTime.now();
+    TodoOutboxEntity todoOutboxEntity1 = newTodoOutboxEntity(1, TodoEventType.CREATED);
+    todoOutboxEntity1.setCreatedDate(now.minusDays(2));
+    todoOutboxEntity1 = todoOutboxRepository.save(todoOutboxEntity1);
+    TodoOutboxEntity todoOutboxEntity2 = todoOutboxRepository.save(newTodoOutboxEntity(1, TodoEventType.UPDATED));
+    TodoOutboxEntity todoOutboxEntity3 = newTodoOutboxEntity(1, TodoEventType.DELETED);
+    todoOutboxEntity3.setCreatedDate(now.minusDays(2));
+    todoOutboxEntity3 = todoOutboxRepository.saveAndFlush(todoOutboxEntity3);
+
+    Assertions.assertEquals(1, todoOutboxRepository.purgeUpTo(todoOutboxEntity2.getId(), now.minusDays(1), 10));
+
+    Assertions.assertFalse(todoOutboxRepository.existsById(todoOutboxEntity1.getId()));
+    Assertions.assertTrue(todoOutboxRepository.existsById(todoOutboxEntity2.getId()));
+    Assertions.assertTrue(todoOutboxRepository.existsById(todoOutboxEntity3.getId()));
+  }
+
+  /**
+   * This test verifies retrieval of distinct mutated todo ids within a sequence range.
+   */
+  @Test
+  public void testFindDistinctTodoIdByIdBetween() {
+    TodoOutboxEntity todoOutboxEntity1 = todoOutboxRepository.save(newTodoOutboxEntity(1, TodoEventType.CREATED));
+    todoOutboxRepository.save(newTodoOutboxEntity(2, TodoEventType.CREATED));
+    todoOutboxRepository.save(newTodoOutboxEntity(2, TodoEventType.UPDATED));
+    TodoOutboxEntity todoOutboxEntity4 = todoOutboxRepository.save(newTodoOutboxEntity(3, TodoEventType.DELETED));
+    todoOutboxRepository.save(newTodoOutboxEntity(4, TodoEventType.CREATED));
+
+    List<Integer> todoIds = todoOutboxRepository.findDistinctTodoIdByIdBetween(todoOutboxEntity1.getId(),
+        todoOutboxEntity4.getId());
+
+    Assertions.assertEquals(2, todoIds.size());
+    Assertions.assertTrue(todoIds.contains(2));
+    Assertions.assertTrue(todoIds.contains(3));
+  }
+
+  /**
+   * This test verifies lookup of the sequences of the grace period.
+   */
+  @Test
+  public void testFindStableSequenceCandidates() {
+    LocalDateTime now = LocalDateTime.now();
+    TodoOutboxEntity todoOutboxEntity1 = todoOutboxRepository.save(newTodoOutboxEntity(1, TodoEventType.CREATED));
+    todoOutboxEntity1.setCreatedDate(now.minusMinutes(1));
+    todoOutboxRepository.saveAndFlush(todoOutboxEntity1);
+    TodoOutboxEntity todoOutboxEntity2 = todoOutboxRepository.save(newTodoOutboxEntity(1, TodoEventType.UPDATED));
+    TodoOutboxEntity todoOutboxEntity3 = todoOutboxRepository.save(newTodoOutboxEntity(1, TodoEventType.DELETED));
+
+    Assertions.assertEquals(todoOutboxEntity1.getId(),
+        todoOutboxRepository.findMaxIdByCreatedDateLessThanEqual(now.minusSeconds(10)));
+    Assertions.assertEquals(List.of(todoOutboxEntity2.getId(), todoOutboxEntity3.getId()),
+        todoOutboxRepository.findIdsAfter(todoOutboxEntity1.getId(), PageRequest.of(0, 10)));
+    Assertions.assertEquals(List.of(todoOutboxEntity2.getId()),
+        todoOutboxRepository.findIdsAfter(todoOutboxEntity1.getId(), PageRequest.of(0, 1)));
+    Assertions.assertEquals(1, todoOutboxRepository.findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(
+        todoOutboxEntity1.getId(), todoOutboxEntity2.getId(), PageRequest.of(0, 10)).size());
+  }
+
+  private TodoEntity newTodoEntity(String title, int order, boolean isCompleted) {
+    LocalDateTime dateTime = LocalDateTime.now();
+    TodoEntity todoEntity = new TodoEntity();
+    todoEntity.setTitle(title);
+    todoEntity.setOrder(order);
+    todoEntity.setCompleted(isCompleted);
+    todoEntity.setCreatedDate(dateTime);
+    todoEntity.setUpdatedDate(dateTime);
+    return todoEntity;
+  }
+
+  private TodoOutboxEntity newTodoOutboxEntity(int todoId, TodoEventType eventType) {
+    TodoOutboxEntity todoOutboxEntity = new TodoOutboxEntity();
+    todoOutboxEntity.setTodoId(todoId);
+    todoOutboxEntity.setEventType(eventType);
+    todoOutboxEntity.setCreatedDate(LocalDateTime.now());
+    return todoOutboxEntity;
+  }
+}
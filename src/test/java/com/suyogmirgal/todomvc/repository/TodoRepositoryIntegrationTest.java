@@ -1,13 +1,21 @@
 package com.suyogmirgal.todomvc.repository;
 
 import com.suyogmirgal.todomvc.entity.TodoEntity;
+import com.suyogmirgal.todomvc.model.TodoDto;
+import com.suyogmirgal.todomvc.model.TodoFilter;
+import com.suyogmirgal.todomvc.model.TodoStatusFilter;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
+import org.hibernate.Session;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 /**
  * This is integration test class for {@link TodoRepository}
@@ -23,6 +31,9 @@ public class TodoRepositoryIntegrationTest {
   @Autowired
   private TodoRepository todoRepository;
 
+  @Autowired
+  private TestEntityManager testEntityManager;
+
   /**
    * This test verifies retrieval of all orders in ascending order of Order.
    */
@@ -47,23 +58,23 @@ public class TodoRepositoryIntegrationTest {
     todoRepository.save(todoEntity1);
     todoRepository.save(todoEntity2);
 
-    List<TodoEntity> TodoEntityList = todoRepository.findAllByOrderByOrderAsc();
+    List<TodoDto> todoDtoList = todoRepository.findAllDtosByOrderByOrderAsc();
 
-    Assertions.assertEquals(2, TodoEntityList.size());
+    Assertions.assertEquals(2, todoDtoList.size());
 
-    Assertions.assertTrue(TodoEntityList.get(0).getId() > 0);
-    Assertions.assertEquals(1, TodoEntityList.get(0).getOrder());
-    Assertions.assertEquals("Go to Gym", TodoEntityList.get(0).getTitle());
-    Assertions.assertFalse(TodoEntityList.get(0).isCompleted());
-    Assertions.assertEquals(dateTime, TodoEntityList.get(0).getCreatedDate());
-    Assertions.assertEquals(dateTime, TodoEntityList.get(0).getUpdatedDate());
+    Assertions.assertTrue(todoDtoList.get(0).getId() > 0);
+    Assertions.assertEquals(1, todoDtoList.get(0).getOrder());
+    Assertions.assertEquals("Go to Gym", todoDtoList.get(0).getTitle());
+    Assertions.assertFalse(todoDtoList.get(0).isCompleted());
+    Assertions.assertEquals(dateTime, todoDtoList.get(0).getCreatedDate());
+    Assertions.assertEquals(dateTime, todoDtoList.get(0).getUpdatedDate());
 
-    Assertions.assertTrue(TodoEntityList.get(1).getId() > 0);
-    Assertions.assertEquals(2, TodoEntityList.get(1).getOrder());
-    Assertions.assertEquals("Eat breakfast", TodoEntityList.get(1).getTitle());
-    Assertions.assertFalse(TodoEntityList.get(1).isCompleted());
-    Assertions.assertEquals(dateTime, TodoEntityList.get(1).getCreatedDate());
-    Assertions.assertEquals(dateTime, TodoEntityList.get(1).getUpdatedDate());
+    Assertions.assertTrue(todoDtoList.get(1).getId() > 0);
+    Assertions.assertEquals(2, todoDtoList.get(1).getOrder());
+    Assertions.assertEquals("Eat breakfast", todoDtoList.get(1).getTitle());
+    Assertions.assertFalse(todoDtoList.get(1).isCompleted());
+    Assertions.assertEquals(dateTime, todoDtoList.get(1).getCreatedDate());
+    Assertions.assertEquals(dateTime, todoDtoList.get(1).getUpdatedDate());
 
   }
 
@@ -99,23 +110,23 @@ public class TodoRepositoryIntegrationTest {
     todoRepository.save(todoEntity2);
     todoRepository.save(todoEntity3);
 
-    List<TodoEntity> todoEntityList = todoRepository.findByIsCompletedOrderByOrderAsc(false);
+    List<TodoDto> todoDtoList = todoRepository.findDtosByIsCompletedOrderByOrderAsc(false);
 
-    Assertions.assertEquals(2, todoEntityList.size());
+    Assertions.assertEquals(2, todoDtoList.size());
 
-    Assertions.assertTrue(todoEntityList.get(0).getId() > 0);
-    Assertions.assertEquals(2, todoEntityList.get(0).getOrder());
-    Assertions.assertEquals("Eat breakfast", todoEntityList.get(0).getTitle());
-    Assertions.assertFalse(todoEntityList.get(1).isCompleted());
-    Assertions.assertEquals(dateTime, todoEntityList.get(0).getCreatedDate());
-    Assertions.assertEquals(dateTime, todoEntityList.get(0).getUpdatedDate());
+    Assertions.assertTrue(todoDtoList.get(0).getId() > 0);
+    Assertions.assertEquals(2, todoDtoList.get(0).getOrder());
+    Assertions.assertEquals("Eat breakfast", todoDtoList.get(0).getTitle());
+    Assertions.assertFalse(todoDtoList.get(1).isCompleted());
+    Assertions.assertEquals(dateTime, todoDtoList.get(0).getCreatedDate());
+    Assertions.assertEquals(dateTime, todoDtoList.get(0).getUpdatedDate());
 
-    Assertions.assertTrue(todoEntityList.get(1).getId() > 0);
-    Assertions.assertEquals(3, todoEntityList.get(1).getOrder());
-    Assertions.assertEquals("Read Story book", todoEntityList.get(1).getTitle());
-    Assertions.assertFalse(todoEntityList.get(1).isCompleted());
-    Assertions.assertEquals(dateTime, todoEntityList.get(1).getCreatedDate());
-    Assertions.assertEquals(dateTime, todoEntityList.get(1).getUpdatedDate());
+    Assertions.assertTrue(todoDtoList.get(1).getId() > 0);
+    Assertions.assertEquals(3, todoDtoList.get(1).getOrder());
+    Assertions.assertEquals("Read Story book", todoDtoList.get(1).getTitle());
+    Assertions.assertFalse(todoDtoList.get(1).isCompleted());
+    Assertions.assertEquals(dateTime, todoDtoList.get(1).getCreatedDate());
+    Assertions.assertEquals(dateTime, todoDtoList.get(1).getUpdatedDate());
 
   }
 
@@ -154,9 +165,229 @@ public class TodoRepositoryIntegrationTest {
     Assertions.assertTrue(todoRepository.deleteByIsCompleted(true) > 0);
 
     //retrieve completed todo after deletion
-    List<TodoEntity> todoEntityList = todoRepository.findByIsCompletedOrderByOrderAsc(true);
+    List<TodoDto> todoDtoList = todoRepository.findDtosByIsCompletedOrderByOrderAsc(true);
+
+    Assertions.assertEquals(0, todoDtoList.size());
+  }
+
+  /**
+   * This test verifies soft deleted todos are filtered from all the queries
+   * and are removed by purge once they are older than provided date time.
+   */
+  @Test
+  public void testSoftDeleteAndPurge() {
+    LocalDateTime dateTime = format(LocalDateTime.now());
+
+    TodoEntity todoEntity1 = new TodoEntity();
+    todoEntity1.setOrder(1);
+    todoEntity1.setCompleted(true);
+    todoEntity1.setTitle("Go to Gym");
+    todoEntity1.setCreatedDate(dateTime);
+    todoEntity1.setUpdatedDate(dateTime);
+
+    TodoEntity todoEntity2 = new TodoEntity();
+    todoEntity2.setOrder(2);
+    todoEntity2.setCompleted(false);
+    todoEntity2.setTitle("Eat breakfast");
+    todoEntity2.setCreatedDate(dateTime);
+    todoEntity2.setUpdatedDate(dateTime);
+
+    TodoEntity todoEntity3 = new TodoEntity();
+    todoEntity3.setOrder(3);
+    todoEntity3.setCompleted(false);
+    todoEntity3.setTitle("Read Story book");
+    todoEntity3.setCreatedDate(dateTime);
+    todoEntity3.setUpdatedDate(dateTime);
+
+    todoRepository.save(todoEntity1);
+    todoRepository.save(todoEntity2);
+    int todoId3 = todoRepository.save(todoEntity3).getId();
+    todoRepository.flush();
+
+    Assertions.assertEquals(1, todoRepository.softDeleteByIsCompleted(true, dateTime));
+    Assertions.assertEquals(1, todoRepository.softDeleteById(todoId3, dateTime));
+    Assertions.assertEquals(0, todoRepository.softDeleteById(todoId3, dateTime));
+
+    List<TodoDto> todoDtoList = todoRepository.findAllDtosByOrderByOrderAsc();
+
+    Assertions.assertEquals(1, todoDtoList.size());
+    Assertions.assertEquals("Eat breakfast", todoDtoList.get(0).getTitle());
+    Assertions.assertTrue(todoRepository.findDtosByIsCompletedOrderByOrderAsc(true).isEmpty());
+    Assertions.assertTrue(todoRepository.findById(todoId3).isEmpty());
+
+    Assertions.assertEquals(0, todoRepository.purgeSoftDeleted(dateTime, 10));
+    Assertions.assertEquals(1, todoRepository.purgeSoftDeleted(dateTime.plusSeconds(1), 1));
+    Assertions.assertEquals(1, todoRepository.purgeSoftDeleted(dateTime.plusSeconds(1), 1));
+    Assertions.assertEquals(0, todoRepository.purgeSoftDeleted(dateTime.plusSeconds(1), 1));
+  }
+
+  /**
+   * This test verifies todos are filtered by specification and only requested columns are projected.
+   */
+  @Test
+  public void testFindBySpecificationAndProjection() {
+    LocalDateTime dateTime = format(LocalDateTime.now());
+
+    TodoEntity todoEntity1 = new TodoEntity();
+    todoEntity1.setOrder(1);
+    todoEntity1.setCompleted(true);
+    todoEntity1.setTitle("Go to Gym");
+    todoEntity1.setCreatedDate(dateTime.minusDays(2));
+    todoEntity1.setUpdatedDate(dateTime);
+
+    TodoEntity todoEntity2 = new TodoEntity();
+    todoEntity2.setOrder(2);
+    todoEntity2.setCompleted(false);
+    todoEntity2.setTitle("Eat breakfast");
+    todoEntity2.setCreatedDate(dateTime.minusDays(1));
+    todoEntity2.setUpdatedDate(dateTime);
+
+    TodoEntity todoEntity3 = new TodoEntity();
+    todoEntity3.setOrder(3);
+    todoEntity3.setCompleted(false);
+    todoEntity3.setTitle("Read Story book");
+    todoEntity3.setCreatedDate(dateTime);
+    todoEntity3.setUpdatedDate(dateTime);
+
+    todoRepository.save(todoEntity1);
+    int todoId2 = todoRepository.save(todoEntity2).getId();
+    int todoId3 = todoRepository.save(todoEntity3).getId();
+
+    TodoFilter activeFilter = new TodoFilter(TodoStatusFilter.ACTIVE, null, null, null, null);
+    List<TodoEntity> todoEntityList = todoRepository.findAll(TodoSpecifications.matching(activeFilter),
+        Sort.by(Sort.Direction.DESC, "order"));
+
+    Assertions.assertEquals(2, todoEntityList.size());
+    Assertions.assertEquals("Read Story book", todoEntityList.get(0).getTitle());
+    Assertions.assertEquals("Eat breakfast", todoEntityList.get(1).getTitle());
+
+    TodoFilter createdFilter = new TodoFilter(TodoStatusFilter.ALL, dateTime.minusDays(1), dateTime.minusHours(1),
+        null, null);
+    List<Map<String, Object>> projections = todoRepository.findProjected(
+        TodoSpecifications.matching(createdFilter), Sort.by("order"), List.of("id", "title"));
+
+    Assertions.assertEquals(1, projections.size());
+    Assertions.assertEquals(List.of("id", "title"), List.copyOf(projections.get(0).keySet()));
+    Assertions.assertEquals(todoId2, projections.get(0).get("id"));
+    Assertions.assertEquals("Eat breakfast", projections.get(0).get("title"));
+
+    TodoFilter allFilter = new TodoFilter(TodoStatusFilter.ALL, null, null, null, null);
+    projections = todoRepository.findProjected(TodoSpecifications.matching(allFilter),
+        Sort.by(Sort.Direction.DESC, "createdDate"), List.of("id"));
+
+    Assertions.assertEquals(3, projections.size());
+    Assertions.assertEquals(todoId3, projections.get(0).get("id"));
+
+    TodoCounts todoCounts = todoRepository.countTodos();
+    Assertions.assertEquals(3, todoCounts.getTotal());
+    Assertions.assertEquals(1, todoCounts.getCompleted());
+  }
+
+  /**
+   * This test verifies reading todos as DTOs page by page in ascending order of Order.
+   */
+  @Test
+  public void testFindDtosAfterOrderAndId() {
+    LocalDateTime dateTime = format(LocalDateTime.now());
+
+    TodoEntity todoEntity1 = new TodoEntity();
+    todoEntity1.setOrder(2);
+    todoEntity1.setCompleted(true);
+    todoEntity1.setTitle("Go to Gym");
+    todoEntity1.setCreatedDate(dateTime);
+    todoEntity1.setUpdatedDate(dateTime);
+
+    TodoEntity todoEntity2 = new TodoEntity();
+    todoEntity2.setOrder(1);
+    todoEntity2.setCompleted(false);
+    todoEntity2.setTitle("Eat breakfast");
+    todoEntity2.setCreatedDate(dateTime);
+    todoEntity2.setUpdatedDate(dateTime);
+
+    todoRepository.save(todoEntity1);
+    todoRepository.save(todoEntity2);
+
+    List<TodoDto> firstPage = todoRepository.findDtosAfterOrderAndId(Integer.MIN_VALUE, Integer.MIN_VALUE,
+        PageRequest.of(0, 1));
+    Assertions.assertEquals(1, firstPage.size());
+    Assertions.assertEquals("Eat breakfast", firstPage.get(0).getTitle());
+    Assertions.assertEquals(1, firstPage.get(0).getOrder());
+
+    List<TodoDto> secondPage = todoRepository.findDtosAfterOrderAndId(firstPage.get(0).getOrder(),
+        firstPage.get(0).getId(), PageRequest.of(0, 1));
+    Assertions.assertEquals(1, secondPage.size());
+    Assertions.assertTrue(secondPage.get(0).isCompleted());
+    Assertions.assertEquals(dateTime, secondPage.get(0).getCreatedDate());
+
+    Assertions.assertTrue(todoRepository.findDtosAfterOrderAndId(secondPage.get(0).getOrder(),
+        secondPage.get(0).getId(), PageRequest.of(0, 1)).isEmpty());
+  }
+
+  /**
+   * This test verifies todos are selected as DTOs without loading entities into the persistence context.
+   */
+  @Test
+  public void testFindDtos() {
+    LocalDateTime dateTime = format(LocalDateTime.now());
+
+    TodoEntity todoEntity1 = new TodoEntity();
+    todoEntity1.setOrder(2);
+    todoEntity1.setCompleted(true);
+    todoEntity1.setTitle("Go to Gym");
+    todoEntity1.setCreatedDate(dateTime);
+    todoEntity1.setUpdatedDate(dateTime);
+
+    TodoEntity todoEntity2 = new TodoEntity();
+    todoEntity2.setOrder(1);
+    todoEntity2.setCompleted(false);
+    todoEntity2.setTitle("Eat breakfast");
+    todoEntity2.setCreatedDate(dateTime);
+    todoEntity2.setUpdatedDate(dateTime);
+
+    TodoEntity todoEntity3 = new TodoEntity();
+    todoEntity3.setOrder(3);
+    todoEntity3.setCompleted(false);
+    todoEntity3.setTitle("Read Story book");
+    todoEntity3.setCreatedDate(dateTime);
+    todoEntity3.setUpdatedDate(dateTime);
+
+    int todoId1 = todoRepository.save(todoEntity1).getId();
+    int todoId2 = todoRepository.save(todoEntity2).getId();
+    int todoId3 = todoRepository.save(todoEntity3).getId();
+    testEntityManager.flush();
+    testEntityManager.clear();
+
+    List<TodoDto> todoDtoList = todoRepository.findAllDtosByOrderByOrderAsc();
+
+    Assertions.assertEquals(3, todoDtoList.size());
+    Assertions.assertEquals(todoId2, todoDtoList.get(0).getId());
+    Assertions.assertEquals("Eat breakfast", todoDtoList.get(0).getTitle());
+    Assertions.assertEquals(1, todoDtoList.get(0).getOrder());
+    Assertions.assertEquals(dateTime, todoDtoList.get(0).getCreatedDate());
+    Assertions.assertEquals(todoId1, todoDtoList.get(1).getId());
+    Assertions.assertTrue(todoDtoList.get(1).isCompleted());
+    Assertions.assertEquals(todoId3, todoDtoList.get(2).getId());
+
+    todoDtoList = todoRepository.findDtosByIsCompletedOrderByOrderAsc(false);
+
+    Assertions.assertEquals(2, todoDtoList.size());
+    Assertions.assertEquals(todoId2, todoDtoList.get(0).getId());
+    Assertions.assertEquals(todoId3, todoDtoList.get(1).getId());
+
+    todoDtoList = todoRepository.findDtosByIdIn(List.of(todoId1, todoId3, todoId3 + 1));
+
+    Assertions.assertEquals(2, todoDtoList.size());
+
+    TodoFilter activeFilter = new TodoFilter(TodoStatusFilter.ACTIVE, null, null, null, null);
+    todoDtoList = todoRepository.findDtos(TodoSpecifications.matching(activeFilter),
+        Sort.by(Sort.Direction.DESC, "order"));
+
+    Assertions.assertEquals(2, todoDtoList.size());
+    Assertions.assertEquals("Read Story book", todoDtoList.get(0).getTitle());
+    Assertions.assertEquals("Eat breakfast", todoDtoList.get(1).getTitle());
 
-    Assertions.assertEquals(0, todoEntityList.size());
+    Session session = testEntityManager.getEntityManager().unwrap(Session.class);
+    Assertions.assertEquals(0, session.getStatistics().getEntityCount());
   }
 
   private LocalDateTime format(LocalDateTime localDateTime) {
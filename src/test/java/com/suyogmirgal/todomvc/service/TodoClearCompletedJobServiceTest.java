@@ -0,0 +1,95 @@
+package com.suyogmirgal.todomvc.service;
+
+import com.suyogmirgal.todomvc.model.TodoJobDto;
+import com.suyogmirgal.todomvc.model.TodoJobStatus;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+
+/**
+ * This is unit test class for {@link TodoClearCompletedJobService}
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@ExtendWith(MockitoExtension.class)
+public class TodoClearCompletedJobServiceTest {
+
+  @Mock
+  private TodoService todoService;
+
+  /**
+   * This is the Unit test to verify job deletes in chunks until a chunk is not full.
+   */
+  @Test
+  public void testClearCompletedInChunks() {
+    Mockito.when(todoService.getCompletedTodoCount()).thenReturn(3L);
+    Mockito.when(todoService.deleteCompletedTodosChunk(2))
+        .thenReturn(Arrays.asList(1, 2), Collections.singletonList(3));
+
+    TodoClearCompletedJobService jobService = new TodoClearCompletedJobService(todoService,
+        new SyncTaskExecutor(), 2, 10);
+
+    TodoJobDto submittedJob = jobService.submit();
+    TodoJobDto finishedJob = jobService.getJob(submittedJob.getId()).get();
+
+    Assertions.assertEquals(TodoJobStatus.COMPLETED, finishedJob.getStatus());
+    Assertions.assertEquals(3, finishedJob.getProcessedCount());
+    Assertions.assertEquals(3, finishedJob.getEstimatedCount());
+    Assertions.assertNotNull(finishedJob.getFinishedDate());
+    Mockito.verify(todoService, Mockito.times(2)).deleteCompletedTodosChunk(2);
+  }
+
+  /**
+   * This is the Unit test to verify requests arriving while a job is running
+   * join the running job and a new job starts once it is finished.
+   */
+  @Test
+  public void testConcurrentRequestsCoalesce() {
+    List<Runnable> tasks = new ArrayList<>();
+    Mockito.when(todoService.deleteCompletedTodosChunk(2)).thenReturn(Collections.emptyList());
+
+    TodoClearCompletedJobService jobService = new TodoClearCompletedJobService(todoService, tasks::add, 2, 10);
+
+    TodoJobDto firstJob = jobService.submit();
+    TodoJobDto secondJob = jobService.submit();
+
+    Assertions.assertEquals(firstJob.getId(), secondJob.getId());
+    Assertions.assertEquals(TodoJobStatus.RUNNING, secondJob.getStatus());
+    Assertions.assertEquals(1, tasks.size());
+
+    tasks.get(0).run();
+
+    TodoJobDto thirdJob = jobService.submit();
+
+    Assertions.assertNotEquals(firstJob.getId(), thirdJob.getId());
+    Assertions.assertEquals(TodoJobStatus.COMPLETED, jobService.getJob(firstJob.getId()).get().getStatus());
+    Assertions.assertEquals(2, tasks.size());
+  }
+
+  /**
+   * This is the Unit test to verify a failing chunk fails the job with its reason.
+   */
+  @Test
+  public void testFailedJob() {
+    Mockito.when(todoService.deleteCompletedTodosChunk(2)).thenThrow(new IllegalStateException("failed"));
+
+    TodoClearCompletedJobService jobService = new TodoClearCompletedJobService(todoService,
+        new SyncTaskExecutor(), 2, 10);
+
+    TodoJobDto submittedJob = jobService.submit();
+
+    TodoJobDto failedJob = jobService.getJob(submittedJob.getId()).get();
+    Assertions.assertEquals(TodoJobStatus.FAILED, failedJob.getStatus());
+    Assertions.assertEquals("java.lang.IllegalStateException: failed", failedJob.getFailureReason());
+    Assertions.assertTrue(jobService.getJob("unknown").isEmpty());
+  }
+}
@@ -0,0 +1,117 @@
+package com.suyogmirgal.todomvc.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.suyogmirgal.todomvc.model.TodoDto;
+import com.suyogmirgal.todomvc.repository.TodoIdempotencyKeyRepository;
+import com.suyogmirgal.todomvc.repository.TodoRepository;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * This is integration test class for {@link TodoIdempotencyService}
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@SpringBootTest(properties = {"todo.grpc.port=0", "todo.idempotency.max-keys=0"})
+public class TodoIdempotencyServiceIntegrationTest {
+
+  private static final String CLIENT = "127.0.0.1";
+
+  @Autowired
+  private TodoIdempotencyService todoIdempotencyService;
+
+  @Autowired
+  private TodoIdempotencyKeyRepository todoIdempotencyKeyRepository;
+
+  @Autowired
+  private TodoService todoService;
+
+  @Autowired
+  private TodoRepository todoRepository;
+
+  /**
+   * This test verifies a retry gets the stored response without creating the todo again.
+   * No key is remembered in memory, so the retry is answered from the database.
+   */
+  @Test
+  public void testRetryReplaysStoredResponse() {
+    String key = UUID.randomUUID().toString();
+    TodoDto request = new TodoDto(0, "Go to Gym", 1, false, null, null);
+    AtomicInteger writes = new AtomicInteger();
+
+    TodoDto first = todoIdempotencyService.execute(CLIENT, key, "createTodo", request,
+        new TypeReference<TodoDto>() { }, () -> {
+          writes.incrementAndGet();
+          return todoService.createTodo(request);
+        });
+    long count = todoRepository.count();
+    TodoDto retry = todoIdempotencyService.execute(CLIENT, key, "createTodo", request,
+        new TypeReference<TodoDto>() { }, () -> {
+          writes.incrementAndGet();
+          return todoService.createTodo(request);
+        });
+
+    Assertions.assertEquals(1, writes.get());
+    Assertions.assertEquals(first.getId(), retry.getId());
+    Assertions.assertEquals("Go to Gym", retry.getTitle());
+    Assertions.assertEquals(count, todoRepository.count());
+    Assertions.assertTrue(todoIdempotencyKeyRepository.findById(TodoIdempotencyService.scopedKey(CLIENT, key))
+        .isPresent());
+  }
+
+  /**
+   * This test verifies a key can not be used again for a different request.
+   */
+  @Test
+  public void testKeyReusedForDifferentRequest() {
+    String key = UUID.randomUUID().toString();
+    TodoDto request = new TodoDto(0, "Go to Gym", 1, false, null, null);
+    todoIdempotencyService.execute(CLIENT, key, "createTodo", request,
+        new TypeReference<TodoDto>() { }, () -> todoService.createTodo(request));
+
+    TodoDto otherRequest = new TodoDto(0, "Eat breakfast", 2, false, null, null);
+    Assertions.assertThrows(TodoIdempotencyConflictException.class, () -> todoIdempotencyService.execute(CLIENT,
+        key, "createTodo", otherRequest, new TypeReference<TodoDto>() { }, () -> todoService.createTodo(otherRequest)));
+  }
+
+  /**
+   * This test verifies keys of different clients do not collide.
+   */
+  @Test
+  public void testSameKeyOfDifferentClients() {
+    String key = UUID.randomUUID().toString();
+    TodoDto request = new TodoDto(0, "Go to Gym", 1, false, null, null);
+
+    TodoDto first = todoIdempotencyService.execute(CLIENT, key, "createTodo", request,
+        new TypeReference<TodoDto>() { }, () -> todoService.createTodo(request));
+    TodoDto other = todoIdempotencyService.execute("127.0.0.2", key, "createTodo", request,
+        new TypeReference<TodoDto>() { }, () -> todoService.createTodo(request));
+
+    Assertions.assertNotEquals(first.getId(), other.getId());
+  }
+
+  /**
+   * This test verifies a key is released if the write fails, so the request can be retried.
+   */
+  @Test
+  public void testFailedWriteReleasesKey() {
+    String key = UUID.randomUUID().toString();
+    TodoDto request = new TodoDto(0, "Go to Gym", 1, false, null, null);
+
+    Assertions.assertThrows(IllegalStateException.class, () -> todoIdempotencyService.execute(CLIENT, key,
+        "createTodo", request, new TypeReference<TodoDto>() { }, () -> {
+          throw new IllegalStateException("write failed");
+        }));
+    Assertions.assertFalse(todoIdempotencyKeyRepository.findById(TodoIdempotencyService.scopedKey(CLIENT, key))
+        .isPresent());
+
+    TodoDto todoDto = todoIdempotencyService.execute(CLIENT, key, "createTodo", request,
+        new TypeReference<TodoDto>() { }, () -> todoService.createTodo(request));
+    Assertions.assertEquals("Go to Gym", todoDto.getTitle());
+  }
+}
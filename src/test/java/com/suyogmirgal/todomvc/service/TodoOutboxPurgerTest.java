@@ -0,0 +1,56 @@
+package com.suyogmirgal.todomvc.service;
+
+import com.suyogmirgal.todomvc.repository.TodoOutboxRepository;
+import com.suyogmirgal.todomvc.repository.TodoOutboxWatermarkRepository;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * This is unit test class for {@link TodoOutboxPurger}
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@ExtendWith(MockitoExtension.class)
+public class TodoOutboxPurgerTest {
+
+  @Mock
+  private TodoOutboxRepository todoOutboxRepository;
+
+  @Mock
+  private TodoOutboxWatermarkRepository todoOutboxWatermarkRepository;
+
+  /**
+   * This is the Unit test to verify purge removes events up to the lowest watermark until a batch is not full.
+   */
+  @Test
+  public void testPurgeUpToLowestWatermark() {
+    Mockito.when(todoOutboxWatermarkRepository.findMinLastSequence()).thenReturn(42L);
+    Mockito.when(todoOutboxRepository.purgeUpTo(Mockito.eq(42L), Mockito.any(LocalDateTime.class), Mockito.eq(2)))
+        .thenReturn(2, 1);
+
+    Assertions.assertEquals(3,
+        new TodoOutboxPurger(todoOutboxRepository, todoOutboxWatermarkRepository, 60, 2, 10).purge());
+
+    Mockito.verify(todoOutboxRepository, Mockito.times(2))
+        .purgeUpTo(Mockito.eq(42L), Mockito.any(LocalDateTime.class), Mockito.eq(2));
+  }
+
+  /**
+   * This is the Unit test to verify nothing is purged before any consumer relayed events.
+   */
+  @Test
+  public void testPurgeWithoutWatermark() {
+    Mockito.when(todoOutboxWatermarkRepository.findMinLastSequence()).thenReturn(null);
+
+    Assertions.assertEquals(0,
+        new TodoOutboxPurger(todoOutboxRepository, todoOutboxWatermarkRepository, 60, 2, 10).purge());
+
+    Mockito.verifyNoInteractions(todoOutboxRepository);
+  }
+}
@@ -0,0 +1,117 @@
+package com.suyogmirgal.todomvc.service;
+
+import com.suyogmirgal.todomvc.entity.TodoOutboxWatermarkEntity;
+import com.suyogmirgal.todomvc.model.TodoEventType;
+import com.suyogmirgal.todomvc.model.TodoOutboxEventDto;
+import com.suyogmirgal.todomvc.repository.TodoOutboxWatermarkRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * This is unit test class for {@link TodoOutboxRelay}
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@ExtendWith(MockitoExtension.class)
+public class TodoOutboxRelayTest {
+
+  @Mock
+  private TodoOutboxService todoOutboxService;
+
+  @Mock
+  private TodoOutboxWatermarkRepository todoOutboxWatermarkRepository;
+
+  private InMemoryTodoOutboxSink todoOutboxSink;
+
+  private TodoOutboxRelay todoOutboxRelay;
+
+  @BeforeEach
+  void init() {
+    todoOutboxSink = new InMemoryTodoOutboxSink(new SimpleMeterRegistry(), 100);
+    todoOutboxRelay = new TodoOutboxRelay(todoOutboxService, todoOutboxWatermarkRepository, todoOutboxSink,
+        "test", 2, 1000, 1000);
+  }
+
+  /**
+   * This is the Unit test to verify relay publishes batches starting after the
+   * stored watermark and moves the watermark after each batch.
+   */
+  @Test
+  public void testRelayFromWatermark() {
+    TodoOutboxWatermarkEntity todoOutboxWatermarkEntity = new TodoOutboxWatermarkEntity();
+    todoOutboxWatermarkEntity.setConsumer("test");
+    todoOutboxWatermarkEntity.setLastSequence(5);
+
+    Mockito.when(todoOutboxWatermarkRepository.findById("test")).thenReturn(Optional.of(todoOutboxWatermarkEntity));
+    Mockito.when(todoOutboxService.getEventsAfter(5, 2)).thenReturn(Arrays.asList(newEvent(6), newEvent(7)));
+    Mockito.when(todoOutboxService.getEventsAfter(7, 2)).thenReturn(Collections.singletonList(newEvent(8)));
+
+    Assertions.assertEquals(3, todoOutboxRelay.relay());
+
+    List<TodoOutboxEventDto> published = new ArrayList<>();
+    todoOutboxSink.drainTo(published, 10);
+    Assertions.assertEquals(3, published.size());
+    Assertions.assertEquals(6, published.get(0).getSequence());
+    Assertions.assertEquals(8, published.get(2).getSequence());
+
+    ArgumentCaptor<TodoOutboxWatermarkEntity> watermarkArgumentCaptor =
+        ArgumentCaptor.forClass(TodoOutboxWatermarkEntity.class);
+    Mockito.verify(todoOutboxWatermarkRepository, Mockito.times(2)).save(watermarkArgumentCaptor.capture());
+    Assertions.assertEquals(7, watermarkArgumentCaptor.getAllValues().get(0).getLastSequence());
+    Assertions.assertEquals(8, watermarkArgumentCaptor.getAllValues().get(1).getLastSequence());
+  }
+
+  /**
+   * This is the Unit test to verify relay does not move the watermark
+   * when there is nothing to relay.
+   */
+  @Test
+  public void testRelayWithoutEvents() {
+    Mockito.when(todoOutboxWatermarkRepository.findById("test")).thenReturn(Optional.empty());
+    Mockito.when(todoOutboxService.getEventsAfter(0, 2)).thenReturn(Collections.emptyList());
+
+    Assertions.assertEquals(0, todoOutboxRelay.relay());
+    Assertions.assertEquals(0, todoOutboxSink.size());
+    Mockito.verify(todoOutboxWatermarkRepository, Mockito.never()).save(Mockito.any());
+  }
+
+  /**
+   * This is the Unit test to verify a full in-memory sink drops the oldest events
+   * instead of blocking the relay.
+   */
+  @Test
+  public void testRelayToFullSinkDropsOldestEvents() {
+    todoOutboxSink = new InMemoryTodoOutboxSink(new SimpleMeterRegistry(), 2);
+    todoOutboxRelay = new TodoOutboxRelay(todoOutboxService, todoOutboxWatermarkRepository, todoOutboxSink,
+        "test", 3, 1000, 1000);
+    Mockito.when(todoOutboxWatermarkRepository.findById("test")).thenReturn(Optional.empty());
+    Mockito.when(todoOutboxService.getEventsAfter(0, 3)).thenReturn(Arrays.asList(newEvent(1), newEvent(2),
+        newEvent(3)));
+
+    Assertions.assertEquals(3, todoOutboxRelay.relay());
+
+    List<TodoOutboxEventDto> published = new ArrayList<>();
+    todoOutboxSink.drainTo(published, 10);
+    Assertions.assertEquals(2, published.size());
+    Assertions.assertEquals(2, published.get(0).getSequence());
+    Assertions.assertEquals(3, published.get(1).getSequence());
+  }
+
+  private TodoOutboxEventDto newEvent(long sequence) {
+    return new TodoOutboxEventDto(sequence, 1, TodoEventType.UPDATED, "{}", LocalDateTime.now());
+  }
+}
@@ -0,0 +1,79 @@
+package com.suyogmirgal.todomvc.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suyogmirgal.todomvc.repository.TodoOutboxRepository;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * This is unit test class for {@link TodoOutboxService}
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@ExtendWith(MockitoExtension.class)
+public class TodoOutboxServiceTest {
+
+  @Mock
+  private TodoOutboxRepository todoOutboxRepository;
+
+  private TodoOutboxService todoOutboxService;
+
+  @BeforeEach
+  void init() {
+    todoOutboxService = new TodoOutboxService(todoOutboxRepository, new ObjectMapper(), 10000, 3);
+  }
+
+  /**
+   * This is the Unit test to verify stable sequence stops at the first gap
+   * within the grace period, where a lower sequence may still be committed.
+   */
+  @Test
+  public void testStableSequenceStopsAtGap() {
+    Mockito.when(todoOutboxRepository.findMaxIdByCreatedDateLessThanEqual(Mockito.any(LocalDateTime.class)))
+        .thenReturn(5L);
+    Mockito.when(todoOutboxRepository.findIdsAfter(5, PageRequest.of(0, 3))).thenReturn(Arrays.asList(6L, 7L, 9L));
+
+    Assertions.assertEquals(7, todoOutboxService.getStableSequence(3));
+  }
+
+  /**
+   * This is the Unit test to verify stable sequence scan is bounded
+   * and stops at the last scanned sequence.
+   */
+  @Test
+  public void testStableSequenceScanIsBounded() {
+    Mockito.when(todoOutboxRepository.findMaxIdByCreatedDateLessThanEqual(Mockito.any(LocalDateTime.class)))
+        .thenReturn(5L);
+    Mockito.when(todoOutboxRepository.findIdsAfter(5, PageRequest.of(0, 3))).thenReturn(Arrays.asList(6L, 7L, 8L));
+    Mockito.when(todoOutboxRepository.findIdsAfter(8, PageRequest.of(0, 3))).thenReturn(Arrays.asList(9L));
+
+    Assertions.assertEquals(8, todoOutboxService.getStableSequence(3));
+    Assertions.assertEquals(9, todoOutboxService.getStableSequence(8));
+  }
+
+  /**
+   * This is the Unit test to verify stable sequence starts from the provided
+   * sequence when it is ahead of the events older than the grace period.
+   */
+  @Test
+  public void testStableSequenceFromProvidedSequence() {
+    Mockito.when(todoOutboxRepository.findMaxIdByCreatedDateLessThanEqual(Mockito.any(LocalDateTime.class)))
+        .thenReturn(null);
+    Mockito.when(todoOutboxRepository.findIdsAfter(8, PageRequest.of(0, 3))).thenReturn(Collections.emptyList());
+
+    Assertions.assertEquals(8, todoOutboxService.getStableSequence(8));
+    Assertions.assertTrue(todoOutboxService.getEventsAfter(8, 10).isEmpty());
+    Mockito.verify(todoOutboxRepository, Mockito.never())
+        .findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(Mockito.anyLong(), Mockito.anyLong(), Mockito.any());
+  }
+}
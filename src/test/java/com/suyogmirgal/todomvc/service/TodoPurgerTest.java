@@ -0,0 +1,48 @@
+package com.suyogmirgal.todomvc.service;
+
+import com.suyogmirgal.todomvc.repository.TodoRepository;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * This is unit test class for {@link TodoPurger}
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@ExtendWith(MockitoExtension.class)
+public class TodoPurgerTest {
+
+  @Mock
+  private TodoRepository todoRepository;
+
+  /**
+   * This is the Unit test to verify purge stops once a batch is not full.
+   */
+  @Test
+  public void testPurgeUntilBatchIsNotFull() {
+    Mockito.when(todoRepository.purgeSoftDeleted(Mockito.any(LocalDateTime.class), Mockito.eq(2)))
+        .thenReturn(2, 2, 1);
+
+    Assertions.assertEquals(5, new TodoPurger(todoRepository, 60, 2, 10).purge());
+
+    Mockito.verify(todoRepository, Mockito.times(3)).purgeSoftDeleted(Mockito.any(LocalDateTime.class), Mockito.eq(2));
+  }
+
+  /**
+   * This is the Unit test to verify purge does not run more than max batches.
+   */
+  @Test
+  public void testPurgeIsBoundedByMaxBatches() {
+    Mockito.when(todoRepository.purgeSoftDeleted(Mockito.any(LocalDateTime.class), Mockito.eq(2))).thenReturn(2);
+
+    Assertions.assertEquals(6, new TodoPurger(todoRepository, 60, 2, 3).purge());
+
+    Mockito.verify(todoRepository, Mockito.times(3)).purgeSoftDeleted(Mockito.any(LocalDateTime.class), Mockito.eq(2));
+  }
+}
@@ -0,0 +1,185 @@
+package com.suyogmirgal.todomvc.service;
+
+import com.suyogmirgal.todomvc.datasource.TodoReadYourWritesContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+/**
+ * This is unit test class for {@link TodoReadCoalescer}
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoReadCoalescerTest {
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private PlatformTransactionManager transactionManager;
+
+  private TodoReadCoalescer todoReadCoalescer;
+
+  private ExecutorService executorService;
+
+  @BeforeEach
+  void init() {
+    meterRegistry = new SimpleMeterRegistry();
+    transactionManager = Mockito.mock(PlatformTransactionManager.class);
+    todoReadCoalescer = new TodoReadCoalescer(meterRegistry, transactionManager, Optional.empty(), true);
+    executorService = Executors.newFixedThreadPool(8);
+  }
+
+  @AfterEach
+  void destroy() {
+    executorService.shutdownNow();
+  }
+
+  /**
+   * This is the Unit test to verify concurrent identical reads run the read once and share its result,
+   * and only the read which runs opens a read-only transaction.
+   *
+   * @throws Exception exception thrown if occurred while executing test.
+   */
+  @Test
+  public void testConcurrentIdenticalReadsAreCoalesced() throws Exception {
+    CountDownLatch readStarted = new CountDownLatch(1);
+    CountDownLatch releaseRead = new CountDownLatch(1);
+    AtomicInteger reads = new AtomicInteger();
+
+    Future<String> leader = executorService.submit(() -> todoReadCoalescer.execute("getAllTodos", "", () -> {
+      reads.incrementAndGet();
+      readStarted.countDown();
+      await(releaseRead);
+      return "todos";
+    }));
+    Assertions.assertTrue(readStarted.await(5, TimeUnit.SECONDS));
+
+    List<Future<String>> followers = new ArrayList<>();
+    for(int i = 0; i < 7; i++) {
+      followers.add(executorService.submit(() -> todoReadCoalescer.execute("getAllTodos", "", () -> {
+        reads.incrementAndGet();
+        return "other todos";
+      })));
+    }
+    while(meterRegistry.counter("todo.coalescing.requests", "operation", "getAllTodos", "result", "coalesced")
+        .count() < 7) {
+      Thread.sleep(1);
+    }
+    releaseRead.countDown();
+
+    Assertions.assertEquals("todos", leader.get(5, TimeUnit.SECONDS));
+    for(Future<String> follower : followers) {
+      Assertions.assertEquals("todos", follower.get(5, TimeUnit.SECONDS));
+    }
+    Assertions.assertEquals(1, reads.get());
+    Assertions.assertEquals(1, meterRegistry.counter("todo.coalescing.requests", "operation", "getAllTodos",
+        "result", "executed").count());
+    Assertions.assertEquals(0, meterRegistry.get("todo.coalescing.inflight").gauge().value());
+    Mockito.verify(transactionManager).getTransaction(
+        Mockito.argThat(TransactionDefinition::isReadOnly));
+  }
+
+  /**
+   * This is the Unit test to verify reads of different keys and sequential reads are not coalesced.
+   */
+  @Test
+  public void testDifferentKeysAndSequentialReadsAreNotCoalesced() {
+    Assertions.assertEquals(Integer.valueOf(1), todoReadCoalescer.execute("getTodoById", 1, () -> 1));
+    Assertions.assertEquals(Integer.valueOf(2), todoReadCoalescer.execute("getTodoById", 2, () -> 2));
+    Assertions.assertEquals(Integer.valueOf(3), todoReadCoalescer.execute("getTodoById", 1, () -> 3));
+
+    Assertions.assertEquals(3, meterRegistry.counter("todo.coalescing.requests", "operation", "getTodoById",
+        "result", "executed").count());
+  }
+
+  /**
+   * This is the Unit test to verify failure of the read is thrown to every coalesced caller.
+   *
+   * @throws Exception exception thrown if occurred while executing test.
+   */
+  @Test
+  public void testFailureIsSharedWithCoalescedReads() throws Exception {
+    CountDownLatch readStarted = new CountDownLatch(1);
+    CountDownLatch releaseRead = new CountDownLatch(1);
+
+    Future<String> leader = executorService.submit(() -> todoReadCoalescer.<String>execute("getAllTodos", "", () -> {
+      readStarted.countDown();
+      await(releaseRead);
+      throw new IllegalStateException("database is down");
+    }));
+    Assertions.assertTrue(readStarted.await(5, TimeUnit.SECONDS));
+    Future<String> follower = executorService.submit(() -> todoReadCoalescer.execute("getAllTodos", "",
+        () -> "todos"));
+    while(meterRegistry.counter("todo.coalescing.requests", "operation", "getAllTodos", "result", "coalesced")
+        .count() < 1) {
+      Thread.sleep(1);
+    }
+    releaseRead.countDown();
+
+    Exception leaderException = Assertions.assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+    Exception followerException = Assertions.assertThrows(Exception.class,
+        () -> follower.get(5, TimeUnit.SECONDS));
+    Assertions.assertInstanceOf(IllegalStateException.class, leaderException.getCause());
+    Assertions.assertInstanceOf(IllegalStateException.class, followerException.getCause());
+    Assertions.assertEquals("todos", todoReadCoalescer.execute("getAllTodos", "", () -> "todos"));
+  }
+
+  /**
+   * This is the Unit test to verify a read of a client which has to read from the primary
+   * does not join an identical read in flight on the replica.
+   *
+   * @throws Exception exception thrown if occurred while executing test.
+   */
+  @Test
+  public void testReadFromPrimaryIsNotCoalescedWithReadFromReplica() throws Exception {
+    TodoReadYourWritesContext todoReadYourWritesContext = new TodoReadYourWritesContext(60000);
+    todoReadYourWritesContext.recordWrite("client-1");
+    todoReadCoalescer = new TodoReadCoalescer(meterRegistry, transactionManager,
+        Optional.of(todoReadYourWritesContext), true);
+    CountDownLatch readStarted = new CountDownLatch(1);
+    CountDownLatch releaseRead = new CountDownLatch(1);
+
+    Future<String> replicaRead = executorService.submit(() -> todoReadCoalescer.execute("getAllTodos", "", () -> {
+      readStarted.countDown();
+      await(releaseRead);
+      return "replica todos";
+    }));
+    Assertions.assertTrue(readStarted.await(5, TimeUnit.SECONDS));
+    Future<String> primaryRead = executorService.submit(() -> {
+      todoReadYourWritesContext.bind("client-1");
+      try {
+        return todoReadCoalescer.execute("getAllTodos", "", () -> "primary todos");
+      } finally {
+        todoReadYourWritesContext.clear();
+      }
+    });
+
+    Assertions.assertEquals("primary todos", primaryRead.get(5, TimeUnit.SECONDS));
+    releaseRead.countDown();
+    Assertions.assertEquals("replica todos", replicaRead.get(5, TimeUnit.SECONDS));
+    Assertions.assertEquals(2, meterRegistry.counter("todo.coalescing.requests", "operation", "getAllTodos",
+        "result", "executed").count());
+  }
+
+  private void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package com.suyogmirgal.todomvc.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * This is unit test class for {@link TodoRowLocks}
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoRowLocksTest {
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private TodoRowLocks todoRowLocks;
+
+  private ExecutorService executorService;
+
+  @BeforeEach
+  void init() {
+    meterRegistry = new SimpleMeterRegistry();
+    todoRowLocks = new TodoRowLocks(meterRegistry, true, false, 1000, 4);
+    executorService = Executors.newFixedThreadPool(2);
+  }
+
+  @AfterEach
+  void destroy() {
+    executorService.shutdownNow();
+  }
+
+  /**
+   * This is the Unit test to verify a write of a locked todo waits for the lock and the wait is
+   * published for the stripe of the todo.
+   *
+   * @throws Exception exception thrown if occurred while executing test.
+   */
+  @Test
+  public void testSameTodoWaitsForLock() throws Exception {
+    todoRowLocks.lock(5);
+    CountDownLatch waiting = new CountDownLatch(1);
+    Future<?> writer = executorService.submit(() -> {
+      waiting.countDown();
+      todoRowLocks.lock(5);
+      todoRowLocks.unlock(5);
+    });
+    Assertions.assertTrue(waiting.await(5, TimeUnit.SECONDS));
+    Thread.sleep(50);
+    Assertions.assertFalse(writer.isDone());
+
+    todoRowLocks.unlock(5);
+    writer.get(5, TimeUnit.SECONDS);
+
+    Assertions.assertEquals(1, meterRegistry.get("todo.locks.contended").tag("stripe", "1").counter().count());
+    Assertions.assertEquals(1, meterRegistry.get("todo.locks.wait").tag("stripe", "1").timer().count());
+    Assertions.assertEquals(0, meterRegistry.get("todo.locks.active").gauge().value());
+  }
+
+  /**
+   * This is the Unit test to verify todos in the same stripe do not wait for each other.
+   *
+   * @throws Exception exception thrown if occurred while executing test.
+   */
+  @Test
+  public void testDifferentTodosDoNotContend() throws Exception {
+    todoRowLocks.lock(1);
+    executorService.submit(() -> {
+      todoRowLocks.lock(5);
+      todoRowLocks.unlock(5);
+    }).get(5, TimeUnit.SECONDS);
+    todoRowLocks.unlock(1);
+
+    Assertions.assertEquals(0, meterRegistry.get("todo.locks.contended").tag("stripe", "1").counter().count());
+  }
+
+  /**
+   * This is the Unit test to verify a lock taken in a transaction is held until it completes.
+   *
+   * @throws Exception exception thrown if occurred while executing test.
+   */
+  @Test
+  public void testLockIsReleasedAfterTransactionCompletes() throws Exception {
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      todoRowLocks.lock(3);
+      Assertions.assertThrows(CannotAcquireLockException.class,
+          () -> executeOther(() -> todoRowLocks.lock(3)));
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+    executeOther(() -> {
+      todoRowLocks.lock(3);
+      todoRowLocks.unlock(3);
+    });
+    Assertions.assertEquals(0, meterRegistry.get("todo.locks.active").gauge().value());
+  }
+
+  private void executeOther(Runnable runnable) throws Exception {
+    try {
+      executorService.submit(runnable).get(5, TimeUnit.SECONDS);
+    } catch (ExecutionException ex) {
+      if(ex.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw ex;
+    }
+  }
+}
@@ -0,0 +1,163 @@
+package com.suyogmirgal.todomvc.service;
+
+import com.suyogmirgal.todomvc.entity.TodoEntity;
+import com.suyogmirgal.todomvc.repository.TodoRepository;
+import java.util.Arrays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * This is unit test class for {@link TodoSearchIndex}
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@ExtendWith(MockitoExtension.class)
+public class TodoSearchIndexTest {
+
+  @Mock
+  private TodoRepository todoRepository;
+
+  private TodoSearchIndex todoSearchIndex;
+
+  @BeforeEach
+  void init() {
+    todoSearchIndex = new TodoSearchIndex(todoRepository, 100);
+    todoSearchIndex.index(newTodoEntity(1, "Eat healthy breakfast", false));
+    todoSearchIndex.index(newTodoEntity(2, "Buy Bread, eggs & butter", true));
+    todoSearchIndex.index(newTodoEntity(3, "Breakfast", false));
+  }
+
+  /**
+   * This is the Unit test to verify whole term matches rank above prefix matches
+   * and shorter titles rank above longer ones.
+   */
+  @Test
+  public void testRanking() {
+    TodoSearchIndex.SearchResult searchResult = todoSearchIndex.search("BREAKFAST", 0, 10);
+
+    Assertions.assertEquals(2, searchResult.getTotal());
+    Assertions.assertEquals(Arrays.asList(3, 1), searchResult.getTodoIds());
+
+    searchResult = todoSearchIndex.search("bre", 0, 10);
+
+    Assertions.assertEquals(3, searchResult.getTotal());
+    Assertions.assertEquals(Arrays.asList(3, 1, 2), searchResult.getTodoIds());
+  }
+
+  /**
+   * This is the Unit test to verify writes within a transaction change the index only once it commits.
+   */
+  @Test
+  public void testWritesAreIndexedAfterCommit() {
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      todoSearchIndex.index(newTodoEntity(4, "Cook lunch", false));
+      todoSearchIndex.remove(3);
+
+      Assertions.assertEquals(0, todoSearchIndex.search("lunch", 0, 10).getTotal());
+      Assertions.assertEquals(2, todoSearchIndex.search("breakfast", 0, 10).getTotal());
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+    Assertions.assertEquals(0, todoSearchIndex.search("lunch", 0, 10).getTotal());
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      todoSearchIndex.index(newTodoEntity(4, "Cook lunch", false));
+      todoSearchIndex.remove(3);
+      TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+    Assertions.assertEquals(Arrays.asList(4), todoSearchIndex.search("lunch", 0, 10).getTodoIds());
+    Assertions.assertEquals(Arrays.asList(1), todoSearchIndex.search("breakfast", 0, 10).getTodoIds());
+  }
+
+  /**
+   * This is the Unit test to verify every query term has to match.
+   */
+  @Test
+  public void testAllTermsHaveToMatch() {
+    Assertions.assertEquals(Arrays.asList(2), todoSearchIndex.search("egg butt", 0, 10).getTodoIds());
+    Assertions.assertEquals(0, todoSearchIndex.search("eggs lunch", 0, 10).getTotal());
+    Assertions.assertEquals(0, todoSearchIndex.search(" ,& ", 0, 10).getTotal());
+  }
+
+  /**
+   * This is the Unit test to verify paging of ranked results.
+   */
+  @Test
+  public void testPaging() {
+    TodoSearchIndex.SearchResult searchResult = todoSearchIndex.search("bre", 1, 1);
+
+    Assertions.assertEquals(3, searchResult.getTotal());
+    Assertions.assertEquals(Arrays.asList(1), searchResult.getTodoIds());
+    Assertions.assertTrue(todoSearchIndex.search("bre", 5, 1).getTodoIds().isEmpty());
+  }
+
+  /**
+   * This is the Unit test to verify index follows updates and deletes.
+   */
+  @Test
+  public void testUpdateAndRemove() {
+    todoSearchIndex.index(newTodoEntity(3, "Cook lunch", false));
+
+    Assertions.assertEquals(Arrays.asList(1), todoSearchIndex.search("breakfast", 0, 10).getTodoIds());
+    Assertions.assertEquals(Arrays.asList(3), todoSearchIndex.search("lunch", 0, 10).getTodoIds());
+
+    todoSearchIndex.removeCompleted();
+
+    Assertions.assertEquals(0, todoSearchIndex.search("bread", 0, 10).getTotal());
+
+    todoSearchIndex.remove(1);
+
+    Assertions.assertEquals(0, todoSearchIndex.search("breakfast", 0, 10).getTotal());
+    Assertions.assertEquals(1, todoSearchIndex.size());
+  }
+
+  /**
+   * This is the Unit test to verify rebuild does not overwrite writes committed while it reads a page.
+   */
+  @Test
+  public void testRebuildSkipsTodosWrittenDuringRebuild() {
+    TodoSearchIndex rebuiltIndex = new TodoSearchIndex(todoRepository, 100);
+    Mockito.when(todoRepository.findReadOnlyBy(Mockito.any(Pageable.class))).thenAnswer(invocation -> {
+      //writes committed after the page was read
+      rebuiltIndex.index(newTodoEntity(4, "Cook lunch", false));
+      rebuiltIndex.remove(5);
+      rebuiltIndex.removeCompleted();
+      return new PageImpl<>(Arrays.asList(newTodoEntity(4, "Cook dinner", false), newTodoEntity(5, "Walk dog", false),
+          newTodoEntity(6, "Pay bills", true), newTodoEntity(7, "Read book", false)), invocation.getArgument(0), 4);
+    });
+
+    rebuiltIndex.rebuild();
+
+    Assertions.assertEquals(Arrays.asList(4), rebuiltIndex.search("lunch", 0, 10).getTodoIds());
+    Assertions.assertEquals(0, rebuiltIndex.search("dinner", 0, 10).getTotal());
+    Assertions.assertEquals(0, rebuiltIndex.search("dog", 0, 10).getTotal());
+    Assertions.assertEquals(0, rebuiltIndex.search("bills", 0, 10).getTotal());
+    Assertions.assertEquals(Arrays.asList(7), rebuiltIndex.search("book", 0, 10).getTodoIds());
+
+    rebuiltIndex.index(newTodoEntity(4, "Cook dinner", false));
+
+    Assertions.assertEquals(Arrays.asList(4), rebuiltIndex.search("dinner", 0, 10).getTodoIds());
+  }
+
+  private TodoEntity newTodoEntity(int id, String title, boolean isCompleted) {
+    TodoEntity todoEntity = new TodoEntity();
+    todoEntity.setId(id);
+    todoEntity.setTitle(title);
+    todoEntity.setCompleted(isCompleted);
+    return todoEntity;
+  }
+}
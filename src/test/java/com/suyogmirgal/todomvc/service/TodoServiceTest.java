@@ -1,8 +1,14 @@
 package com.suyogmirgal.todomvc.service;
 
+import com.suyogmirgal.todomvc.cache.InMemoryTodoInvalidationBus;
+import com.suyogmirgal.todomvc.cache.TodoCache;
 import com.suyogmirgal.todomvc.entity.TodoEntity;
+import com.suyogmirgal.todomvc.model.TodoChangesDto;
 import com.suyogmirgal.todomvc.model.TodoDto;
+import com.suyogmirgal.todomvc.model.TodoEventType;
+import com.suyogmirgal.todomvc.model.TodoSearchResultDto;
 import com.suyogmirgal.todomvc.repository.TodoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
@@ -16,6 +22,10 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * This is unit test class for {@link TodoService}
@@ -31,11 +41,32 @@ public class TodoServiceTest {
   @Mock
   private TodoRepository todoRepository;
 
+  @Mock
+  private TodoOutboxService todoOutboxService;
+
+  private TodoSearchIndex todoSearchIndex;
+
+  private TodoStatsService todoStatsService;
+
+  private TodoReadCoalescer todoReadCoalescer;
+
+  private TodoCache todoCache;
+
+  private TodoRowLocks todoRowLocks;
+
   private TodoService todoService;
 
   @BeforeEach
   void init() {
-    todoService = new TodoService(todoRepository);
+    todoSearchIndex = new TodoSearchIndex(todoRepository, 100);
+    todoStatsService = new TodoStatsService(todoRepository, 3);
+    todoReadCoalescer = new TodoReadCoalescer(new SimpleMeterRegistry(), Mockito.mock(PlatformTransactionManager.class),
+        Optional.empty(), true);
+    todoCache = new TodoCache(new InMemoryTodoInvalidationBus(), new SimpleMeterRegistry(), false, 60000, 10000, 100);
+    todoRowLocks = new TodoRowLocks(new SimpleMeterRegistry(), false, false, 5000, 16);
+    todoService = new TodoService(todoRepository, todoOutboxService, false, Optional.empty(), todoSearchIndex,
+        todoStatsService, todoReadCoalescer, todoCache,
+        todoRowLocks);
   }
 
   /**
@@ -91,9 +122,94 @@ public class TodoServiceTest {
     Assertions.assertTrue(todoEntityArgumentCaptor.getValue().getUpdatedDate().isEqual(now) ||
         todoEntityArgumentCaptor.getValue().getUpdatedDate().isBefore(now));
 
+    Mockito.verify(todoOutboxService).record(TodoEventType.CREATED, todoEntity);
+    Assertions.assertEquals(1, todoSearchIndex.search("gym", 0, 10).getTotal());
+    Assertions.assertEquals(1, todoService.getTodoStats().getTotal());
+    Assertions.assertEquals(1, todoService.getTodoStats().getActive());
   }
 
 
+  /**
+   * This is the Unit test to verify batch todo create.
+   */
+  @Test
+  public void testCreateTodos() {
+    Mockito.when(todoRepository.saveAll(Mockito.anyList())).thenAnswer(invocation -> {
+      List<TodoEntity> todoEntityList = invocation.getArgument(0);
+      for(int i = 0; i < todoEntityList.size(); i++) {
+        todoEntityList.get(i).setId(i + 1);
+      }
+      return todoEntityList;
+    });
+
+    List<TodoDto> todoDtoList = todoService.createTodos(Arrays.asList(
+        new TodoDto(0, "Go to Gym", 1, false, null, null), new TodoDto(0, "Eat breakfast", 2, true, null, null)));
+
+    Assertions.assertEquals(2, todoDtoList.size());
+    Assertions.assertEquals(1, todoDtoList.get(0).getId());
+    Assertions.assertEquals("Eat breakfast", todoDtoList.get(1).getTitle());
+    Assertions.assertTrue(todoDtoList.get(1).isCompleted());
+    Assertions.assertNotNull(todoDtoList.get(1).getCreatedDate());
+
+    Mockito.verify(todoOutboxService, Mockito.times(2)).record(Mockito.eq(TodoEventType.CREATED),
+        Mockito.any(TodoEntity.class));
+    Mockito.verify(todoRepository, Mockito.never()).save(Mockito.any(TodoEntity.class));
+    Assertions.assertEquals(1, todoSearchIndex.search("breakfast", 0, 10).getTotal());
+    Assertions.assertEquals(2, todoService.getTodoStats().getTotal());
+    Assertions.assertEquals(1, todoService.getTodoStats().getCompleted());
+  }
+
+  /**
+   * This is the Unit test to verify todo create goes through write behind buffer when enabled.
+   */
+  @Test
+  public void testCreateTodoWithWriteBehind() {
+    TodoWriteBehindBuffer todoWriteBehindBuffer = Mockito.mock(TodoWriteBehindBuffer.class);
+    TodoService writeBehindTodoService = new TodoService(todoRepository, todoOutboxService, false,
+        Optional.of(todoWriteBehindBuffer), todoSearchIndex, todoStatsService, todoReadCoalescer, todoCache,
+        todoRowLocks);
+
+    Mockito.when(todoWriteBehindBuffer.enqueue(Mockito.any(TodoEntity.class))).thenAnswer(invocation -> {
+      TodoEntity todoEntity = invocation.getArgument(0);
+      todoEntity.setId(51);
+      return todoEntity;
+    });
+
+    TodoDto createTodoDtoResult = writeBehindTodoService.createTodo(
+        new TodoDto(0, "Go to Gym", 1, false, null, null));
+
+    Assertions.assertEquals(51, createTodoDtoResult.getId());
+    Assertions.assertEquals("Go to Gym", createTodoDtoResult.getTitle());
+    Assertions.assertNotNull(createTodoDtoResult.getCreatedDate());
+    Mockito.verifyNoInteractions(todoRepository);
+    Mockito.verifyNoInteractions(todoOutboxService);
+  }
+
+  /**
+   * This is the Unit test to verify todo create can bypass the write behind buffer,
+   * so the todo is inserted in the current transaction.
+   */
+  @Test
+  public void testCreateTodoBypassingWriteBehind() {
+    TodoWriteBehindBuffer todoWriteBehindBuffer = Mockito.mock(TodoWriteBehindBuffer.class);
+    TodoService writeBehindTodoService = new TodoService(todoRepository, todoOutboxService, false,
+        Optional.of(todoWriteBehindBuffer), todoSearchIndex, todoStatsService, todoReadCoalescer, todoCache,
+        todoRowLocks);
+
+    Mockito.when(todoRepository.save(Mockito.any(TodoEntity.class))).thenAnswer(invocation -> {
+      TodoEntity todoEntity = invocation.getArgument(0);
+      todoEntity.setId(52);
+      return todoEntity;
+    });
+
+    TodoDto createTodoDtoResult = writeBehindTodoService.createTodo(
+        new TodoDto(0, "Go to Gym", 1, false, null, null), false);
+
+    Assertions.assertEquals(52, createTodoDtoResult.getId());
+    Mockito.verify(todoOutboxService).record(Mockito.eq(TodoEventType.CREATED), Mockito.any(TodoEntity.class));
+    Mockito.verifyNoInteractions(todoWriteBehindBuffer);
+  }
+
   /**
    * This is the Unit test to verify successful get todo by todoId.
    */
@@ -134,6 +250,33 @@ public class TodoServiceTest {
     Assertions.assertFalse(todoService.getTodoById(1).isPresent());
   }
 
+  /**
+   * This is the Unit test to verify cached todo is served until it is updated.
+   */
+  @Test
+  public void testCachedGetTodoByTodIdIsInvalidatedByUpdate() {
+    TodoCache enabledTodoCache = new TodoCache(new InMemoryTodoInvalidationBus(), new SimpleMeterRegistry(), true,
+        60000, 10000, 100);
+    TodoService cachingTodoService = new TodoService(todoRepository, todoOutboxService, false, Optional.empty(),
+        todoSearchIndex, todoStatsService, todoReadCoalescer, enabledTodoCache,
+        todoRowLocks);
+
+    TodoEntity todoEntity = new TodoEntity();
+    todoEntity.setId(1);
+    todoEntity.setOrder(1);
+    todoEntity.setTitle("Go to Gym");
+    Mockito.when(todoRepository.findById(1)).thenReturn(Optional.of(todoEntity));
+    Mockito.when(todoRepository.save(Mockito.any(TodoEntity.class))).thenReturn(todoEntity);
+
+    Assertions.assertEquals("Go to Gym", cachingTodoService.getTodoById(1).get().getTitle());
+    Assertions.assertEquals("Go to Gym", cachingTodoService.getTodoById(1).get().getTitle());
+    Mockito.verify(todoRepository, Mockito.times(1)).findById(1);
+
+    cachingTodoService.updateTodoById(1, new TodoDto(0, "Go to Gym at 6", null, false, null, null));
+    Assertions.assertEquals("Go to Gym at 6", cachingTodoService.getTodoById(1).get().getTitle());
+    Mockito.verify(todoRepository, Mockito.times(3)).findById(1);
+  }
+
   /**
    * This is the Unit test to verify get all todos.
    */
@@ -157,7 +300,8 @@ public class TodoServiceTest {
     todoEntity2.setCreatedDate(dateTime);
     todoEntity2.setUpdatedDate(dateTime);
 
-    Mockito.when(todoRepository.findAllByOrderByOrderAsc()).thenReturn(Arrays.asList(todoEntity1, todoEntity2));
+    Mockito.when(todoRepository.findAllDtosByOrderByOrderAsc())
+        .thenReturn(Arrays.asList(TodoMapper.toDto(todoEntity1), TodoMapper.toDto(todoEntity2)));
 
     List<TodoDto> todoDtoList = todoService.getAllTodos();
 
@@ -193,7 +337,8 @@ public class TodoServiceTest {
     todoEntity1.setCreatedDate(dateTime);
     todoEntity1.setUpdatedDate(dateTime);
 
-    Mockito.when(todoRepository.findByIsCompletedOrderByOrderAsc(false)).thenReturn(Arrays.asList(todoEntity1));
+    Mockito.when(todoRepository.findDtosByIsCompletedOrderByOrderAsc(false))
+        .thenReturn(Arrays.asList(TodoMapper.toDto(todoEntity1)));
 
     List<TodoDto> todoDtoList = todoService.getAllActiveTodos();
 
@@ -207,6 +352,106 @@ public class TodoServiceTest {
     Assertions.assertEquals(dateTime, todoDtoList.get(0).getUpdatedDate());
   }
 
+  /**
+   * This is the Unit test to verify todos changed since a change token
+   * are returned as changed and missing ones as deleted.
+   */
+  @Test
+  public void testGetTodoChangesSince() {
+    LocalDateTime dateTime = format(LocalDateTime.now());
+
+    TodoEntity todoEntity1 = new TodoEntity();
+    todoEntity1.setId(1);
+    todoEntity1.setOrder(2);
+    todoEntity1.setCompleted(true);
+    todoEntity1.setTitle("Go to Gym");
+    todoEntity1.setCreatedDate(dateTime);
+    todoEntity1.setUpdatedDate(dateTime);
+
+    TodoEntity todoEntity3 = new TodoEntity();
+    todoEntity3.setId(3);
+    todoEntity3.setOrder(1);
+    todoEntity3.setCompleted(false);
+    todoEntity3.setTitle("Eat breakfast");
+    todoEntity3.setCreatedDate(dateTime);
+    todoEntity3.setUpdatedDate(dateTime);
+
+    Mockito.when(todoOutboxService.getStableSequence(5)).thenReturn(12L);
+    Mockito.when(todoOutboxService.getChangedTodoIds(5, 12)).thenReturn(Arrays.asList(1, 2, 3));
+    Mockito.when(todoRepository.findDtosByIdIn(Arrays.asList(1, 2, 3)))
+        .thenReturn(Arrays.asList(TodoMapper.toDto(todoEntity1), TodoMapper.toDto(todoEntity3)));
+
+    TodoChangesDto todoChangesDto = todoService.getTodoChangesSince(5);
+
+    Assertions.assertEquals(12, todoChangesDto.getNextToken());
+    Assertions.assertEquals(2, todoChangesDto.getChanged().size());
+    Assertions.assertEquals(3, todoChangesDto.getChanged().get(0).getId());
+    Assertions.assertEquals("Eat breakfast", todoChangesDto.getChanged().get(0).getTitle());
+    Assertions.assertEquals(1, todoChangesDto.getChanged().get(1).getId());
+    Assertions.assertTrue(todoChangesDto.getChanged().get(1).isCompleted());
+    Assertions.assertEquals(Arrays.asList(2), todoChangesDto.getDeleted());
+  }
+
+  /**
+   * This is the Unit test to verify nothing is returned when
+   * there is no change after the change token.
+   */
+  @Test
+  public void testGetTodoChangesSinceWithoutChange() {
+    Mockito.when(todoOutboxService.getStableSequence(12)).thenReturn(12L);
+
+    TodoChangesDto todoChangesDto = todoService.getTodoChangesSince(12);
+
+    Assertions.assertEquals(12, todoChangesDto.getNextToken());
+    Assertions.assertTrue(todoChangesDto.getChanged().isEmpty());
+    Assertions.assertTrue(todoChangesDto.getDeleted().isEmpty());
+    Mockito.verifyNoInteractions(todoRepository);
+  }
+
+  /**
+   * This is the Unit test to verify search returns todos in ranking order
+   * and skips todos which no longer exist.
+   */
+  @Test
+  public void testSearchTodos() {
+    LocalDateTime dateTime = format(LocalDateTime.now());
+
+    TodoEntity todoEntity1 = new TodoEntity();
+    todoEntity1.setId(1);
+    todoEntity1.setOrder(1);
+    todoEntity1.setTitle("Go to Gym in the evening");
+    todoEntity1.setCreatedDate(dateTime);
+    todoEntity1.setUpdatedDate(dateTime);
+
+    TodoEntity todoEntity2 = new TodoEntity();
+    todoEntity2.setId(2);
+    todoEntity2.setOrder(2);
+    todoEntity2.setTitle("Gym");
+    todoEntity2.setCreatedDate(dateTime);
+    todoEntity2.setUpdatedDate(dateTime);
+
+    TodoEntity todoEntity3 = new TodoEntity();
+    todoEntity3.setId(3);
+    todoEntity3.setOrder(3);
+    todoEntity3.setTitle("Gymnastics class");
+    todoEntity3.setCreatedDate(dateTime);
+    todoEntity3.setUpdatedDate(dateTime);
+
+    todoSearchIndex.index(todoEntity1);
+    todoSearchIndex.index(todoEntity2);
+    todoSearchIndex.index(todoEntity3);
+
+    Mockito.when(todoRepository.findDtosByIdIn(Arrays.asList(2, 1, 3)))
+        .thenReturn(Arrays.asList(TodoMapper.toDto(todoEntity1), TodoMapper.toDto(todoEntity2)));
+
+    TodoSearchResultDto todoSearchResultDto = todoService.searchTodos("gym", 0, 10);
+
+    Assertions.assertEquals(3, todoSearchResultDto.getTotal());
+    Assertions.assertEquals(2, todoSearchResultDto.getItems().size());
+    Assertions.assertEquals(2, todoSearchResultDto.getItems().get(0).getId());
+    Assertions.assertEquals(1, todoSearchResultDto.getItems().get(1).getId());
+  }
+
   /**
    * This is the Unit test to verify successful update todo by todoId.
    */
@@ -245,6 +490,38 @@ public class TodoServiceTest {
     Assertions.assertEquals(2, todoEntityArgumentCaptor.getValue().getOrder());
     Assertions.assertEquals("Go to Gym at 6", todoEntityArgumentCaptor.getValue().getTitle());
     Assertions.assertTrue(todoEntityArgumentCaptor.getValue().isCompleted());
+
+    Mockito.verify(todoOutboxService).record(TodoEventType.UPDATED, todoEntity);
+  }
+
+  /**
+   * This is the Unit test to verify update reads the todo with select for update when enabled.
+   */
+  @Test
+  public void testUpdateTodoByTodIdWithSelectForUpdate() {
+    TodoService lockingTodoService = new TodoService(todoRepository, todoOutboxService, false, Optional.empty(),
+        todoSearchIndex, todoStatsService, todoReadCoalescer, todoCache,
+        new TodoRowLocks(new SimpleMeterRegistry(), true, true, 5000, 16));
+
+    TodoEntity todoEntity = new TodoEntity();
+    todoEntity.setId(1);
+    todoEntity.setOrder(1);
+    todoEntity.setTitle("Go to Gym");
+    Mockito.when(todoRepository.findForUpdateById(1)).thenReturn(Optional.of(todoEntity));
+    Mockito.when(todoRepository.save(Mockito.any(TodoEntity.class))).thenReturn(todoEntity);
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      Assertions.assertTrue(lockingTodoService.updateTodoById(1, new TodoDto(0, "Go to Gym at 6", 1, false, null,
+          null)).isPresent());
+    } finally {
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    Mockito.verify(todoRepository).findForUpdateById(1);
+    Mockito.verify(todoRepository, Mockito.never()).findById(1);
   }
 
   /**
@@ -263,10 +540,13 @@ public class TodoServiceTest {
     todoEntity.setUpdatedDate(dateTime);
 
     Mockito.when(todoRepository.findById(1)).thenReturn(Optional.of(todoEntity));
+    todoSearchIndex.index(todoEntity);
 
     Assertions.assertTrue(todoService.deleteTodoById(1));
 
     Mockito.verify(todoRepository).delete(todoEntity);
+    Mockito.verify(todoOutboxService).record(TodoEventType.DELETED, todoEntity);
+    Assertions.assertEquals(0, todoSearchIndex.size());
   }
 
   /**
@@ -278,6 +558,8 @@ public class TodoServiceTest {
     Mockito.when(todoRepository.findById(1)).thenReturn(Optional.empty());
 
     Assertions.assertFalse(todoService.deleteTodoById(1));
+
+    Mockito.verifyNoInteractions(todoOutboxService);
   }
 
   /**
@@ -288,6 +570,75 @@ public class TodoServiceTest {
     Mockito.when(todoRepository.deleteByIsCompleted(true)).thenReturn(2L);
 
     Assertions.assertEquals(2L, todoService.deleteAllCompletedTodos());
+
+    Mockito.verify(todoOutboxService).recordDeletedByIsCompleted(true);
+  }
+
+  /**
+   * This is the Unit test to verify delete of a chunk of completed todo.
+   */
+  @Test
+  public void testDeleteCompletedTodosChunk() {
+    Mockito.when(todoRepository.findIdsByIsCompleted(true, PageRequest.of(0, 2))).thenReturn(Arrays.asList(4, 7));
+
+    Assertions.assertEquals(Arrays.asList(4, 7), todoService.deleteCompletedTodosChunk(2));
+
+    Mockito.verify(todoOutboxService).recordDeleted(Arrays.asList(4, 7));
+    Mockito.verify(todoRepository).deleteAllByIdInBatch(Arrays.asList(4, 7));
+  }
+
+  /**
+   * This is the Unit test to verify soft delete todo by todoId
+   * marks the todo as deleted with a single update.
+   */
+  @Test
+  public void testSoftDeleteTodoByTodId() {
+    TodoService softDeleteTodoService = new TodoService(todoRepository, todoOutboxService, true, Optional.empty(),
+        todoSearchIndex, todoStatsService, todoReadCoalescer, todoCache,
+        todoRowLocks);
+
+    Mockito.when(todoRepository.softDeleteById(Mockito.eq(1), Mockito.any(LocalDateTime.class))).thenReturn(1);
+
+    Assertions.assertTrue(softDeleteTodoService.deleteTodoById(1));
+
+    Mockito.verify(todoOutboxService).recordDeleted(1);
+    Mockito.verify(todoRepository, Mockito.never()).findById(Mockito.anyInt());
+    Mockito.verify(todoRepository, Mockito.never()).delete(Mockito.any(TodoEntity.class));
+  }
+
+  /**
+   * This is the Unit test to verify unsuccessful soft delete todo by todoId
+   * which does not exist.
+   */
+  @Test
+  public void testUnSuccessfulSoftDeleteTodoByTodId() {
+    TodoService softDeleteTodoService = new TodoService(todoRepository, todoOutboxService, true, Optional.empty(),
+        todoSearchIndex, todoStatsService, todoReadCoalescer, todoCache,
+        todoRowLocks);
+
+    Mockito.when(todoRepository.softDeleteById(Mockito.eq(1), Mockito.any(LocalDateTime.class))).thenReturn(0);
+
+    Assertions.assertFalse(softDeleteTodoService.deleteTodoById(1));
+
+    Mockito.verifyNoInteractions(todoOutboxService);
+  }
+
+  /**
+   * This is the Unit test to verify soft delete of all completed todo.
+   */
+  @Test
+  public void testSoftDeleteAllCompletedTodo() {
+    TodoService softDeleteTodoService = new TodoService(todoRepository, todoOutboxService, true, Optional.empty(),
+        todoSearchIndex, todoStatsService, todoReadCoalescer, todoCache,
+        todoRowLocks);
+
+    Mockito.when(todoRepository.softDeleteByIsCompleted(Mockito.eq(true), Mockito.any(LocalDateTime.class)))
+        .thenReturn(3);
+
+    Assertions.assertEquals(3L, softDeleteTodoService.deleteAllCompletedTodos());
+
+    Mockito.verify(todoOutboxService).recordDeletedByIsCompleted(true);
+    Mockito.verify(todoRepository, Mockito.never()).deleteByIsCompleted(Mockito.anyBoolean());
   }
 
   private LocalDateTime format(LocalDateTime localDateTime) {
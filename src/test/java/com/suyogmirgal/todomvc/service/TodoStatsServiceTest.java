@@ -0,0 +1,163 @@
+package com.suyogmirgal.todomvc.service;
+
+import com.suyogmirgal.todomvc.model.TodoStatsDto;
+import com.suyogmirgal.todomvc.repository.TodoCounts;
+import com.suyogmirgal.todomvc.repository.TodoRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * This is unit test class for {@link TodoStatsService}
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@ExtendWith(MockitoExtension.class)
+public class TodoStatsServiceTest {
+
+  @Mock
+  private TodoRepository todoRepository;
+
+  private TodoStatsService todoStatsService;
+
+  @BeforeEach
+  void init() {
+    todoStatsService = new TodoStatsService(todoRepository, 3);
+  }
+
+  /**
+   * This is the Unit test to verify counters are changed by recorded writes.
+   */
+  @Test
+  public void testRecordWrites() {
+    todoStatsService.recordCreated(false);
+    todoStatsService.recordCreated(false);
+    todoStatsService.recordCreated(true);
+    todoStatsService.recordCompleted();
+    todoStatsService.recordDeleted(1, 1);
+
+    TodoStatsDto todoStatsDto = todoStatsService.getStats();
+
+    Assertions.assertEquals(2, todoStatsDto.getTotal());
+    Assertions.assertEquals(1, todoStatsDto.getActive());
+    Assertions.assertEquals(1, todoStatsDto.getCompleted());
+    Mockito.verifyNoInteractions(todoRepository);
+  }
+
+  /**
+   * This is the Unit test to verify writes inside a transaction
+   * change counters only once the transaction commits.
+   */
+  @Test
+  public void testRecordWritesAfterCommit() {
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      todoStatsService.recordCreated(true);
+
+      Assertions.assertEquals(0, todoStatsService.getStats().getTotal());
+
+      TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    Assertions.assertEquals(1, todoStatsService.getStats().getTotal());
+    Assertions.assertEquals(1, todoStatsService.getStats().getCompleted());
+  }
+
+  /**
+   * This is the Unit test to verify counters are replaced by counts from the database.
+   */
+  @Test
+  public void testReconcile() {
+    todoStatsService.recordCreated(false);
+    Mockito.when(todoRepository.countTodos()).thenReturn(todoCounts(5, 2));
+
+    Assertions.assertTrue(todoStatsService.reconcile());
+
+    TodoStatsDto todoStatsDto = todoStatsService.getStats();
+    Assertions.assertEquals(5, todoStatsDto.getTotal());
+    Assertions.assertEquals(3, todoStatsDto.getActive());
+    Assertions.assertEquals(2, todoStatsDto.getCompleted());
+  }
+
+  /**
+   * This is the Unit test to verify database is counted again when
+   * counters are changed while the database is being counted.
+   */
+  @Test
+  public void testReconcileRetriedOnConcurrentWrite() {
+    Mockito.when(todoRepository.countTodos()).thenAnswer(invocation -> {
+      todoStatsService.recordCreated(false);
+      return todoCounts(5, 2);
+    }).thenReturn(todoCounts(6, 2));
+
+    Assertions.assertTrue(todoStatsService.reconcile());
+    Assertions.assertEquals(6, todoStatsService.getStats().getTotal());
+    Mockito.verify(todoRepository, Mockito.times(2)).countTodos();
+  }
+
+  /**
+   * This is the Unit test to verify reconcile is skipped after the
+   * max number of attempts if every count runs concurrently with a write.
+   */
+  @Test
+  public void testReconcileSkippedOnConcurrentWrites() {
+    Mockito.when(todoRepository.countTodos()).thenAnswer(invocation -> {
+      todoStatsService.recordCreated(false);
+      return todoCounts(5, 2);
+    });
+
+    Assertions.assertFalse(todoStatsService.reconcile());
+    Assertions.assertEquals(3, todoStatsService.getStats().getTotal());
+    Mockito.verify(todoRepository, Mockito.times(3)).countTodos();
+  }
+
+  /**
+   * This is the Unit test to verify a write which is committed but not yet
+   * added to counters is not counted twice.
+   */
+  @Test
+  public void testReconcileSkippedWhileWriteCommits() {
+    Mockito.when(todoRepository.countTodos()).thenReturn(todoCounts(1, 0));
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      todoStatsService.recordCreated(false);
+      TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+          synchronization.beforeCommit(false));
+
+      Assertions.assertFalse(todoStatsService.reconcile());
+
+      TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+      TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+          synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    Assertions.assertEquals(1, todoStatsService.getStats().getTotal());
+    Assertions.assertTrue(todoStatsService.reconcile());
+    Assertions.assertEquals(1, todoStatsService.getStats().getTotal());
+  }
+
+  private TodoCounts todoCounts(long total, long completed) {
+    return new TodoCounts() {
+      @Override
+      public long getTotal() {
+        return total;
+      }
+
+      @Override
+      public long getCompleted() {
+        return completed;
+      }
+    };
+  }
+}
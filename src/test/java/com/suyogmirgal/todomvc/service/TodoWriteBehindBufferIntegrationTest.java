@@ -0,0 +1,68 @@
+package com.suyogmirgal.todomvc.service;
+
+import com.suyogmirgal.todomvc.entity.TodoEntity;
+import com.suyogmirgal.todomvc.model.TodoDto;
+import com.suyogmirgal.todomvc.repository.TodoRepository;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * This is integration test class for {@link TodoWriteBehindBuffer}
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@SpringBootTest(properties = {"todo.write-behind.enabled=true", "todo.write-behind.flush-interval-ms=10",
+    "todo.grpc.port=0"})
+public class TodoWriteBehindBufferIntegrationTest {
+
+  @Autowired
+  private TodoService todoService;
+
+  @Autowired
+  private TodoRepository todoRepository;
+
+  @Autowired
+  private TodoWriteBehindBuffer todoWriteBehindBuffer;
+
+  /**
+   * This test verifies todos created through the buffer are written with the
+   * ids they were acknowledged with, and that ids allocated by the buffer do
+   * not collide with ids generated by Hibernate.
+   *
+   * @throws InterruptedException exception thrown if interrupted while waiting for flush.
+   */
+  @Test
+  public void testCreatedTodosAreFlushed() throws InterruptedException {
+    TodoDto todo1 = todoService.createTodo(new TodoDto(0, "Eat breakfast", 1, false, null, null));
+    TodoDto todo2 = todoService.createTodo(new TodoDto(0, "Wash Clothes", 2, true, null, null));
+
+    Assertions.assertNotEquals(todo1.getId(), todo2.getId());
+
+    long deadline = System.currentTimeMillis() + 5000;
+    while (todoWriteBehindBuffer.getPendingCount() > 0 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    Assertions.assertEquals(0, todoWriteBehindBuffer.getPendingCount());
+
+    List<TodoEntity> todoEntityList = todoRepository.findAllById(Arrays.asList(todo1.getId(), todo2.getId()));
+    Assertions.assertEquals(2, todoEntityList.size());
+
+    TodoEntity todoEntity = new TodoEntity();
+    todoEntity.setTitle("Cook Lunch");
+    todoEntity.setOrder(3);
+    todoEntity.setCreatedDate(LocalDateTime.now());
+    todoEntity.setUpdatedDate(LocalDateTime.now());
+    int generatedId = todoRepository.save(todoEntity).getId();
+
+    Set<Integer> ids = new HashSet<>(Arrays.asList(todo1.getId(), todo2.getId(), generatedId));
+    Assertions.assertEquals(3, ids.size());
+  }
+}
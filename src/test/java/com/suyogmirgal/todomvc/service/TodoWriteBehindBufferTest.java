@@ -0,0 +1,101 @@
+package com.suyogmirgal.todomvc.service;
+
+import com.suyogmirgal.todomvc.cache.TodoCache;
+import com.suyogmirgal.todomvc.entity.TodoEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * This is unit test class for {@link TodoWriteBehindBuffer}
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@ExtendWith(MockitoExtension.class)
+public class TodoWriteBehindBufferTest {
+
+  @Mock
+  private TodoIdAllocator todoIdAllocator;
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  @Mock
+  private TodoOutboxService todoOutboxService;
+
+  @Mock
+  private TodoCache todoCache;
+
+  @Mock
+  private TodoSearchIndex todoSearchIndex;
+
+  @Mock
+  private TodoStatsService todoStatsService;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private TodoWriteBehindBuffer todoWriteBehindBuffer;
+
+  @BeforeEach
+  void init() {
+    todoWriteBehindBuffer = new TodoWriteBehindBuffer(todoIdAllocator, jdbcTemplate, todoOutboxService, todoCache,
+        todoSearchIndex, todoStatsService, transactionManager, new SimpleMeterRegistry(), 2, 500, 60000, 10, 3);
+    todoWriteBehindBuffer.start();
+  }
+
+  @AfterEach
+  void destroy() {
+    todoWriteBehindBuffer.stop();
+  }
+
+  /**
+   * This is the Unit test to verify a batch which does not fit in the buffer
+   * is rejected as a whole, so none of its todos is written.
+   */
+  @Test
+  public void testBatchWhichDoesNotFitIsRejectedAsWhole() {
+    Assertions.assertThrows(TodoWriteBehindOverflowException.class, () -> todoWriteBehindBuffer.enqueueAll(
+        Arrays.asList(newTodoEntity("Go to Gym"), newTodoEntity("Eat breakfast"), newTodoEntity("Read book"))));
+
+    Assertions.assertEquals(0, todoWriteBehindBuffer.getPendingCount());
+    Mockito.verifyNoInteractions(todoIdAllocator);
+  }
+
+  /**
+   * This is the Unit test to verify a batch whose ids can not all be allocated is rejected
+   * as a whole and gives its room in the buffer back.
+   */
+  @Test
+  public void testBatchIsRejectedAsWholeIfIdAllocationFails() {
+    Mockito.when(todoIdAllocator.nextId()).thenReturn(1).thenThrow(new IllegalStateException("database is down"))
+        .thenReturn(2, 3);
+
+    Assertions.assertThrows(IllegalStateException.class, () -> todoWriteBehindBuffer.enqueueAll(
+        Arrays.asList(newTodoEntity("Go to Gym"), newTodoEntity("Eat breakfast"))));
+    Assertions.assertEquals(0, todoWriteBehindBuffer.getPendingCount());
+
+    todoWriteBehindBuffer.enqueueAll(Arrays.asList(newTodoEntity("Go to Gym"), newTodoEntity("Eat breakfast")));
+    Assertions.assertEquals(2, todoWriteBehindBuffer.getPendingCount());
+  }
+
+  private TodoEntity newTodoEntity(String title) {
+    TodoEntity todoEntity = new TodoEntity();
+    todoEntity.setTitle(title);
+    todoEntity.setOrder(1);
+    todoEntity.setCreatedDate(LocalDateTime.now());
+    todoEntity.setUpdatedDate(LocalDateTime.now());
+    return todoEntity;
+  }
+}
@@ -0,0 +1,87 @@
+package com.suyogmirgal.todomvc.statistics;
+
+import com.suyogmirgal.todomvc.model.TodoDto;
+import com.suyogmirgal.todomvc.model.TodoQueryStatsDto;
+import com.suyogmirgal.todomvc.service.TodoService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * This is integration test class for {@link TodoHibernateMetrics}, {@link TodoSlowQueryEndpoint}
+ * and {@link TodoTransactionObserver}.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@SpringBootTest(properties = {"todo.grpc.port=0", "todo.hibernate.statistics.enabled=true"})
+public class TodoHibernateStatisticsIntegrationTest {
+
+  @Autowired
+  private TodoService todoService;
+
+  @Autowired
+  private TodoHibernateMetrics todoHibernateMetrics;
+
+  @Autowired
+  private TodoSlowQueryEndpoint todoSlowQueryEndpoint;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  /**
+   * This test verifies entity counts and per query statistics are published.
+   */
+  @Test
+  public void testStatisticsArePublished() {
+    todoService.createTodo(new TodoDto(0, "Go to Gym", 1, false, null, null));
+    todoService.getAllTodos();
+    todoHibernateMetrics.bindQueries();
+
+    Assertions.assertTrue(meterRegistry.get("todo.hibernate.entities").tag("operation", "insert")
+        .functionCounter().count() >= 1);
+    Assertions.assertFalse(meterRegistry.find("todo.hibernate.query.executions").functionCounters().isEmpty());
+
+    @SuppressWarnings("unchecked")
+    List<TodoQueryStatsDto> slowest = (List<TodoQueryStatsDto>) todoSlowQueryEndpoint.slowQueries(1).get("slowest");
+    Assertions.assertEquals(1, slowest.size());
+    Assertions.assertTrue(slowest.get(0).getExecutions() >= 1);
+    Map<String, Object> slowQueries = todoSlowQueryEndpoint.slowQueries(null);
+    Assertions.assertTrue(slowQueries.containsKey("logged"));
+  }
+
+  /**
+   * This test verifies statements and rows of a transaction are recorded under its name.
+   */
+  @Test
+  public void testTransactionIsObserved() {
+    todoService.createTodo(new TodoDto(0, "Eat breakfast", 2, false, null, null));
+
+    String name = TodoService.class.getName() + ".createTodo";
+    DistributionSummary rows = meterRegistry.get("todo.transaction.rows").tag("name", name).summary();
+    Assertions.assertTrue(rows.count() >= 1);
+    Assertions.assertTrue(rows.max() >= 1);
+    Assertions.assertTrue(meterRegistry.get("todo.transaction").tag("name", name).tag("outcome", "committed")
+        .timer().count() >= 1);
+  }
+
+  /**
+   * This test verifies listing todos reads no entities.
+   */
+  @Test
+  public void testListingLoadsNoEntities() {
+    todoService.createTodo(new TodoDto(0, "Read Story book", 3, false, null, null));
+    double loaded = meterRegistry.get("todo.hibernate.entities").tag("operation", "load").functionCounter().count();
+
+    Assertions.assertFalse(todoService.getAllTodos().isEmpty());
+    Assertions.assertFalse(todoService.getAllActiveTodos().isEmpty());
+
+    Assertions.assertEquals(loaded,
+        meterRegistry.get("todo.hibernate.entities").tag("operation", "load").functionCounter().count());
+  }
+}
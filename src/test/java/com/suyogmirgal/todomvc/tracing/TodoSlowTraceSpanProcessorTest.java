@@ -0,0 +1,100 @@
+package com.suyogmirgal.todomvc.tracing;
+
+import com.suyogmirgal.todomvc.config.TodoTracingConfiguration;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This is unit test class for {@link TodoSlowTraceSpanProcessor} and {@link TodoTailSampler}
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+public class TodoSlowTraceSpanProcessorTest {
+
+  private InMemorySpanExporter spanExporter;
+
+  private SdkTracerProvider tracerProvider;
+
+  private Tracer tracer;
+
+  @BeforeEach
+  void init() {
+    spanExporter = InMemorySpanExporter.create();
+    tracerProvider = SdkTracerProvider.builder()
+        .setSampler(new TodoTracingConfiguration().todoSampler(0.0, true))
+        .addSpanProcessor(new TodoSlowTraceSpanProcessor(() -> spanExporter, 50, 10, 10))
+        .build();
+    tracer = tracerProvider.get("todo-test");
+  }
+
+  @AfterEach
+  void destroy() {
+    tracerProvider.shutdown();
+  }
+
+  /**
+   * This is the Unit test to verify fast traces which are not sampled are dropped.
+   */
+  @Test
+  public void testFastTraceIsDropped() {
+    trace(0, false);
+
+    Assertions.assertTrue(exported().isEmpty());
+  }
+
+  /**
+   * This is the Unit test to verify slow traces which are not sampled are exported with all their spans.
+   */
+  @Test
+  public void testSlowTraceIsExported() {
+    trace(TimeUnit.MILLISECONDS.toNanos(100), false);
+
+    List<SpanData> exported = exported();
+    Assertions.assertEquals(2, exported.size());
+    Assertions.assertEquals(exported.get(0).getTraceId(), exported.get(1).getTraceId());
+    Assertions.assertEquals("TodoRepository.findById", exported.get(0).getName());
+    Assertions.assertEquals("http get /todo/{todo-id}", exported.get(1).getName());
+    Assertions.assertFalse(exported.get(1).getSpanContext().isSampled());
+  }
+
+  /**
+   * This is the Unit test to verify failed traces which are not sampled are exported.
+   */
+  @Test
+  public void testFailedTraceIsExported() {
+    trace(0, true);
+
+    Assertions.assertEquals(2, exported().size());
+  }
+
+  private void trace(long durationNanos, boolean failed) {
+    long startNanos = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+    Span root = tracer.spanBuilder("http get /todo/{todo-id}")
+        .setStartTimestamp(startNanos, TimeUnit.NANOSECONDS)
+        .startSpan();
+    try(Scope scope = root.makeCurrent()) {
+      tracer.spanBuilder("TodoRepository.findById").startSpan().end();
+    }
+    if(failed) {
+      root.setStatus(StatusCode.ERROR);
+    }
+    root.end(startNanos + durationNanos, TimeUnit.NANOSECONDS);
+  }
+
+  private List<SpanData> exported() {
+    tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+    return spanExporter.getFinishedSpanItems();
+  }
+}
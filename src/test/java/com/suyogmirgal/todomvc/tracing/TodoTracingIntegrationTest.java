@@ -0,0 +1,105 @@
+package com.suyogmirgal.todomvc.tracing;
+
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * This is integration test class for tracing of the todo APIs, with spans exported to memory.
+ *
+ * @author suyogmirgal
+ * created on 2026/10/19
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = {"todo.grpc.port=0", "management.tracing.sampling.probability=1.0"})
+@AutoConfigureObservability(metrics = false)
+public class TodoTracingIntegrationTest {
+
+  private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private InMemorySpanExporter spanExporter;
+
+  @Autowired
+  private SdkTracerProvider sdkTracerProvider;
+
+  /**
+   * This test verifies a request continues the inbound W3C trace with spans of the controller,
+   * the service, the repository and JDBC, and that SQL is exported without parameter values.
+   *
+   * @throws InterruptedException exception thrown if interrupted while waiting for spans.
+   */
+  @Test
+  public void testRequestIsTraced() throws InterruptedException {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.APPLICATION_JSON);
+    headers.set("traceparent", "00-" + TRACE_ID + "-00f067aa0ba902b7-01");
+    RestTemplate restTemplate = new RestTemplate();
+    restTemplate.setRequestFactory(new HttpComponentsClientHttpRequestFactory());
+    ResponseEntity<String> response = restTemplate.postForEntity("http://localhost:" + port + "/todo",
+        new HttpEntity<>("{ \"title\" : \"Go to Gym\", \"order\" : 1 }", headers), String.class);
+    Assertions.assertEquals(HttpStatus.CREATED, response.getStatusCode());
+
+    List<SpanData> spans = awaitSpans("http post /todo");
+    Assertions.assertTrue(spans.stream().allMatch(span -> span.getTraceId().equals(TRACE_ID)));
+    List<String> names = spans.stream().map(SpanData::getName).collect(Collectors.toList());
+    Assertions.assertTrue(names.contains("todo-service#create-todo"), names.toString());
+    Assertions.assertTrue(names.contains("todo-repository.save"), names.toString());
+
+    List<String> queries = spans.stream()
+        .flatMap(span -> span.getAttributes().asMap().entrySet().stream())
+        .filter(attribute -> attribute.getKey().getKey().startsWith("jdbc.query"))
+        .map(attribute -> String.valueOf(attribute.getValue()))
+        .collect(Collectors.toList());
+    Assertions.assertTrue(queries.stream().anyMatch(query -> query.toLowerCase().startsWith("insert into todo")),
+        queries.toString());
+    Assertions.assertTrue(queries.stream().noneMatch(query -> query.contains("Go to Gym")));
+  }
+
+  private List<SpanData> awaitSpans(String rootName) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    while (System.currentTimeMillis() < deadline) {
+      sdkTracerProvider.forceFlush().join(1, TimeUnit.SECONDS);
+      List<SpanData> spans = spanExporter.getFinishedSpanItems().stream()
+          .filter(span -> span.getTraceId().equals(TRACE_ID))
+          .collect(Collectors.toList());
+      if(spans.stream().anyMatch(span -> span.getName().equals(rootName))) {
+        return spans;
+      }
+      Thread.sleep(10);
+    }
+    Assertions.fail("Span " + rootName + " was not exported");
+    return List.of();
+  }
+
+  @TestConfiguration
+  static class InMemoryExporterConfiguration {
+
+    @Bean
+    InMemorySpanExporter inMemorySpanExporter() {
+      return InMemorySpanExporter.create();
+    }
+  }
+}